@@ -0,0 +1,33 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark uber-jar.
+ * <p>
+ * Accepts the regular JMH command line and always attaches the {@link GCProfiler}, so every
+ * run reports allocation rate and bytes per operation ({@code gc.alloc.rate.norm}) next to
+ * throughput. Example: {@code java -jar target/benchmarks.jar BulkCopy -p size=1000}.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
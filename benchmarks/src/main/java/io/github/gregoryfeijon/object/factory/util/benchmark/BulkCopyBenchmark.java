@@ -0,0 +1,74 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark;
+
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.util.TestObjectsFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@code copyAllObjectsFromCollection} for growing collection sizes.
+ * <p>
+ * One operation is a whole bulk copy; divide {@code gc.alloc.rate.norm} by {@code size}
+ * to obtain the bytes allocated per element.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BulkCopyBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<PrimitiveFoo> primitiveFoos;
+    private List<ObjectFoo> objectFoos;
+
+    @Setup
+    public void setUp() {
+        SerializerProvider.initializeIfEmpty();
+        primitiveFoos = new ArrayList<>(size);
+        objectFoos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            primitiveFoos.add(TestObjectsFactory.createPrimitiveFoo());
+            objectFoos.add(TestObjectsFactory.createObjectFoo());
+        }
+    }
+
+    @Benchmark
+    public List<PrimitiveFoo> primitiveFooSameType() {
+        return ObjectFactoryUtil.copyAllObjectsFromCollection(primitiveFoos);
+    }
+
+    @Benchmark
+    public List<PrimitiveBar> primitiveFooToPrimitiveBar() {
+        return ObjectFactoryUtil.copyAllObjectsFromCollection(primitiveFoos, PrimitiveBar.class);
+    }
+
+    @Benchmark
+    public List<ObjectBar> objectFooToObjectBar() {
+        return ObjectFactoryUtil.copyAllObjectsFromCollection(objectFoos, ObjectBar.class);
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark;
+
+import io.github.gregoryfeijon.object.factory.util.domain.BarWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.util.TestObjectsFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the very first copy of a class pair in a fresh JVM.
+ * <p>
+ * Each fork measures a single invocation without warm-up, so the result includes class
+ * initialization of the engine, copy plan compilation and interpreted execution.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ColdCopyBenchmark {
+
+    private FooWrapper fooWrapper;
+
+    @Setup
+    public void setUp() {
+        SerializerProvider.initializeIfEmpty();
+        fooWrapper = TestObjectsFactory.createFooWrapper();
+    }
+
+    @Benchmark
+    public BarWrapper firstFooWrapperCopy() {
+        return ObjectFactoryUtil.createFromObject(fooWrapper, BarWrapper.class);
+    }
+}
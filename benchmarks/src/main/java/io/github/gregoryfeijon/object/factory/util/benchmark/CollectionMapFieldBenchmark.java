@@ -0,0 +1,75 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark;
+
+import io.github.gregoryfeijon.object.factory.util.benchmark.domain.CatalogDest;
+import io.github.gregoryfeijon.object.factory.util.benchmark.domain.CatalogSource;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.util.TestObjectsFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of copying objects whose cost is dominated by collection and map fields.
+ *
+ * @author gregory.feijon
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class CollectionMapFieldBenchmark {
+
+    @Param({"10", "1000"})
+    private int elements;
+
+    private CatalogSource catalogSource;
+
+    @Setup
+    public void setUp() {
+        SerializerProvider.initializeIfEmpty();
+        List<PrimitiveFoo> items = new ArrayList<>(elements);
+        Set<String> tags = new HashSet<>();
+        Map<String, ObjectFoo> index = new HashMap<>();
+        for (int i = 0; i < elements; i++) {
+            items.add(TestObjectsFactory.createPrimitiveFoo());
+            tags.add("tag-" + i);
+            index.put("key-" + i, TestObjectsFactory.createObjectFoo());
+        }
+        catalogSource = CatalogSource.builder()
+                .items(items)
+                .tags(tags)
+                .index(index)
+                .build();
+    }
+
+    @Benchmark
+    public CatalogDest collectionAndMapFields() {
+        return ObjectFactoryUtil.createFromObject(catalogSource, CatalogDest.class);
+    }
+
+    @Benchmark
+    public CatalogSource collectionAndMapFieldsSameType() {
+        return ObjectFactoryUtil.createFromObject(catalogSource);
+    }
+}
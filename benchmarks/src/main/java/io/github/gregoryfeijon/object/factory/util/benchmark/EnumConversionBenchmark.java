@@ -0,0 +1,55 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark;
+
+import io.github.gregoryfeijon.object.factory.util.benchmark.domain.EnumDest;
+import io.github.gregoryfeijon.object.factory.util.benchmark.domain.EnumSource;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.StatusTestSource;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of enum conversions: enum to enum by name, string to enum and enum to string.
+ *
+ * @author gregory.feijon
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class EnumConversionBenchmark {
+
+    private EnumSource enumSource;
+
+    @Setup
+    public void setUp() {
+        SerializerProvider.initializeIfEmpty();
+        enumSource = EnumSource.builder()
+                .status(StatusTestSource.ACTIVE)
+                .statusName("INACTIVE")
+                .statusAsString(StatusTestSource.ACTIVE)
+                .build();
+    }
+
+    @Benchmark
+    public EnumDest enumConversions() {
+        return ObjectFactoryUtil.createFromObject(enumSource, EnumDest.class);
+    }
+
+    @Benchmark
+    public EnumSource enumSameType() {
+        return ObjectFactoryUtil.createFromObject(enumSource);
+    }
+}
@@ -0,0 +1,223 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark;
+
+import io.github.gregoryfeijon.object.factory.util.benchmark.domain.Account;
+import io.github.gregoryfeijon.object.factory.util.benchmark.domain.OrderLineItem;
+import io.github.gregoryfeijon.object.factory.util.benchmark.domain.PurchaseOrder;
+import io.github.gregoryfeijon.object.factory.util.benchmark.domain.PurchaseOrderDto;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerProvider;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency of copying JPA entity graphs loaded by Hibernate from an in-memory H2 database into DTOs.
+ * <p>
+ * Orders hold a lazy {@code @ManyToOne} account, a bidirectional {@code @OneToMany} bag of line
+ * items and an element collection of tags. They are loaded once per iteration, either with plain
+ * lazy associations or with every association fetch-joined, and copied while their session is
+ * still open or after it was closed. The {@code statements} counter reports the SQL statements
+ * issued by the copies themselves, summed over the iteration; any value other than {@code 0}
+ * means a copy initialized a lazy association.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Threads(1)
+public class HibernateCopyBenchmark {
+
+    private static final int ITEMS_PER_ORDER = 10;
+    private static final int ORDERS_PER_ACCOUNT = 5;
+
+    @Param({"100", "1000"})
+    private int orders;
+
+    @Param({"LAZY", "FETCH_JOIN"})
+    private Loading loading;
+
+    @Param({"DETACHED", "OPEN_SESSION"})
+    private SessionMode sessionMode;
+
+    private final StatementCounter statementCounter = new StatementCounter();
+    private SessionFactory sessionFactory;
+    private Session session;
+    private List<PurchaseOrder> loadedOrders;
+
+    /**
+     * How the orders are loaded.
+     */
+    public enum Loading {
+
+        /**
+         * Associations left as uninitialized proxies and persistent collections.
+         */
+        LAZY("select o from PurchaseOrder o order by o.id"),
+
+        /**
+         * Account, line items and tags fetch-joined, so the whole graph is initialized.
+         */
+        FETCH_JOIN("select distinct o from PurchaseOrder o join fetch o.account left join fetch o.items "
+                + "left join fetch o.tags order by o.id");
+
+        private final String query;
+
+        Loading(String query) {
+            this.query = query;
+        }
+    }
+
+    /**
+     * Whether the orders are copied inside or outside the session that loaded them.
+     */
+    public enum SessionMode {
+        DETACHED,
+        OPEN_SESSION
+    }
+
+    /**
+     * SQL statements issued while copying, reported next to the latency of each benchmark.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SqlStatements {
+
+        public long statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SerializerProvider.initializeIfEmpty();
+        sessionFactory = new Configuration()
+                .addAnnotatedClasses(Account.class, PurchaseOrder.class, OrderLineItem.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:object-factory;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setStatementInspector(statementCounter)
+                .buildSessionFactory();
+        sessionFactory.inTransaction(this::populate);
+    }
+
+    @Setup(Level.Iteration)
+    public void load() {
+        session = sessionFactory.openSession();
+        loadedOrders = session.createSelectionQuery(loading.query, PurchaseOrder.class).getResultList();
+        if (sessionMode == SessionMode.DETACHED) {
+            closeSession();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeSession() {
+        if (session != null) {
+            session.close();
+            session = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public PurchaseOrderDto createFromObject(SqlStatements sql) {
+        long before = statementCounter.count();
+        PurchaseOrderDto copy = ObjectFactoryUtil.createFromObject(loadedOrders.getFirst(), PurchaseOrderDto.class);
+        sql.statements += statementCounter.count() - before;
+        return copy;
+    }
+
+    @Benchmark
+    public List<PurchaseOrderDto> copyAllObjectsFromCollection(SqlStatements sql) {
+        long before = statementCounter.count();
+        List<PurchaseOrderDto> copies = ObjectFactoryUtil.copyAllObjectsFromCollection(loadedOrders,
+                PurchaseOrderDto.class);
+        sql.statements += statementCounter.count() - before;
+        return copies;
+    }
+
+    private void populate(Session newSession) {
+        Account account = null;
+        for (long orderId = 1; orderId <= orders; orderId++) {
+            if (orderId % ORDERS_PER_ACCOUNT == 1) {
+                account = new Account();
+                account.setId(orderId / ORDERS_PER_ACCOUNT + 1);
+                account.setName("account-" + account.getId());
+                account.setEmail("account-" + account.getId() + "@example.com");
+                newSession.persist(account);
+            }
+            PurchaseOrder order = new PurchaseOrder();
+            order.setId(orderId);
+            order.setNumber("PO-" + orderId);
+            order.setOrderedOn(LocalDate.of(2024, 1, 1).plusDays(orderId % 365));
+            order.setAccount(account);
+            order.getTags().add(orderId % 2 == 0 ? "even" : "odd");
+            order.getTags().add("batch-" + orderId % 10);
+            BigDecimal total = BigDecimal.ZERO;
+            for (int line = 0; line < ITEMS_PER_ORDER; line++) {
+                OrderLineItem item = new OrderLineItem();
+                item.setId(orderId * ITEMS_PER_ORDER + line);
+                item.setSku("SKU-" + line);
+                item.setQuantity(line + 1);
+                item.setUnitPrice(BigDecimal.valueOf(line + 1, 1));
+                item.setOrder(order);
+                order.getItems().add(item);
+                total = total.add(item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
+            }
+            order.setTotal(total);
+            newSession.persist(order);
+        }
+    }
+
+    /**
+     * Counts the SQL statements prepared by every session of the factory.
+     */
+    private static final class StatementCounter implements StatementInspector {
+
+        private final LongAdder statements = new LongAdder();
+
+        @Override
+        public String inspect(String sql) {
+            statements.increment();
+            return sql;
+        }
+
+        private long count() {
+            return statements.sum();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark;
+
+import io.github.gregoryfeijon.object.factory.util.domain.BarWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.util.TestObjectsFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state throughput of single-object copies for the reference class pairs of the test suite.
+ *
+ * @author gregory.feijon
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SingleObjectCopyBenchmark {
+
+    private PrimitiveFoo primitiveFoo;
+    private ObjectFoo objectFoo;
+    private FooWrapper fooWrapper;
+
+    @Setup
+    public void setUp() {
+        SerializerProvider.initializeIfEmpty();
+        primitiveFoo = TestObjectsFactory.createPrimitiveFoo();
+        objectFoo = TestObjectsFactory.createObjectFoo();
+        fooWrapper = TestObjectsFactory.createFooWrapper();
+    }
+
+    @Benchmark
+    public PrimitiveBar primitiveFooToPrimitiveBar() {
+        return ObjectFactoryUtil.createFromObject(primitiveFoo, PrimitiveBar.class);
+    }
+
+    @Benchmark
+    public PrimitiveFoo primitiveFooSameType() {
+        return ObjectFactoryUtil.createFromObject(primitiveFoo);
+    }
+
+    @Benchmark
+    public ObjectBar objectFooToObjectBar() {
+        return ObjectFactoryUtil.createFromObject(objectFoo, ObjectBar.class);
+    }
+
+    @Benchmark
+    public BarWrapper fooWrapperToBarWrapper() {
+        return ObjectFactoryUtil.createFromObject(fooWrapper, BarWrapper.class);
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class AccountDto {
+
+    private Long id;
+    private String name;
+    private String email;
+}
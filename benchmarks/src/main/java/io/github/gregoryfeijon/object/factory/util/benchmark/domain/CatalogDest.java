@@ -0,0 +1,25 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark.domain;
+
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogDest {
+
+    private List<PrimitiveBar> items;
+    private Set<String> tags;
+    private Map<String, ObjectBar> index;
+}
@@ -0,0 +1,25 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark.domain;
+
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogSource {
+
+    private List<PrimitiveFoo> items;
+    private Set<String> tags;
+    private Map<String, ObjectFoo> index;
+}
@@ -0,0 +1,20 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark.domain;
+
+import io.github.gregoryfeijon.object.factory.util.domain.enums.StatusTestDest;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnumDest {
+
+    private StatusTestDest status;
+    private StatusTestDest statusName;
+    private String statusAsString;
+}
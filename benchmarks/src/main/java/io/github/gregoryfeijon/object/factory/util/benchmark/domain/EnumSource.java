@@ -0,0 +1,20 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark.domain;
+
+import io.github.gregoryfeijon.object.factory.util.domain.enums.StatusTestSource;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnumSource {
+
+    private StatusTestSource status;
+    private String statusName;
+    private StatusTestSource statusAsString;
+}
@@ -0,0 +1,29 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "order_line_item")
+public class OrderLineItem {
+
+    @Id
+    private Long id;
+    private String sku;
+    private int quantity;
+    private BigDecimal unitPrice;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private PurchaseOrder order;
+}
@@ -0,0 +1,18 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class OrderLineItemDto {
+
+    private Long id;
+    private String sku;
+    private int quantity;
+    private BigDecimal unitPrice;
+}
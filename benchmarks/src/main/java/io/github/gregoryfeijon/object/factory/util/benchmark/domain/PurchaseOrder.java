@@ -0,0 +1,45 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark.domain;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "purchase_order")
+public class PurchaseOrder {
+
+    @Id
+    private Long id;
+    private String number;
+    private BigDecimal total;
+    private LocalDate orderedOn;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Account account;
+
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
+    private List<OrderLineItem> items = new ArrayList<>();
+
+    @ElementCollection
+    @CollectionTable(name = "purchase_order_tag")
+    private Set<String> tags = new HashSet<>();
+}
@@ -0,0 +1,24 @@
+package io.github.gregoryfeijon.object.factory.util.benchmark.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PurchaseOrderDto {
+
+    private Long id;
+    private String number;
+    private BigDecimal total;
+    private LocalDate orderedOn;
+    private AccountDto account;
+    private List<OrderLineItemDto> items;
+    private Set<String> tags;
+}
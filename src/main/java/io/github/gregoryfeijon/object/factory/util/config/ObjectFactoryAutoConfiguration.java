@@ -0,0 +1,177 @@
+package io.github.gregoryfeijon.object.factory.util.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.google.gson.Gson;
+import io.github.gregoryfeijon.object.factory.util.domain.properties.ObjectFactoryProperties;
+import io.github.gregoryfeijon.object.factory.util.metrics.CopyMetrics;
+import io.github.gregoryfeijon.object.factory.util.metrics.SlowPathDetector;
+import io.github.gregoryfeijon.object.factory.util.strategy.CopyStrategy;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.GsonTreeCopier;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.JacksonTokenBufferCopier;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.JsonFallbackCopier;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerAdapter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Core auto-configuration of the copy engine.
+ * <p>
+ * Defines an {@link ObjectFactory} bean tuned by the {@code object-factory} properties (cache
+ * limits, parallel thresholds, maximum copy depth and lazy load policy), using the application's
+ * {@link SerializerAdapter} and {@link CopyMetrics} beans when unique and the {@link Executor}
+ * bean named {@code objectFactoryExecutor} for parallel copies, if any. With
+ * {@code object-factory.json-fallback} set to {@code jackson} or {@code gson}, values copied
+ * through JSON are streamed by a {@link JsonFallbackCopier} built on the application's
+ * {@link ObjectMapper} or {@link Gson}.
+ * </p>
+ * <p>
+ * Once all singletons have been created, every {@link CopyStrategy} bean is registered on the
+ * engine, in addition to the strategies discovered through {@link java.util.ServiceLoader}, the
+ * application's {@link ConversionService} is bridged for field type conversions and its
+ * {@link CopyMetrics} instrument the engine when exactly one is defined, and the engine becomes the
+ * default behind {@link ObjectFactoryUtil}.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@AutoConfiguration(after = ObjectFactoryMetricsAutoConfiguration.class)
+@EnableConfigurationProperties(ObjectFactoryProperties.class)
+public class ObjectFactoryAutoConfiguration {
+
+    /**
+     * Name of the optional {@link Executor} bean running parallel copies.
+     */
+    public static final String EXECUTOR_BEAN_NAME = "objectFactoryExecutor";
+
+    /**
+     * Creates the copy engine from the object factory properties.
+     *
+     * @param properties  the object factory properties
+     * @param serializers the serializer adapter beans
+     * @param copiers     the JSON fallback copier beans
+     * @param metrics     the copy metrics beans
+     * @param executor    the executor running parallel copies
+     * @return the copy engine
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ObjectFactory objectFactory(ObjectFactoryProperties properties,
+                                       ObjectProvider<SerializerAdapter> serializers,
+                                       ObjectProvider<JsonFallbackCopier> copiers,
+                                       ObjectProvider<CopyMetrics> metrics,
+                                       @Qualifier(EXECUTOR_BEAN_NAME) ObjectProvider<Executor> executor) {
+        return ObjectFactory.builder()
+                .serializer(serializers.getIfUnique())
+                .jsonFallbackCopier(copiers.getIfUnique())
+                .metrics(metrics.getIfUnique())
+                .lazyLoadPolicy(properties.getLazyLoadPolicy())
+                .maxDepth(properties.getMaxDepth())
+                .maxCopyPlans(properties.getCache().getMaxCopyPlans())
+                .maxClassMetadata(properties.getCache().getMaxClassMetadata())
+                .awaitPendingPlans(properties.getCache().isAwaitPendingPlans())
+                .fieldParallelThreshold(properties.getParallel().getFieldThreshold())
+                .bulkParallelThreshold(properties.getParallel().getBulkThreshold())
+                .parallelism(properties.getParallel().getParallelism())
+                .forkThreshold(properties.getParallel().getForkThreshold())
+                .executor(executor.getIfAvailable())
+                .spillHeapBudget(properties.getSpill().getHeapBudget().toBytes())
+                .spillDirectory(properties.getSpill().getDirectory())
+                .slowPathDetector(slowPathDetector(properties.getSlowPath()))
+                .build();
+    }
+
+    /**
+     * Creates the slow path detector configured by the {@code object-factory.slow-path} properties.
+     *
+     * @param slowPath the slow path detection settings
+     * @return the detector, or {@code null} when slow path detection is disabled
+     */
+    private static SlowPathDetector slowPathDetector(ObjectFactoryProperties.SlowPath slowPath) {
+        if (!slowPath.isEnabled()) {
+            return null;
+        }
+        return SlowPathDetector.builder()
+                .sampleRate(slowPath.getSampleRate())
+                .logInterval(slowPath.getLogInterval())
+                .maxEntries(slowPath.getMaxEntries())
+                .build();
+    }
+
+    /**
+     * Completes the unique {@link ObjectFactory} bean and installs it as the default engine once
+     * all singletons have been created.
+     *
+     * @param objectFactories    the object factory beans
+     * @param copyStrategies     the copy strategy beans, in precedence order
+     * @param conversionServices the conversion service beans
+     * @param copyMetrics        the copy metrics beans
+     * @return the installer, which restores the previous default engine when the context is closed
+     */
+    @Bean
+    public static ObjectFactoryDefaultInstaller objectFactoryDefaultInstaller(ObjectProvider<ObjectFactory> objectFactories,
+                                                                              ObjectProvider<CopyStrategy> copyStrategies,
+                                                                              ObjectProvider<ConversionService> conversionServices,
+                                                                              ObjectProvider<CopyMetrics> copyMetrics) {
+        return new ObjectFactoryDefaultInstaller(objectFactories, copyStrategies, conversionServices, copyMetrics);
+    }
+
+    /**
+     * Streams JSON fallback copies through a Jackson token buffer.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(ObjectMapper.class)
+    @ConditionalOnProperty(prefix = "object-factory", name = "json-fallback", havingValue = "jackson")
+    static class JacksonJsonFallbackConfiguration {
+
+        /**
+         * Creates the copier from the application's unique {@link ObjectMapper}, or otherwise from a
+         * mapper with the registered modules that ignores unknown properties, like Spring Boot's.
+         *
+         * @param objectMappers the object mapper beans
+         * @return the JSON fallback copier
+         */
+        @Bean
+        @ConditionalOnMissingBean(JsonFallbackCopier.class)
+        public JacksonTokenBufferCopier objectFactoryJsonFallbackCopier(ObjectProvider<ObjectMapper> objectMappers) {
+            return new JacksonTokenBufferCopier(objectMappers.getIfUnique(() -> JsonMapper.builder()
+                    .findAndAddModules()
+                    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .build()));
+        }
+    }
+
+    /**
+     * Streams JSON fallback copies through a Gson element tree.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Gson.class)
+    @ConditionalOnProperty(prefix = "object-factory", name = "json-fallback", havingValue = "gson")
+    static class GsonJsonFallbackConfiguration {
+
+        /**
+         * Creates the copier from the application's unique {@link Gson}, or a default one.
+         *
+         * @param gsons the Gson beans
+         * @return the JSON fallback copier
+         */
+        @Bean
+        @ConditionalOnMissingBean(JsonFallbackCopier.class)
+        public GsonTreeCopier objectFactoryJsonFallbackCopier(ObjectProvider<Gson> gsons) {
+            return new GsonTreeCopier(gsons.getIfUnique(Gson::new));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.gregoryfeijon.object.factory.util.config;
+
+import io.github.gregoryfeijon.object.factory.util.metrics.CopyMetrics;
+import io.github.gregoryfeijon.object.factory.util.strategy.CopyStrategy;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.convert.ConversionService;
+
+/**
+ * Registers the {@link CopyStrategy} beans, the unique {@link ConversionService} bean and the
+ * unique {@link CopyMetrics} bean on the application's {@link ObjectFactory}, then installs it as
+ * the default engine behind {@link ObjectFactoryUtil}.
+ * <p>
+ * Nothing is installed unless exactly one {@link ObjectFactory} bean exists. The previous default
+ * engine is restored when the application context is closed.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@RequiredArgsConstructor
+public class ObjectFactoryDefaultInstaller implements SmartInitializingSingleton, DisposableBean {
+
+    private final ObjectProvider<ObjectFactory> objectFactories;
+    private final ObjectProvider<CopyStrategy> copyStrategies;
+    private final ObjectProvider<ConversionService> conversionServices;
+    private final ObjectProvider<CopyMetrics> copyMetrics;
+
+    private ObjectFactory installed;
+    private ObjectFactory previous;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        objectFactories.ifUnique(objectFactory -> {
+            copyStrategies.orderedStream().forEach(objectFactory::registerCopyStrategy);
+            conversionServices.ifUnique(objectFactory::setConversionService);
+            copyMetrics.ifUnique(objectFactory::setMetrics);
+            previous = ObjectFactoryUtil.getDefault();
+            installed = objectFactory;
+            ObjectFactoryUtil.setDefault(objectFactory);
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (installed != null && ObjectFactoryUtil.getDefault() == installed) {
+            ObjectFactoryUtil.setDefault(previous);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.gregoryfeijon.object.factory.util.config;
+
+import io.github.gregoryfeijon.object.factory.util.metrics.ObjectFactoryEndpoint;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Auto-configuration of the {@link ObjectFactoryEndpoint} Actuator endpoint.
+ * <p>
+ * Only activates when Spring Boot Actuator is on the classpath, the endpoint is enabled and
+ * exposed, and a unique {@link ObjectFactory} bean exists.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@AutoConfiguration(after = ObjectFactoryAutoConfiguration.class)
+@ConditionalOnClass(Endpoint.class)
+@ConditionalOnAvailableEndpoint(endpoint = ObjectFactoryEndpoint.class)
+public class ObjectFactoryEndpointAutoConfiguration {
+
+    /**
+     * Creates the endpoint inspecting the application's copy engine.
+     *
+     * @param objectFactory the copy engine
+     * @return the endpoint
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnSingleCandidate(ObjectFactory.class)
+    public ObjectFactoryEndpoint objectFactoryEndpoint(ObjectFactory objectFactory) {
+        return new ObjectFactoryEndpoint(objectFactory);
+    }
+}
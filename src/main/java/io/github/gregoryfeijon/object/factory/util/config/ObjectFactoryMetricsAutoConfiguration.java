@@ -0,0 +1,51 @@
+package io.github.gregoryfeijon.object.factory.util.config;
+
+import io.github.gregoryfeijon.object.factory.util.domain.properties.ObjectFactoryProperties;
+import io.github.gregoryfeijon.object.factory.util.metrics.CopyMetrics;
+import io.github.gregoryfeijon.object.factory.util.metrics.MicrometerCopyMetrics;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Auto-configuration that instruments the copy engine with Micrometer.
+ * <p>
+ * Only activates when Micrometer is on the classpath and a {@link MeterRegistry} bean exists.
+ * Otherwise the copy engine keeps its no-op metrics and pays no instrumentation cost. The recorder
+ * is handed to the application's {@code ObjectFactory} bean, which becomes the default engine
+ * behind {@link ObjectFactoryUtil} only for the lifetime of the application context.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@AutoConfiguration(afterName = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration"
+})
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "object-factory.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ObjectFactoryProperties.class)
+public class ObjectFactoryMetricsAutoConfiguration {
+
+    /**
+     * Creates the Micrometer recorder used by the application's {@code ObjectFactory} bean, unless
+     * the application defines its own {@link CopyMetrics}.
+     *
+     * @param meterRegistry the application meter registry
+     * @param properties    the object factory properties
+     * @return the registered metrics recorder
+     */
+    @Bean
+    @ConditionalOnMissingBean(CopyMetrics.class)
+    public MicrometerCopyMetrics objectFactoryCopyMetrics(MeterRegistry meterRegistry,
+                                                          ObjectFactoryProperties properties) {
+        return new MicrometerCopyMetrics(meterRegistry, properties.getMetrics().getMaxClassPairTags());
+    }
+}
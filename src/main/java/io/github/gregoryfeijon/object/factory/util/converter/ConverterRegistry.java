@@ -0,0 +1,296 @@
+package io.github.gregoryfeijon.object.factory.util.converter;
+
+import io.github.gregoryfeijon.object.factory.util.domain.model.ClassPairKey;
+import org.apache.commons.lang3.ClassUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.util.NumberUtils;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.isClassMapCollection;
+
+/**
+ * Registry of {@link TypeConverter}s used to copy values between fields of different types.
+ * <p>
+ * Resolution order for a (source, destination) type pair:
+ * </p>
+ * <ol>
+ *   <li>Converters registered through {@link #register(Class, Class, Function)}</li>
+ *   <li>Numeric widening and narrowing between {@link Number} types, following Java cast semantics</li>
+ *   <li>{@link String} to number and date/time types, and number to {@link String}</li>
+ *   <li>Conversions between {@link Date}, {@link Instant} and {@link LocalDateTime}</li>
+ *   <li>{@link Collection} to array, converting elements when needed</li>
+ *   <li>The bridged Spring {@link ConversionService}, if any</li>
+ * </ol>
+ * <p>
+ * Collection and map types are only converted into arrays; conversions between different
+ * collection types are left to the copy engine. Resolutions are memoized per type pair.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public class ConverterRegistry {
+
+    private static final TypeConverter NO_CONVERTER = value -> value;
+
+    private static final Set<Class<?>> NUMBER_TYPES = Set.of(Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class);
+
+    private static final Set<Class<?>> TEMPORAL_TYPES = Set.of(Date.class, Instant.class, LocalDateTime.class);
+
+    private static final Set<Class<?>> PARSEABLE_TEMPORAL_TYPES = Set.of(Date.class, Instant.class, LocalDateTime.class,
+            LocalDate.class, LocalTime.class, OffsetDateTime.class, ZonedDateTime.class);
+
+    private final Map<ClassPairKey, TypeConverter> registeredConverters = new ConcurrentHashMap<>();
+    private final Map<ClassPairKey, TypeConverter> resolvedConverters = new ConcurrentHashMap<>();
+    private final UnaryOperator<Object> elementCopier;
+    private final ZoneId zoneId;
+    private volatile ConversionService conversionService;
+
+    /**
+     * Creates a registry using the system default time zone for local date/time conversions.
+     *
+     * @param elementCopier function producing an independent copy of a collection element
+     *                      placed into an array, unless the conversion is given its own, see
+     *                      {@link TypeConverter#convert(Object, UnaryOperator)}
+     */
+    public ConverterRegistry(UnaryOperator<Object> elementCopier) {
+        this(elementCopier, ZoneId.systemDefault());
+    }
+
+    /**
+     * Creates a registry.
+     *
+     * @param elementCopier function producing an independent copy of a collection element
+     *                      placed into an array, unless the conversion is given its own, see
+     *                      {@link TypeConverter#convert(Object, UnaryOperator)}
+     * @param zoneId        the time zone used to convert between instants and local date/times
+     */
+    public ConverterRegistry(UnaryOperator<Object> elementCopier, ZoneId zoneId) {
+        this.elementCopier = elementCopier;
+        this.zoneId = zoneId;
+    }
+
+    /**
+     * Registers a converter for an exact (source, destination) type pair, taking precedence
+     * over the built-in conversions.
+     *
+     * @param <S>        the source type
+     * @param <T>        the destination type
+     * @param sourceType the source field type
+     * @param targetType the destination field type
+     * @param converter  the conversion function
+     */
+    @SuppressWarnings("unchecked")
+    public <S, T> void register(Class<S> sourceType, Class<T> targetType, Function<? super S, ? extends T> converter) {
+        ClassPairKey key = new ClassPairKey(ClassUtils.primitiveToWrapper(sourceType), ClassUtils.primitiveToWrapper(targetType));
+        registeredConverters.put(key, value -> converter.apply((S) value));
+        resolvedConverters.clear();
+    }
+
+    /**
+     * Sets the Spring {@link ConversionService} consulted when no built-in conversion applies.
+     *
+     * @param conversionService the conversion service, or {@code null} to disable the bridge
+     */
+    public void setConversionService(ConversionService conversionService) {
+        this.conversionService = conversionService;
+        resolvedConverters.clear();
+    }
+
+    /**
+     * Resolves the converter for a (source, destination) type pair.
+     *
+     * @param sourceType the source field type
+     * @param targetType the destination field type
+     * @return the converter, or {@code null} if the types cannot be converted
+     */
+    public TypeConverter resolve(Class<?> sourceType, Class<?> targetType) {
+        ClassPairKey key = new ClassPairKey(ClassUtils.primitiveToWrapper(sourceType), ClassUtils.primitiveToWrapper(targetType));
+        TypeConverter converter = resolvedConverters.computeIfAbsent(key, this::createConverter);
+        return converter == NO_CONVERTER ? null : converter;
+    }
+
+    private TypeConverter createConverter(ClassPairKey key) {
+        Class<?> source = key.sourceClass();
+        Class<?> target = key.destClass();
+
+        TypeConverter registered = registeredConverters.get(key);
+        if (registered != null) {
+            return registered;
+        }
+        if (Collection.class.isAssignableFrom(source) && target.isArray()) {
+            return arrayConverter(target.getComponentType());
+        }
+        if (isClassMapCollection(source) || isClassMapCollection(target)) {
+            return NO_CONVERTER;
+        }
+        if (NUMBER_TYPES.contains(target) && Number.class.isAssignableFrom(source)) {
+            return value -> convertNumber((Number) value, target);
+        }
+        if (source == String.class) {
+            TypeConverter fromString = fromString(target);
+            if (fromString != null) {
+                return fromString;
+            }
+        }
+        if (target == String.class && Number.class.isAssignableFrom(source)) {
+            return Object::toString;
+        }
+        if (TEMPORAL_TYPES.contains(target) && isTemporalSource(source)) {
+            return value -> fromInstant(toInstant(value), target);
+        }
+        ConversionService service = conversionService;
+        if (service != null && service.canConvert(source, target)) {
+            return value -> service.convert(value, target);
+        }
+        return NO_CONVERTER;
+    }
+
+    private TypeConverter arrayConverter(Class<?> componentType) {
+        return new TypeConverter() {
+
+            @Override
+            public Object convert(Object value) {
+                return convert(value, elementCopier);
+            }
+
+            @Override
+            public Object convert(Object value, UnaryOperator<Object> copier) {
+                return toArray((Collection<?>) value, componentType, copier);
+            }
+        };
+    }
+
+    private TypeConverter fromString(Class<?> target) {
+        if (NUMBER_TYPES.contains(target)) {
+            return value -> NumberUtils.parseNumber(((String) value).trim(), target.asSubclass(Number.class));
+        }
+        if (PARSEABLE_TEMPORAL_TYPES.contains(target)) {
+            return value -> parseTemporal(((String) value).trim(), target);
+        }
+        return null;
+    }
+
+    private Object parseTemporal(String text, Class<?> target) {
+        if (target == Date.class) {
+            return Date.from(Instant.parse(text));
+        }
+        if (target == Instant.class) {
+            return Instant.parse(text);
+        }
+        if (target == LocalDateTime.class) {
+            return LocalDateTime.parse(text);
+        }
+        if (target == LocalDate.class) {
+            return LocalDate.parse(text);
+        }
+        if (target == LocalTime.class) {
+            return LocalTime.parse(text);
+        }
+        if (target == OffsetDateTime.class) {
+            return OffsetDateTime.parse(text);
+        }
+        return ZonedDateTime.parse(text);
+    }
+
+    private static boolean isTemporalSource(Class<?> source) {
+        return Date.class.isAssignableFrom(source) || source == Instant.class || source == LocalDateTime.class;
+    }
+
+    private Instant toInstant(Object value) {
+        if (value instanceof Date date) {
+            return Instant.ofEpochMilli(date.getTime());
+        }
+        if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime.atZone(zoneId).toInstant();
+        }
+        return (Instant) value;
+    }
+
+    private Object fromInstant(Instant instant, Class<?> target) {
+        if (target == Date.class) {
+            return Date.from(instant);
+        }
+        if (target == LocalDateTime.class) {
+            return LocalDateTime.ofInstant(instant, zoneId);
+        }
+        return instant;
+    }
+
+    private static Object convertNumber(Number value, Class<?> target) {
+        if (target == Integer.class) {
+            return value.intValue();
+        }
+        if (target == Long.class) {
+            return value.longValue();
+        }
+        if (target == Double.class) {
+            return value.doubleValue();
+        }
+        if (target == Float.class) {
+            return value.floatValue();
+        }
+        if (target == Short.class) {
+            return value.shortValue();
+        }
+        if (target == Byte.class) {
+            return value.byteValue();
+        }
+        if (target == BigDecimal.class) {
+            return value instanceof Double || value instanceof Float
+                    ? BigDecimal.valueOf(value.doubleValue())
+                    : new BigDecimal(value.toString());
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toBigInteger();
+        }
+        if (value instanceof BigInteger) {
+            return value;
+        }
+        return value instanceof Double || value instanceof Float
+                ? BigDecimal.valueOf(value.doubleValue()).toBigInteger()
+                : BigInteger.valueOf(value.longValue());
+    }
+
+    private Object toArray(Collection<?> collection, Class<?> componentType, UnaryOperator<Object> copier) {
+        Object array = Array.newInstance(componentType, collection.size());
+        Class<?> boxedComponentType = ClassUtils.primitiveToWrapper(componentType);
+        int index = 0;
+        for (Object element : collection) {
+            if (element != null) {
+                Array.set(array, index, toArrayElement(element, boxedComponentType, copier));
+            }
+            index++;
+        }
+        return array;
+    }
+
+    private Object toArrayElement(Object element, Class<?> boxedComponentType, UnaryOperator<Object> copier) {
+        if (boxedComponentType.isInstance(element)) {
+            return copier.apply(element);
+        }
+        TypeConverter converter = resolve(element.getClass(), boxedComponentType);
+        if (converter == null) {
+            throw new IllegalArgumentException("Cannot convert element of type " + element.getClass().getName()
+                    + " to " + boxedComponentType.getName());
+        }
+        return converter.convert(element);
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.gregoryfeijon.object.factory.util.converter;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Converts a non-null value into another type.
+ * <p>
+ * Converters are resolved once per (source type, destination type) pair by the
+ * {@link ConverterRegistry} and stored in the copy plan, so implementations must be
+ * stateless or thread-safe.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@FunctionalInterface
+public interface TypeConverter {
+
+    /**
+     * Converts the given value.
+     *
+     * @param value the value to convert, never {@code null}
+     * @return the converted value
+     */
+    Object convert(Object value);
+
+    /**
+     * Converts the given value, copying the elements it places into a new container, such as
+     * an array created from a collection, with the given function.
+     * <p>
+     * The default implementation ignores the function and delegates to {@link #convert(Object)}.
+     * </p>
+     *
+     * @param value         the value to convert, never {@code null}
+     * @param elementCopier function producing an independent copy of an element placed into a new container
+     * @return the converted value
+     */
+    default Object convert(Object value, UnaryOperator<Object> elementCopier) {
+        return convert(value);
+    }
+}
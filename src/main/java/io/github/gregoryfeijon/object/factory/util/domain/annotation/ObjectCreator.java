@@ -0,0 +1,51 @@
+package io.github.gregoryfeijon.object.factory.util.domain.annotation;
+
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the entry point used by {@link ObjectFactory} to create copies of a class that cannot, or
+ * should not, be created through a no-arg constructor and filled field by field.
+ * <p>
+ * The annotated element can be:
+ * </p>
+ * <ul>
+ *   <li>a constructor or a static factory method, whose parameters are matched with the class
+ *       fields by name. The names come from {@link java.beans.ConstructorProperties} or from the
+ *       bytecode when compiled with {@code -parameters}; otherwise the parameters must match the
+ *       fields in declaration order, as in Lombok's all-args constructors;</li>
+ *   <li>a static no-arg method returning a builder, such as Lombok's {@code builder()}. Each copied
+ *       field is passed to the builder method named after it, and the copy is created by
+ *       {@code build()}. Fields without a copied value keep the builder defaults.</li>
+ * </ul>
+ * <p>
+ * Records are created through their canonical constructor, and classes without a no-arg
+ * constructor through the constructor taking all their fields in declaration order, without
+ * any annotation.
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>
+ * &#64;Value
+ * &#64;Builder
+ * public class Price {
+ *     String currency;
+ *     BigDecimal amount;
+ *
+ *     &#64;ObjectCreator
+ *     public static PriceBuilder builder() {
+ *         return new PriceBuilder();
+ *     }
+ * }
+ * </pre>
+ *
+ * @author gregory.feijon
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.CONSTRUCTOR, ElementType.METHOD})
+public @interface ObjectCreator {
+}
@@ -0,0 +1,39 @@
+package io.github.gregoryfeijon.object.factory.util.domain.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares whether instances of a class are deeply immutable, overriding the automatic analysis
+ * of the copy engine.
+ * <p>
+ * Deeply immutable objects are shared by reference instead of being copied. Without this
+ * annotation, a class is considered immutable when it is a record or a class whose fields are
+ * all final and of immutable types, transitively. The annotation lets a class whose state cannot
+ * change in practice (e.g., behind private, never reassigned fields) be shared, or forces a class
+ * that would pass the analysis to always be copied.
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>
+ * &#64;ObjectImmutable
+ * public class CountryCode {
+ *     private String code;
+ * }
+ * </pre>
+ *
+ * @author gregory.feijon
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ObjectImmutable {
+
+    /**
+     * Whether instances of the annotated class are deeply immutable.
+     *
+     * @return {@code true} to share instances by reference, {@code false} to always copy them
+     */
+    boolean value() default true;
+}
@@ -0,0 +1,55 @@
+package io.github.gregoryfeijon.object.factory.util.domain.enums;
+
+/**
+ * Reasons why the copy engine does not copy a field, as reported by
+ * {@link io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory#explain(Class, Class)}.
+ *
+ * @author gregory.feijon
+ */
+public enum ExclusionReason {
+
+    /**
+     * Static final source field, a constant.
+     */
+    STATIC_FINAL,
+
+    /**
+     * Source field listed in the {@link io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectConstructor#exclude()}
+     * of the destination class or one of its superclasses.
+     */
+    OBJECT_CONSTRUCTOR,
+
+    /**
+     * Source field listed in the {@link io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectCopyExclusions}
+     * of the source or destination class, or one of their superclasses.
+     */
+    OBJECT_COPY_EXCLUSIONS,
+
+    /**
+     * Source field, or the destination field it matches, annotated with
+     * {@link io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectCopyExclude}.
+     */
+    OBJECT_COPY_EXCLUDE,
+
+    /**
+     * Source field whose logical name is already used by another source field.
+     */
+    DUPLICATE_KEY,
+
+    /**
+     * Root source field left out by the projection of the
+     * {@link io.github.gregoryfeijon.object.factory.util.domain.model.CopyOptions} of the copy.
+     */
+    PROJECTION,
+
+    /**
+     * Field without a counterpart of the same logical name on the other side.
+     */
+    NO_MATCHING_FIELD,
+
+    /**
+     * Collection or map fields of different types without a converter between them; the
+     * destination field is set to {@code null}.
+     */
+    INCOMPATIBLE_TYPES
+}
@@ -0,0 +1,24 @@
+package io.github.gregoryfeijon.object.factory.util.domain.enums;
+
+/**
+ * How the copy engine copies values through JSON when they cannot be copied field by field.
+ *
+ * @author gregory.feijon
+ */
+public enum JsonFallbackMode {
+
+    /**
+     * Serializes the value to bytes and parses it back with the configured serializer adapter.
+     */
+    ADAPTER,
+
+    /**
+     * Streams the value through a Jackson token buffer, using the application's {@code ObjectMapper}.
+     */
+    JACKSON,
+
+    /**
+     * Streams the value through a Gson element tree, using the application's {@code Gson}.
+     */
+    GSON
+}
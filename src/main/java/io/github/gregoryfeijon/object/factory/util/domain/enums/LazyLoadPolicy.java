@@ -0,0 +1,38 @@
+package io.github.gregoryfeijon.object.factory.util.domain.enums;
+
+/**
+ * Policies applied by the copy engine to uninitialized Hibernate associations.
+ * <p>
+ * Whatever the policy, an uninitialized entity proxy or persistent collection is never
+ * initialized during a copy, so copying detached entities never triggers a lazy load or a
+ * {@code LazyInitializationException}.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public enum LazyLoadPolicy {
+
+    /**
+     * Leaves the destination field untouched. Uninitialized proxies nested in collections or maps
+     * are copied as {@code null}.
+     */
+    SKIP,
+
+    /**
+     * Sets the destination field to {@code null}.
+     */
+    NULL,
+
+    /**
+     * Copies entity proxies as new empty instances of the entity class, and persistent
+     * collections as empty collections or maps of the destination field type.
+     */
+    EMPTY,
+
+    /**
+     * Same as {@link #EMPTY}, but entity stubs also carry the proxy identifier, read without
+     * initializing the proxy. The identifier is assigned to the field annotated with
+     * {@code @Id} or {@code @EmbeddedId}.
+     */
+    ID_ONLY
+}
@@ -0,0 +1,37 @@
+package io.github.gregoryfeijon.object.factory.util.domain.enums;
+
+import java.util.Locale;
+
+/**
+ * Slow paths of the copy engine, where a value is copied through serialization instead of
+ * field by field, as reported by the
+ * {@link io.github.gregoryfeijon.object.factory.util.metrics.SlowPathDetector}.
+ *
+ * @author gregory.feijon
+ */
+public enum SlowPathKind {
+
+    /**
+     * Nested object field deep copied through the JSON serializer.
+     */
+    JSON_FALLBACK,
+
+    /**
+     * Mutable simple value, such as a {@code Date}, cloned through serialization.
+     */
+    VALUE_CLONE,
+
+    /**
+     * Collection element, map key or map value of a JDK or non-instantiable type copied through serialization.
+     */
+    ELEMENT_CLONE;
+
+    /**
+     * Returns the lowercase label used in reports for this slow path.
+     *
+     * @return the label
+     */
+    public String getTagValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
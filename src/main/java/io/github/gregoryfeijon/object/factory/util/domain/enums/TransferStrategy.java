@@ -0,0 +1,71 @@
+package io.github.gregoryfeijon.object.factory.util.domain.enums;
+
+import java.util.Locale;
+
+/**
+ * Strategies used by the copy engine to transfer a single field value from the
+ * source object to the destination object.
+ * <p>
+ * Each constant corresponds to one branch of the engine's value copy decision and is
+ * used as a low-cardinality label for metrics and diagnostics.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public enum TransferStrategy {
+
+    /**
+     * Primitive and enum values, assigned directly.
+     */
+    PRIMITIVE,
+
+    /**
+     * Wrapper and simple types, shared by reference when immutable or cloned through serialization.
+     */
+    WRAPPER,
+
+    /**
+     * Collections and maps, cloned preserving their generic type information.
+     */
+    COLLECTION_MAP,
+
+    /**
+     * Deeply immutable objects, and immutable collections and maps of immutable elements, shared by reference.
+     */
+    SHARED,
+
+    /**
+     * Complex objects, deep copied through the JSON serializer.
+     */
+    JSON_FALLBACK,
+
+    /**
+     * Persistent entities and embeddables, deep copied field by field so their own lazy associations
+     * follow the {@link LazyLoadPolicy}.
+     */
+    ENTITY,
+
+    /**
+     * Values copied by a registered {@link io.github.gregoryfeijon.object.factory.util.strategy.CopyStrategy}.
+     */
+    CUSTOM,
+
+    /**
+     * Values of incompatible types converted by the converter registry.
+     */
+    CONVERSION,
+
+    /**
+     * Enum values mapped to another enum type, or to and from strings, by constant name.
+     */
+    ENUM;
+
+    /**
+     * Returns the lowercase label used to tag metrics for this strategy.
+     *
+     * @return the metric tag value
+     */
+    public String getTagValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.gregoryfeijon.object.factory.util.domain.model;
+
+/**
+ * Size and lookup statistics of one of the copy engine's caches.
+ *
+ * @param size    the number of cached entries
+ * @param maxSize the maximum number of cached entries
+ * @param hits    the number of lookups served from the cache
+ * @param misses  the number of lookups that had to compute their entry
+ */
+public record CacheStatistics(int size, int maxSize, long hits, long misses) {
+
+    /**
+     * Returns the fraction of the lookups served from the cache.
+     *
+     * @return the hit ratio, between {@code 0} and {@code 1}; {@code 0} before the first lookup
+     */
+    public double hitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
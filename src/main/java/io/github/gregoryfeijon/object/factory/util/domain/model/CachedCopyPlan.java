@@ -0,0 +1,39 @@
+package io.github.gregoryfeijon.object.factory.util.domain.model;
+
+import java.util.List;
+
+/**
+ * Summary of a copy plan held in the plan cache of the copy engine.
+ *
+ * @param sourceClass      the source class
+ * @param destinationClass the destination class
+ * @param options          the options the plan was compiled with
+ * @param fieldCount       the number of copied fields
+ * @param fallbackFields   the names of the source fields predicted to be copied through the JSON
+ *                         fallback, from their declared types
+ */
+public record CachedCopyPlan(Class<?> sourceClass, Class<?> destinationClass, CopyOptions options, int fieldCount,
+                             List<String> fallbackFields) {
+
+    /**
+     * Creates a plan summary, defensively copying the fallback field names.
+     *
+     * @param sourceClass      the source class
+     * @param destinationClass the destination class
+     * @param options          the options the plan was compiled with
+     * @param fieldCount       the number of copied fields
+     * @param fallbackFields   the names of the source fields copied through the JSON fallback
+     */
+    public CachedCopyPlan {
+        fallbackFields = List.copyOf(fallbackFields);
+    }
+
+    /**
+     * Indicates whether some fields of the plan are copied through the JSON fallback.
+     *
+     * @return {@code true} if the plan has fallback fields
+     */
+    public boolean usesFallback() {
+        return !fallbackFields.isEmpty();
+    }
+}
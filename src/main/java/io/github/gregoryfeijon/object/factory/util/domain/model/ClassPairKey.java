@@ -1,7 +1,17 @@
 package io.github.gregoryfeijon.object.factory.util.domain.model;
 
 /**
- * Simple immutable key representing a (sourceClass, destinationClass) pair.
+ * Simple immutable key representing a (sourceClass, destinationClass) pair, copied with the given options.
  */
-public record ClassPairKey(Class<?> sourceClass, Class<?> destClass) {
-}
\ No newline at end of file
+public record ClassPairKey(Class<?> sourceClass, Class<?> destClass, CopyOptions options) {
+
+    /**
+     * Creates the key of a class pair copied with the {@link CopyOptions#DEFAULT default options}.
+     *
+     * @param sourceClass the source class
+     * @param destClass   the destination class
+     */
+    public ClassPairKey(Class<?> sourceClass, Class<?> destClass) {
+        this(sourceClass, destClass, CopyOptions.DEFAULT);
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.gregoryfeijon.object.factory.util.domain.model;
+
+import java.util.List;
+
+/**
+ * Point-in-time view of the caches and slow paths of a copy engine, for inspection and tuning on
+ * running applications.
+ *
+ * @param copyPlans            the cached copy plans
+ * @param copyPlanCache        the statistics of the copy plan cache
+ * @param fieldKeyCache        the statistics of the cache of field keys per declaring class
+ * @param planCompilations     the number of copy plans compiled, cached or not
+ * @param planCompilationNanos the cumulative time spent compiling copy plans
+ * @param estimatedBytes       a rough estimate of the heap held by both caches, excluding the
+ *                             reflection metadata they share with the JVM
+ * @param slowPaths            the slow paths hit so far, the most expensive first; empty when slow
+ *                             paths are not tracked
+ */
+public record CopyEngineSnapshot(List<CachedCopyPlan> copyPlans, CacheStatistics copyPlanCache,
+                                 CacheStatistics fieldKeyCache, long planCompilations, long planCompilationNanos,
+                                 long estimatedBytes, List<SlowPathStats> slowPaths) {
+
+    /**
+     * Creates a snapshot, defensively copying the lists.
+     *
+     * @param copyPlans            the cached copy plans
+     * @param copyPlanCache        the statistics of the copy plan cache
+     * @param fieldKeyCache        the statistics of the field key cache
+     * @param planCompilations     the number of copy plans compiled
+     * @param planCompilationNanos the cumulative time spent compiling copy plans
+     * @param estimatedBytes       a rough estimate of the heap held by both caches
+     * @param slowPaths            the slow paths hit so far
+     */
+    public CopyEngineSnapshot {
+        copyPlans = List.copyOf(copyPlans);
+        slowPaths = List.copyOf(slowPaths);
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.gregoryfeijon.object.factory.util.domain.model;
+
+import io.github.gregoryfeijon.object.factory.util.domain.enums.LazyLoadPolicy;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.ToString;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Options of a single copy operation, overriding the settings of the copy engine.
+ * <p>
+ * Options are immutable values. The engine interns them and includes them in the key of its
+ * copy plan cache, so each combination of options compiles its own copy plans once: projected
+ * fields are left out of the plan instead of being checked on every copy. Options apply to the
+ * whole copied graph, except the projection, which only selects the fields of the root object.
+ * </p>
+ *
+ * @author gregory.feijon
+ * @see io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory#copy(Object)
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
+public final class CopyOptions {
+
+    /**
+     * Options keeping every setting of the engine.
+     */
+    public static final CopyOptions DEFAULT = CopyOptions.builder().build();
+
+    /**
+     * Maximum nesting depth copied, or {@code null} for the engine's.
+     */
+    private final Integer maxDepth;
+
+    /**
+     * Handling of uninitialized Hibernate associations, or {@code null} for the engine's.
+     */
+    private final LazyLoadPolicy lazyLoadPolicy;
+
+    /**
+     * Whether {@code null} source values leave the destination fields untouched instead of being copied.
+     */
+    private final boolean ignoreNulls;
+
+    /**
+     * Whether the copy runs on the calling thread only, whatever the parallel thresholds of the engine.
+     */
+    private final boolean sequential;
+
+    /**
+     * Logical names of the only root fields copied; empty to copy every field.
+     */
+    private final Set<String> includes;
+
+    /**
+     * Logical names of the root fields not copied.
+     */
+    private final Set<String> excludes;
+
+    /**
+     * Whether values that would be copied through the JSON fallback fail the copy instead.
+     */
+    private final boolean failOnJsonFallback;
+
+    /**
+     * Creates copy options. Every argument is optional; {@code null} selects the default.
+     *
+     * @param maxDepth           the maximum nesting depth copied; defaults to the engine's
+     * @param lazyLoadPolicy     the handling of uninitialized Hibernate associations; defaults to the engine's
+     * @param ignoreNulls        whether {@code null} source values leave the destination fields untouched;
+     *                           defaults to {@code false}
+     * @param sequential         whether the copy runs on the calling thread only; defaults to {@code false}
+     * @param includes           the logical names, after {@code FieldCopyName} resolution and matched
+     *                           case-insensitively, of the only root fields copied; defaults to all of them
+     * @param excludes           the logical names of the root fields not copied; defaults to none
+     * @param failOnJsonFallback whether values that would be copied through the JSON fallback fail the
+     *                           copy with an {@code ApiException}; defaults to {@code false}
+     */
+    @Builder(toBuilder = true)
+    private CopyOptions(Integer maxDepth, LazyLoadPolicy lazyLoadPolicy, Boolean ignoreNulls, Boolean sequential,
+                        @Singular Set<String> includes, @Singular Set<String> excludes, Boolean failOnJsonFallback) {
+        this.maxDepth = maxDepth != null && maxDepth >= 0 ? maxDepth : null;
+        this.lazyLoadPolicy = lazyLoadPolicy;
+        this.ignoreNulls = Boolean.TRUE.equals(ignoreNulls);
+        this.sequential = Boolean.TRUE.equals(sequential);
+        this.includes = normalizeKeys(includes);
+        this.excludes = normalizeKeys(excludes);
+        this.failOnJsonFallback = Boolean.TRUE.equals(failOnJsonFallback);
+    }
+
+    /**
+     * Normalizes field names the way the engine normalizes the logical names of fields.
+     *
+     * @param names the field names, may be {@code null}
+     * @return the lowercase, trimmed names
+     */
+    private static Set<String> normalizeKeys(Set<String> names) {
+        if (names == null || names.isEmpty()) {
+            return Set.of();
+        }
+        return names.stream()
+                .map(name -> name.toLowerCase(Locale.ROOT).trim())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Checks whether the options select the copied root fields.
+     *
+     * @return {@code true} if any field is included or excluded
+     */
+    public boolean hasProjection() {
+        return !includes.isEmpty() || !excludes.isEmpty();
+    }
+
+    /**
+     * Checks whether a root field is selected by the projection.
+     *
+     * @param key the normalized logical name of the field
+     * @return {@code true} if the field is copied
+     */
+    public boolean isProjected(String key) {
+        return (includes.isEmpty() || includes.contains(key)) && !excludes.contains(key);
+    }
+
+    /**
+     * Returns the options applied to the objects nested in the root object.
+     *
+     * @return these options without their projection
+     */
+    public CopyOptions nested() {
+        return hasProjection() ? toBuilder().clearIncludes().clearExcludes().build() : this;
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.gregoryfeijon.object.factory.util.domain.model;
+
+import io.github.gregoryfeijon.object.factory.util.domain.enums.TransferStrategy;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Structured report of how the copy engine maps a source class onto a destination class.
+ * <p>
+ * Lists every field of both classes: the copied pairs first, in plan order, then the excluded
+ * and unmatched fields. Strategies and costs are predicted from the declared field types;
+ * values of a subtype, such as the implementation held by an interface-typed field, may be
+ * copied differently at run time.
+ * </p>
+ *
+ * @param sourceClass      the source class
+ * @param destinationClass the destination class
+ * @param fields           the explanation of each field
+ */
+public record CopyPlanExplanation(Class<?> sourceClass, Class<?> destinationClass, List<FieldExplanation> fields) {
+
+    /**
+     * Creates an explanation, defensively copying the field list.
+     *
+     * @param sourceClass      the source class
+     * @param destinationClass the destination class
+     * @param fields           the explanation of each field
+     */
+    public CopyPlanExplanation {
+        fields = List.copyOf(fields);
+    }
+
+    /**
+     * Returns the estimated cost of copying one source object, the sum of the costs of its fields.
+     *
+     * @return the estimated cost, in the relative units of {@link FieldExplanation#estimatedCost()}
+     */
+    public int estimatedCost() {
+        return fields.stream().mapToInt(FieldExplanation::estimatedCost).sum();
+    }
+
+    /**
+     * Returns the explanations of the fields copied with the given strategy.
+     *
+     * @param strategy the transfer strategy
+     * @return the matching field explanations, in report order
+     */
+    public List<FieldExplanation> fieldsUsing(TransferStrategy strategy) {
+        return fields.stream()
+                .filter(field -> field.strategy() == strategy)
+                .toList();
+    }
+
+    /**
+     * Renders the report as one line per field, suitable for logs.
+     *
+     * @return the textual report
+     */
+    @Override
+    public String toString() {
+        return fields.stream()
+                .map(field -> String.format("  %-24s %-32s -> %-32s %s%n", field.key(),
+                        describe(field.sourceField()), describe(field.destField()),
+                        field.isCopied()
+                                ? field.strategy().getTagValue() + " (cost " + field.estimatedCost() + ")"
+                                : "excluded: " + field.exclusion().name().toLowerCase(Locale.ROOT)))
+                .collect(Collectors.joining("", sourceClass.getName() + " -> " + destinationClass.getName()
+                        + " (estimated cost " + estimatedCost() + ")" + System.lineSeparator(), ""));
+    }
+
+    private static String describe(Field field) {
+        return field != null ? field.getType().getSimpleName() + " " + field.getName() : "-";
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.gregoryfeijon.object.factory.util.domain.model;
+
+import io.github.gregoryfeijon.object.factory.util.converter.TypeConverter;
+import io.github.gregoryfeijon.object.factory.util.strategy.CopyStrategy;
+
+import java.lang.reflect.Field;
+
+/**
+ * Immutable entry of a copy plan, pairing a source field with the destination field it is copied into.
+ *
+ * @param sourceField    the field read from the source object
+ * @param destField      the field written on the destination object
+ * @param strategy       the custom strategy resolved for the source field type, or {@code null} when the
+ *                       engine's built-in handling applies
+ * @param converter      the converter resolved for incompatible field types, or {@code null} when the
+ *                       destination field can hold the source value or no conversion is known
+ * @param runtimeTargets the inline cache of the copy targets resolved for the runtime classes of the
+ *                       nested values read from the source field
+ * @param options        the options the field value is copied with
+ */
+public record FieldCopyPlan(Field sourceField, Field destField, CopyStrategy strategy, TypeConverter converter,
+                            InlineTypeCache<RuntimeCopyTarget> runtimeTargets, CopyOptions options) {
+
+    /**
+     * Creates a plan entry with an empty runtime target cache, copied with the default options.
+     *
+     * @param sourceField the field read from the source object
+     * @param destField   the field written on the destination object
+     * @param strategy    the custom strategy resolved for the source field type, or {@code null}
+     * @param converter   the converter resolved for incompatible field types, or {@code null}
+     */
+    public FieldCopyPlan(Field sourceField, Field destField, CopyStrategy strategy, TypeConverter converter) {
+        this(sourceField, destField, strategy, converter, CopyOptions.DEFAULT);
+    }
+
+    /**
+     * Creates a plan entry with an empty runtime target cache.
+     *
+     * @param sourceField the field read from the source object
+     * @param destField   the field written on the destination object
+     * @param strategy    the custom strategy resolved for the source field type, or {@code null}
+     * @param converter   the converter resolved for incompatible field types, or {@code null}
+     * @param options     the options the field value is copied with
+     */
+    public FieldCopyPlan(Field sourceField, Field destField, CopyStrategy strategy, TypeConverter converter,
+                         CopyOptions options) {
+        this(sourceField, destField, strategy, converter, new InlineTypeCache<>(), options);
+    }
+}
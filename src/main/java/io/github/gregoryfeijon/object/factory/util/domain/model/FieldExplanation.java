@@ -0,0 +1,33 @@
+package io.github.gregoryfeijon.object.factory.util.domain.model;
+
+import io.github.gregoryfeijon.object.factory.util.domain.enums.ExclusionReason;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.TransferStrategy;
+
+import java.lang.reflect.Field;
+
+/**
+ * Explanation of how a single field is handled by the copy plan of a class pair.
+ *
+ * @param key           the logical name matching the source and destination fields, after
+ *                      {@link io.github.gregoryfeijon.object.factory.util.domain.annotation.FieldCopyName}
+ *                      resolution
+ * @param sourceField   the source field, or {@code null} for a destination field without a source
+ * @param destField     the destination field, or {@code null} for a source field without a destination
+ * @param exclusion     the reason why the field is not copied, or {@code null} when it is copied
+ * @param strategy      the transfer strategy predicted from the declared field types, or {@code null}
+ *                      when the field is not copied
+ * @param estimatedCost the estimated cost of copying the field, in relative units where a
+ *                      primitive assignment costs {@code 1}; {@code 0} when the field is not copied
+ */
+public record FieldExplanation(String key, Field sourceField, Field destField, ExclusionReason exclusion,
+                               TransferStrategy strategy, int estimatedCost) {
+
+    /**
+     * Indicates whether the field is copied.
+     *
+     * @return {@code true} if a value is transferred from the source field to the destination field
+     */
+    public boolean isCopied() {
+        return exclusion == null;
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.gregoryfeijon.object.factory.util.domain.model;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Small per-call-site cache of values resolved from the runtime class of the copied values.
+ * <p>
+ * Most call sites only ever see one runtime class, so the cache starts monomorphic, holding a
+ * single entry checked by identity. It grows to a polymorphic cache of up to
+ * {@link #POLYMORPHIC_LIMIT} entries, and then turns megamorphic, delegating every lookup to
+ * the given lookup function, which is expected to be backed by a shared cache.
+ * </p>
+ * <p>
+ * The cache is thread-safe without locking: its state is replaced as a whole, and an update
+ * lost to a concurrent one only costs a later lookup.
+ * </p>
+ *
+ * @param <V> the type of the cached values
+ * @author gregory.feijon
+ */
+public final class InlineTypeCache<V> {
+
+    /**
+     * Maximum number of runtime classes cached before the cache turns megamorphic.
+     */
+    public static final int POLYMORPHIC_LIMIT = 4;
+
+    private static final Object MEGAMORPHIC = new Object();
+
+    /**
+     * {@code null} when empty, an {@link Entry} when monomorphic, an {@code Entry[]} when
+     * polymorphic, or {@link #MEGAMORPHIC}.
+     */
+    private volatile Object state;
+
+    /**
+     * Returns the value cached for a runtime class, resolving and caching it on a miss.
+     *
+     * @param type   the runtime class
+     * @param lookup resolves the value of a runtime class not cached yet
+     * @return the value for the runtime class
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Class<?> type, Function<Class<?>, ? extends V> lookup) {
+        Object current = state;
+        if (current instanceof Entry<?> entry) {
+            if (entry.type() == type) {
+                return (V) entry.value();
+            }
+        } else if (current instanceof Entry<?>[] entries) {
+            for (Entry<?> entry : entries) {
+                if (entry.type() == type) {
+                    return (V) entry.value();
+                }
+            }
+        }
+        V value = lookup.apply(type);
+        if (current != MEGAMORPHIC) {
+            state = grow(current, new Entry<>(type, value));
+        }
+        return value;
+    }
+
+    /**
+     * Indicates whether the cache has seen more than {@link #POLYMORPHIC_LIMIT} runtime classes.
+     *
+     * @return {@code true} if every lookup is delegated to the lookup function
+     */
+    public boolean isMegamorphic() {
+        return state == MEGAMORPHIC;
+    }
+
+    private static Object grow(Object current, Entry<?> added) {
+        if (current == null) {
+            return added;
+        }
+        if (current instanceof Entry<?> entry) {
+            return new Entry<?>[]{entry, added};
+        }
+        Entry<?>[] entries = (Entry<?>[]) current;
+        if (entries.length == POLYMORPHIC_LIMIT) {
+            return MEGAMORPHIC;
+        }
+        Entry<?>[] grown = Arrays.copyOf(entries, entries.length + 1);
+        grown[entries.length] = added;
+        return grown;
+    }
+
+    private record Entry<V>(Class<?> type, V value) {
+    }
+}
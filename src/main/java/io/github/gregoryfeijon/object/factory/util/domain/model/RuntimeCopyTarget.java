@@ -0,0 +1,18 @@
+package io.github.gregoryfeijon.object.factory.util.domain.model;
+
+import io.github.gregoryfeijon.object.factory.util.strategy.CopyStrategy;
+
+/**
+ * Copy target resolved for the runtime class of a nested value.
+ *
+ * @param targetType the class the value is copied into: its runtime class when the destination
+ *                   field can hold it, preserving subtypes, or the declared destination field type
+ * @param strategy   the custom strategy supporting the runtime class, or {@code null} when the
+ *                   value is shared or deep copied by the engine
+ * @param shared     whether the runtime class is deeply immutable and the value is assigned to the
+ *                   destination field as is
+ * @param entity     whether the runtime class is a persistent entity or embeddable, deep copied
+ *                   field by field instead of through the JSON serializer
+ */
+public record RuntimeCopyTarget(Class<?> targetType, CopyStrategy strategy, boolean shared, boolean entity) {
+}
@@ -0,0 +1,34 @@
+package io.github.gregoryfeijon.object.factory.util.domain.model;
+
+import io.github.gregoryfeijon.object.factory.util.domain.enums.SlowPathKind;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics of a slow path hit by the copies of a class pair.
+ *
+ * @param kind             the slow path
+ * @param sourceClass      the class declaring the source field, or the class of the copied
+ *                         element for {@link SlowPathKind#ELEMENT_CLONE}
+ * @param destinationClass the class declaring the destination field, or the type the element is
+ *                         copied into for {@link SlowPathKind#ELEMENT_CLONE}
+ * @param field            the name of the source field, or {@code null} for collection elements
+ * @param hits             the number of values copied through the slow path
+ * @param estimatedNanos   the cumulative time spent in the slow path, extrapolated from the
+ *                         sampled hits
+ */
+public record SlowPathStats(SlowPathKind kind, Class<?> sourceClass, Class<?> destinationClass, String field,
+                            long hits, long estimatedNanos) {
+
+    /**
+     * Renders the statistics on a single line, suitable for logs.
+     *
+     * @return the textual statistics
+     */
+    @Override
+    public String toString() {
+        return sourceClass.getSimpleName() + (field != null ? "." + field : "") + " -> "
+                + destinationClass.getSimpleName() + " (" + kind.getTagValue() + "): " + hits + " hits, ~"
+                + TimeUnit.NANOSECONDS.toMillis(estimatedNanos) + " ms";
+    }
+}
@@ -0,0 +1,184 @@
+package io.github.gregoryfeijon.object.factory.util.domain.properties;
+
+import io.github.gregoryfeijon.object.factory.util.domain.enums.JsonFallbackMode;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.LazyLoadPolicy;
+import io.github.gregoryfeijon.object.factory.util.metrics.SlowPathDetector;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for the object factory copy engine.
+ * <p>
+ * Bound from the {@code object-factory} prefix.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "object-factory")
+public class ObjectFactoryProperties {
+
+    /**
+     * Micrometer instrumentation settings.
+     */
+    private final Metrics metrics = new Metrics();
+
+    /**
+     * Handling of uninitialized Hibernate proxies and persistent collections.
+     */
+    private LazyLoadPolicy lazyLoadPolicy = LazyLoadPolicy.EMPTY;
+
+    /**
+     * Maximum nesting depth of copied objects and collections; negative for unlimited.
+     */
+    private int maxDepth = -1;
+
+    /**
+     * How values that cannot be copied field by field are copied through JSON.
+     */
+    private JsonFallbackMode jsonFallback = JsonFallbackMode.ADAPTER;
+
+    /**
+     * Cache size limits.
+     */
+    private final Cache cache = new Cache();
+
+    /**
+     * Parallel copy settings.
+     */
+    private final Parallel parallel = new Parallel();
+
+    /**
+     * Settings of bulk copies spilled to disk.
+     */
+    private final Spill spill = new Spill();
+
+    /**
+     * Slow path detection settings.
+     */
+    private final SlowPath slowPath = new SlowPath();
+
+    /**
+     * Micrometer instrumentation settings.
+     */
+    @Getter
+    @Setter
+    public static class Metrics {
+
+        /**
+         * Whether copy operations are instrumented when a {@code MeterRegistry} is available.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of class pairs tagged individually; further pairs share the {@code other} tag.
+         */
+        private int maxClassPairTags = 100;
+    }
+
+    /**
+     * Cache size limits.
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * Maximum number of cached copy plans, one per source and destination class pair.
+         */
+        private int maxCopyPlans = ObjectFactory.DEFAULT_CACHE_SIZE;
+
+        /**
+         * Maximum number of classes whose field metadata is cached.
+         */
+        private int maxClassMetadata = ObjectFactory.DEFAULT_CACHE_SIZE;
+
+        /**
+         * Whether callers wait for a copy plan another thread is compiling, instead of compiling an
+         * uncached plan of their own, shared with the later callers until the plan is cached.
+         */
+        private boolean awaitPendingPlans;
+    }
+
+    /**
+     * Parallel copy settings.
+     */
+    @Getter
+    @Setter
+    public static class Parallel {
+
+        /**
+         * Minimum number of fields for an object's fields to be copied in parallel.
+         */
+        private int fieldThreshold = ObjectFactory.DEFAULT_FIELD_PARALLEL_THRESHOLD;
+
+        /**
+         * Minimum number of elements for a collection to be copied in parallel.
+         */
+        private int bulkThreshold = Integer.MAX_VALUE;
+
+        /**
+         * Minimum number of elements of a nested collection or map, or of the collections and maps held
+         * by one object, for their copy to be split into fork/join tasks.
+         */
+        private int forkThreshold = Integer.MAX_VALUE;
+
+        /**
+         * Number of tasks parallel copies are split into when an {@code objectFactoryExecutor} bean is defined.
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Settings of bulk copies spilled to disk.
+     */
+    @Getter
+    @Setter
+    public static class Spill {
+
+        /**
+         * Maximum estimated size of the copies a disk-backed list keeps decoded in heap.
+         */
+        private DataSize heapBudget = DataSize.ofBytes(ObjectFactory.DEFAULT_SPILL_HEAP_BUDGET);
+
+        /**
+         * Directory of the files backing disk-backed lists; the default temporary-file directory if unset.
+         */
+        private Path directory;
+    }
+
+    /**
+     * Slow path detection settings.
+     */
+    @Getter
+    @Setter
+    public static class SlowPath {
+
+        /**
+         * Whether the values copied through serialization are tracked and summarized in the logs.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Fraction of the slow path hits that are timed.
+         */
+        private double sampleRate = SlowPathDetector.DEFAULT_SAMPLE_RATE;
+
+        /**
+         * Minimum interval between two logged summaries; zero disables logging.
+         */
+        private Duration logInterval = SlowPathDetector.DEFAULT_LOG_INTERVAL;
+
+        /**
+         * Maximum number of tracked slow paths.
+         */
+        private int maxEntries = SlowPathDetector.DEFAULT_MAX_ENTRIES;
+    }
+}
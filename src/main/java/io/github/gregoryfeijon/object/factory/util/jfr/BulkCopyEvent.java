@@ -0,0 +1,38 @@
+package io.github.gregoryfeijon.object.factory.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import lombok.Setter;
+
+/**
+ * JFR event emitted for each bulk collection copy that exceeds the configured threshold.
+ *
+ * @author gregory.feijon
+ */
+@Setter
+@Name(BulkCopyEvent.NAME)
+@Label("Bulk Copy")
+@Category({"Object Factory"})
+@Description("Copy of every element of a collection")
+@StackTrace(false)
+@Threshold("20 ms")
+public class BulkCopyEvent extends Event {
+
+    public static final String NAME = "io.github.gregoryfeijon.objectfactory.BulkCopy";
+
+    @Label("Source Class")
+    @Description("Class of the first element of the source collection")
+    private Class<?> sourceClass;
+
+    @Label("Destination Class")
+    @Description("Requested element type, or the source element class for same-type copies")
+    private Class<?> destinationClass;
+
+    @Label("Element Count")
+    private int elementCount;
+}
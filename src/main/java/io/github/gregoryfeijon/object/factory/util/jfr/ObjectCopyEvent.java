@@ -0,0 +1,37 @@
+package io.github.gregoryfeijon.object.factory.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import lombok.Setter;
+
+/**
+ * JFR event emitted for each top-level object copy that exceeds the configured threshold.
+ *
+ * @author gregory.feijon
+ */
+@Setter
+@Name(ObjectCopyEvent.NAME)
+@Label("Object Copy")
+@Category({"Object Factory"})
+@Description("Top-level copy of a source object into a destination object")
+@StackTrace(false)
+@Threshold("5 ms")
+public class ObjectCopyEvent extends Event {
+
+    public static final String NAME = "io.github.gregoryfeijon.objectfactory.ObjectCopy";
+
+    @Label("Source Class")
+    private Class<?> sourceClass;
+
+    @Label("Destination Class")
+    private Class<?> destinationClass;
+
+    @Label("Field Count")
+    @Description("Number of fields transferred from the source to the destination")
+    private int fieldCount;
+}
@@ -0,0 +1,46 @@
+package io.github.gregoryfeijon.object.factory.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import lombok.Setter;
+
+/**
+ * JFR event emitted when the copy plan of a class pair is compiled and cached.
+ * <p>
+ * Compilation happens once per (source, destination) pair, so the event is recorded
+ * regardless of duration by default. Raise the {@code threshold} setting to keep only
+ * slow compilations.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@Setter
+@Name(PlanCompilationEvent.NAME)
+@Label("Copy Plan Compilation")
+@Category({"Object Factory"})
+@Description("Compilation of the copy plan for a source and destination class pair")
+@StackTrace(false)
+@Threshold("0 ms")
+public class PlanCompilationEvent extends Event {
+
+    public static final String NAME = "io.github.gregoryfeijon.objectfactory.PlanCompilation";
+
+    @Label("Source Class")
+    private Class<?> sourceClass;
+
+    @Label("Destination Class")
+    private Class<?> destinationClass;
+
+    @Label("Source Field Count")
+    @Description("Number of fields declared by the source class hierarchy")
+    private int sourceFieldCount;
+
+    @Label("Copied Field Count")
+    @Description("Number of source fields left after exclusions and matched with a destination field")
+    private int copiedFieldCount;
+}
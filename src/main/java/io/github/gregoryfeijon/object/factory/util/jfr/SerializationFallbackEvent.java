@@ -0,0 +1,48 @@
+package io.github.gregoryfeijon.object.factory.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import lombok.Setter;
+
+/**
+ * JFR event emitted when a field value is cloned through a serialization round-trip
+ * instead of a direct assignment.
+ * <p>
+ * Recorded with a stack trace so the class pair that triggered the slow path can be
+ * traced back to its caller.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@Setter
+@Name(SerializationFallbackEvent.NAME)
+@Label("Serialization Fallback")
+@Category({"Object Factory"})
+@Description("Clone of a value through serialization and deserialization")
+@Threshold("1 ms")
+public class SerializationFallbackEvent extends Event {
+
+    public static final String NAME = "io.github.gregoryfeijon.objectfactory.SerializationFallback";
+
+    @Label("Source Class")
+    @Description("Runtime class of the value being cloned")
+    private Class<?> sourceClass;
+
+    @Label("Destination Type")
+    @Description("Type the value is deserialized into, including generic arguments")
+    private String destinationType;
+
+    @Label("Element Count")
+    @Description("Number of elements for collections and maps, -1 for other values")
+    private int elementCount;
+
+    @Label("Bytes Serialized")
+    @Description("Size of the serialized form, 0 when the value was streamed without one")
+    @DataAmount
+    private long bytesSerialized;
+}
@@ -0,0 +1,72 @@
+package io.github.gregoryfeijon.object.factory.util.metrics;
+
+import io.github.gregoryfeijon.object.factory.util.domain.enums.TransferStrategy;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+
+/**
+ * Instrumentation hooks invoked by {@link ObjectFactoryUtil} during copy operations.
+ * <p>
+ * Every method has an empty default implementation, so the {@link #NOOP} instance used
+ * when no metrics backend is configured reduces each call to nothing. Callers check
+ * {@link #isEnabled()} before reading the clock, keeping uninstrumented copies free of
+ * timing overhead.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public interface CopyMetrics {
+
+    /**
+     * Instance that records nothing, used when no metrics backend is available.
+     */
+    CopyMetrics NOOP = new CopyMetrics() {
+    };
+
+    /**
+     * Indicates whether this instance records anything.
+     *
+     * @return {@code true} if measurements are recorded, {@code false} otherwise
+     */
+    default boolean isEnabled() {
+        return false;
+    }
+
+    /**
+     * Records a single top-level object copy.
+     *
+     * @param sourceClass   the class of the source object
+     * @param destClass     the class of the destination object
+     * @param durationNanos the elapsed time of the copy, in nanoseconds
+     */
+    default void recordCopy(Class<?> sourceClass, Class<?> destClass, long durationNanos) {
+    }
+
+    /**
+     * Records a bulk copy of a collection.
+     *
+     * @param size          the number of elements copied
+     * @param durationNanos the elapsed time of the whole bulk copy, in nanoseconds
+     */
+    default void recordBulkCopy(int size, long durationNanos) {
+    }
+
+    /**
+     * Records a lookup that found the copyable fields of a class pair already cached.
+     */
+    default void recordPlanCacheHit() {
+    }
+
+    /**
+     * Records a lookup that had to compute the copyable fields of a class pair.
+     */
+    default void recordPlanCacheMiss() {
+    }
+
+    /**
+     * Records the strategy chosen to transfer a field value.
+     *
+     * @param strategy the strategy taken
+     */
+    default void recordTransfer(TransferStrategy strategy) {
+    }
+}
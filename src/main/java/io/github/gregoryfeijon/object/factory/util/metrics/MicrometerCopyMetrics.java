@@ -0,0 +1,148 @@
+package io.github.gregoryfeijon.object.factory.util.metrics;
+
+import io.github.gregoryfeijon.object.factory.util.domain.enums.TransferStrategy;
+import io.github.gregoryfeijon.object.factory.util.domain.model.ClassPairKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CopyMetrics} implementation backed by a Micrometer {@link MeterRegistry}.
+ * <p>
+ * Registered meters:
+ * </p>
+ * <ul>
+ *   <li>{@code objectfactory.copy}: timer of top-level copies, tagged by {@code source} and
+ *       {@code destination} class; its count is the number of objects copied per class pair</li>
+ *   <li>{@code objectfactory.copy.bulk}: timer of bulk collection copies</li>
+ *   <li>{@code objectfactory.copy.bulk.size}: distribution of bulk collection sizes</li>
+ *   <li>{@code objectfactory.plan.cache}: counter of copy plan cache lookups, tagged by
+ *       {@code result} ({@code hit} or {@code miss})</li>
+ *   <li>{@code objectfactory.copy.strategy}: counter of field transfers, tagged by {@code strategy}</li>
+ * </ul>
+ * <p>
+ * Cardinality is bounded: only the first {@code maxClassPairTags} class pairs receive their own
+ * tags, every further pair is recorded under {@value #OTHER_TAG}.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public class MicrometerCopyMetrics implements CopyMetrics {
+
+    static final String OTHER_TAG = "other";
+
+    private static final String COPY_TIMER = "objectfactory.copy";
+    private static final String BULK_TIMER = "objectfactory.copy.bulk";
+    private static final String BULK_SIZE = "objectfactory.copy.bulk.size";
+    private static final String PLAN_CACHE = "objectfactory.plan.cache";
+    private static final String STRATEGY = "objectfactory.copy.strategy";
+
+    private final MeterRegistry registry;
+    private final int maxClassPairTags;
+    private final Map<ClassPairKey, Timer> copyTimers = new ConcurrentHashMap<>();
+    private final Timer overflowCopyTimer;
+    private final Timer bulkTimer;
+    private final DistributionSummary bulkSize;
+    private final Counter planCacheHits;
+    private final Counter planCacheMisses;
+    private final Map<TransferStrategy, Counter> strategyCounters = new EnumMap<>(TransferStrategy.class);
+
+    /**
+     * Creates the metrics recorder and registers its fixed meters.
+     *
+     * @param registry         the registry receiving the meters
+     * @param maxClassPairTags the maximum number of class pairs tagged individually
+     */
+    public MicrometerCopyMetrics(MeterRegistry registry, int maxClassPairTags) {
+        this.registry = registry;
+        this.maxClassPairTags = Math.max(0, maxClassPairTags);
+        this.overflowCopyTimer = copyTimer(OTHER_TAG, OTHER_TAG);
+        this.bulkTimer = Timer.builder(BULK_TIMER)
+                .description("Duration of bulk collection copies")
+                .register(registry);
+        this.bulkSize = DistributionSummary.builder(BULK_SIZE)
+                .description("Number of elements per bulk collection copy")
+                .baseUnit("objects")
+                .register(registry);
+        this.planCacheHits = planCacheCounter("hit");
+        this.planCacheMisses = planCacheCounter("miss");
+        for (TransferStrategy strategy : TransferStrategy.values()) {
+            strategyCounters.put(strategy, Counter.builder(STRATEGY)
+                    .description("Field transfers by copy strategy")
+                    .tag("strategy", strategy.getTagValue())
+                    .register(registry));
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void recordCopy(Class<?> sourceClass, Class<?> destClass, long durationNanos) {
+        resolveCopyTimer(sourceClass, destClass).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordBulkCopy(int size, long durationNanos) {
+        bulkSize.record(size);
+        bulkTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordPlanCacheHit() {
+        planCacheHits.increment();
+    }
+
+    @Override
+    public void recordPlanCacheMiss() {
+        planCacheMisses.increment();
+    }
+
+    @Override
+    public void recordTransfer(TransferStrategy strategy) {
+        strategyCounters.get(strategy).increment();
+    }
+
+    /**
+     * Resolves the timer of a class pair, falling back to the shared overflow timer once
+     * the tag limit has been reached.
+     *
+     * @param sourceClass the class of the source object
+     * @param destClass   the class of the destination object
+     * @return the timer to record the copy on
+     */
+    private Timer resolveCopyTimer(Class<?> sourceClass, Class<?> destClass) {
+        ClassPairKey key = new ClassPairKey(sourceClass, destClass);
+        Timer timer = copyTimers.get(key);
+        if (timer != null) {
+            return timer;
+        }
+        if (copyTimers.size() >= maxClassPairTags) {
+            return overflowCopyTimer;
+        }
+        return copyTimers.computeIfAbsent(key, k -> copyTimer(k.sourceClass().getName(), k.destClass().getName()));
+    }
+
+    private Timer copyTimer(String source, String destination) {
+        return Timer.builder(COPY_TIMER)
+                .description("Duration of top-level object copies")
+                .tag("source", source)
+                .tag("destination", destination)
+                .register(registry);
+    }
+
+    private Counter planCacheCounter(String result) {
+        return Counter.builder(PLAN_CACHE)
+                .description("Copy plan cache lookups")
+                .tag("result", result)
+                .register(registry);
+    }
+}
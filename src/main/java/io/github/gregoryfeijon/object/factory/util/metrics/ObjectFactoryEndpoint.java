@@ -0,0 +1,184 @@
+package io.github.gregoryfeijon.object.factory.util.metrics;
+
+import io.github.gregoryfeijon.object.factory.util.domain.model.CacheStatistics;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CachedCopyPlan;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyEngineSnapshot;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyOptions;
+import io.github.gregoryfeijon.object.factory.util.domain.model.SlowPathStats;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Actuator endpoint exposing the caches and slow paths of the copy engine at
+ * {@code /actuator/objectfactory}.
+ * <p>
+ * Reading the endpoint returns the {@link ObjectFactory#snapshot()} of the engine, with classes
+ * rendered by name. Writing to it evicts the cached copy plans of a class pair or, without
+ * parameters, clears every cache of the engine.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@Endpoint(id = "objectfactory")
+@RequiredArgsConstructor
+public class ObjectFactoryEndpoint {
+
+    /**
+     * Maximum number of slow paths reported, the most expensive first.
+     */
+    static final int MAX_SLOW_PATHS = 10;
+
+    private final ObjectFactory objectFactory;
+
+    /**
+     * Describes the caches and slow paths of the copy engine.
+     *
+     * @return the description of the engine
+     */
+    @ReadOperation
+    public ObjectFactoryDescriptor objectFactory() {
+        CopyEngineSnapshot snapshot = objectFactory.snapshot();
+        List<CopyPlanDescriptor> copyPlans = snapshot.copyPlans().stream()
+                .map(CopyPlanDescriptor::of)
+                .toList();
+        return new ObjectFactoryDescriptor(
+                CacheDescriptor.of(snapshot.copyPlanCache()),
+                CacheDescriptor.of(snapshot.fieldKeyCache()),
+                snapshot.planCompilations(),
+                toMillis(snapshot.planCompilationNanos()),
+                snapshot.estimatedBytes(),
+                copyPlans,
+                snapshot.copyPlans().stream()
+                        .filter(CachedCopyPlan::usesFallback)
+                        .map(plan -> plan.sourceClass().getName() + " -> " + plan.destinationClass().getName())
+                        .distinct()
+                        .toList(),
+                snapshot.slowPaths().stream()
+                        .limit(MAX_SLOW_PATHS)
+                        .map(SlowPathDescriptor::of)
+                        .toList());
+    }
+
+    /**
+     * Evicts the cached copy plans of a class pair, or clears every cache of the engine when
+     * neither class is given.
+     *
+     * @param source      the fully qualified name of the source class, or {@code null} for any source class
+     * @param destination the fully qualified name of the destination class, or {@code null} for any
+     *                    destination class
+     * @return the number of evicted copy plans
+     */
+    @WriteOperation
+    public EvictionDescriptor evict(@Nullable String source, @Nullable String destination) {
+        if (source == null && destination == null) {
+            int evicted = objectFactory.evictCopyPlans(null, null);
+            objectFactory.clearCaches();
+            return new EvictionDescriptor(evicted);
+        }
+        Map<String, CachedCopyPlan> pairs = new LinkedHashMap<>();
+        objectFactory.snapshot().copyPlans().stream()
+                .filter(plan -> source == null || plan.sourceClass().getName().equals(source))
+                .filter(plan -> destination == null || plan.destinationClass().getName().equals(destination))
+                .forEach(plan -> pairs.putIfAbsent(plan.sourceClass().getName() + "->"
+                        + plan.destinationClass().getName(), plan));
+        int evicted = pairs.values().stream()
+                .mapToInt(plan -> objectFactory.evictCopyPlans(plan.sourceClass(), plan.destinationClass()))
+                .sum();
+        return new EvictionDescriptor(evicted);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Description of the caches and slow paths of the copy engine.
+     *
+     * @param copyPlanCache         the statistics of the copy plan cache
+     * @param fieldKeyCache         the statistics of the field key cache
+     * @param planCompilations      the number of copy plans compiled
+     * @param planCompilationMillis the cumulative time spent compiling copy plans
+     * @param estimatedBytes        a rough estimate of the heap held by the caches
+     * @param copyPlans             the cached copy plans
+     * @param fallbackPairs         the cached class pairs with fields copied through the JSON fallback
+     * @param slowestPaths          the most expensive slow paths hit so far; empty when slow paths are not tracked
+     */
+    public record ObjectFactoryDescriptor(CacheDescriptor copyPlanCache, CacheDescriptor fieldKeyCache,
+                                          long planCompilations, double planCompilationMillis, long estimatedBytes,
+                                          List<CopyPlanDescriptor> copyPlans, List<String> fallbackPairs,
+                                          List<SlowPathDescriptor> slowestPaths) {
+    }
+
+    /**
+     * Description of a cache of the copy engine.
+     *
+     * @param size     the number of cached entries
+     * @param maxSize  the maximum number of cached entries
+     * @param hits     the number of lookups served from the cache
+     * @param misses   the number of lookups that had to compute their entry
+     * @param hitRatio the fraction of the lookups served from the cache
+     */
+    public record CacheDescriptor(int size, int maxSize, long hits, long misses, double hitRatio) {
+
+        static CacheDescriptor of(CacheStatistics statistics) {
+            return new CacheDescriptor(statistics.size(), statistics.maxSize(), statistics.hits(),
+                    statistics.misses(), statistics.hitRatio());
+        }
+    }
+
+    /**
+     * Description of a cached copy plan.
+     *
+     * @param source         the name of the source class
+     * @param destination    the name of the destination class
+     * @param options        the options the plan was compiled with, or {@code null} for the default options
+     * @param fields         the number of copied fields
+     * @param fallbackFields the source fields copied through the JSON fallback
+     */
+    public record CopyPlanDescriptor(String source, String destination, String options, int fields,
+                                     List<String> fallbackFields) {
+
+        static CopyPlanDescriptor of(CachedCopyPlan plan) {
+            return new CopyPlanDescriptor(plan.sourceClass().getName(), plan.destinationClass().getName(),
+                    CopyOptions.DEFAULT.equals(plan.options()) ? null : plan.options().toString(),
+                    plan.fieldCount(), plan.fallbackFields());
+        }
+    }
+
+    /**
+     * Description of a slow path hit by the copies of a class pair.
+     *
+     * @param kind            the slow path
+     * @param source          the name of the class declaring the source field
+     * @param destination     the name of the class declaring the destination field
+     * @param field           the name of the source field, or {@code null} for collection elements
+     * @param hits            the number of values copied through the slow path
+     * @param estimatedMillis the cumulative time spent in the slow path, extrapolated from the sampled hits
+     */
+    public record SlowPathDescriptor(String kind, String source, String destination, String field, long hits,
+                                     double estimatedMillis) {
+
+        static SlowPathDescriptor of(SlowPathStats stats) {
+            return new SlowPathDescriptor(stats.kind().getTagValue(), stats.sourceClass().getName(),
+                    stats.destinationClass().getName(), stats.field(), stats.hits(),
+                    toMillis(stats.estimatedNanos()));
+        }
+    }
+
+    /**
+     * Result of an eviction.
+     *
+     * @param evictedPlans the number of evicted copy plans
+     */
+    public record EvictionDescriptor(int evictedPlans) {
+    }
+}
@@ -0,0 +1,203 @@
+package io.github.gregoryfeijon.object.factory.util.metrics;
+
+import io.github.gregoryfeijon.object.factory.util.domain.enums.SlowPathKind;
+import io.github.gregoryfeijon.object.factory.util.domain.model.SlowPathStats;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Records which class pairs and fields are copied through the slow paths of the copy engine.
+ * <p>
+ * Every hit is counted; only a sample of them is timed, and the cumulative time of each slow
+ * path is extrapolated from its sampled hits. A summary of the most expensive slow paths is
+ * logged at most once per log interval, and {@link #snapshot()} exposes the same statistics
+ * programmatically. The number of tracked slow paths is bounded; hits of further slow paths
+ * are only counted by {@link #getDroppedHits()}.
+ * </p>
+ * <p>
+ * Instances are thread-safe and cheap compared to the serialization round trips they observe.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@Slf4j
+public class SlowPathDetector {
+
+    /**
+     * Default fraction of the slow path hits that are timed.
+     */
+    public static final double DEFAULT_SAMPLE_RATE = 0.1;
+
+    /**
+     * Default minimum interval between two logged summaries.
+     */
+    public static final Duration DEFAULT_LOG_INTERVAL = Duration.ofMinutes(1);
+
+    /**
+     * Default maximum number of tracked slow paths.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1_000;
+
+    /**
+     * Number of slow paths listed in a logged summary.
+     */
+    static final int SUMMARY_SIZE = 10;
+
+    /**
+     * Start value of a hit that is not timed.
+     */
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private final double sampleRate;
+    private final long logIntervalNanos;
+    private final int maxEntries;
+    private final Map<Key, Counters> entries = new ConcurrentHashMap<>();
+    private final LongAdder droppedHits = new LongAdder();
+    private final AtomicLong nextLogNanos;
+
+    /**
+     * Creates a detector. Every argument is optional; {@code null} selects the default.
+     *
+     * @param sampleRate  the fraction of the hits that are timed, between {@code 0} and {@code 1};
+     *                    defaults to {@value #DEFAULT_SAMPLE_RATE}
+     * @param logInterval the minimum interval between two logged summaries; zero or negative
+     *                    disables logging; defaults to one minute
+     * @param maxEntries  the maximum number of tracked slow paths; defaults to {@value #DEFAULT_MAX_ENTRIES}
+     */
+    @Builder
+    public SlowPathDetector(Double sampleRate, Duration logInterval, Integer maxEntries) {
+        this.sampleRate = sampleRate != null ? Math.clamp(sampleRate, 0.0, 1.0) : DEFAULT_SAMPLE_RATE;
+        this.logIntervalNanos = (logInterval != null ? logInterval : DEFAULT_LOG_INTERVAL).toNanos();
+        this.maxEntries = maxEntries != null && maxEntries > 0 ? maxEntries : DEFAULT_MAX_ENTRIES;
+        this.nextLogNanos = new AtomicLong(System.nanoTime() + logIntervalNanos);
+    }
+
+    /**
+     * Starts observing a slow path hit, deciding whether it is timed.
+     *
+     * @return the value to pass to {@link #record(SlowPathKind, Class, Class, String, long)}
+     */
+    public long start() {
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate ? System.nanoTime() : NOT_SAMPLED;
+    }
+
+    /**
+     * Records a finished slow path hit, and logs a summary when one is due.
+     *
+     * @param kind             the slow path
+     * @param sourceClass      the class declaring the source field, or the class of the element
+     * @param destinationClass the class declaring the destination field, or the type of the element copy
+     * @param field            the name of the source field, or {@code null} for collection elements
+     * @param start            the value returned by {@link #start()} for this hit
+     */
+    public void record(SlowPathKind kind, Class<?> sourceClass, Class<?> destinationClass, String field, long start) {
+        long elapsed = start != NOT_SAMPLED ? System.nanoTime() - start : 0L;
+        Key key = new Key(kind, sourceClass, destinationClass, field);
+        Counters counters = entries.get(key);
+        if (counters == null) {
+            if (entries.size() >= maxEntries) {
+                droppedHits.increment();
+                logSummaryIfDue();
+                return;
+            }
+            counters = entries.computeIfAbsent(key, k -> new Counters());
+        }
+        counters.hits.increment();
+        if (start != NOT_SAMPLED) {
+            counters.sampledHits.increment();
+            counters.sampledNanos.add(elapsed);
+        }
+        logSummaryIfDue();
+    }
+
+    /**
+     * Returns the statistics of every tracked slow path, the most expensive first.
+     *
+     * @return an immutable list of statistics
+     */
+    public List<SlowPathStats> snapshot() {
+        return entries.entrySet().stream()
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .sorted(Comparator.comparingLong(SlowPathStats::estimatedNanos)
+                        .thenComparingLong(SlowPathStats::hits)
+                        .reversed())
+                .toList();
+    }
+
+    /**
+     * Returns the number of hits not tracked because {@code maxEntries} slow paths were already tracked.
+     *
+     * @return the number of dropped hits
+     */
+    public long getDroppedHits() {
+        return droppedHits.sum();
+    }
+
+    /**
+     * Discards all statistics.
+     */
+    public void reset() {
+        entries.clear();
+        droppedHits.reset();
+    }
+
+    /**
+     * Logs the most expensive slow paths if the log interval has elapsed since the last summary.
+     * <p>
+     * Only the thread winning the update of the next log time logs, so concurrent hits never
+     * log the same summary twice.
+     * </p>
+     */
+    private void logSummaryIfDue() {
+        if (logIntervalNanos <= 0 || !log.isInfoEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long next = nextLogNanos.get();
+        if (now - next < 0 || !nextLogNanos.compareAndSet(next, now + logIntervalNanos)) {
+            return;
+        }
+        List<SlowPathStats> stats = snapshot();
+        log.info("Object copies hit {} slow path(s){}; most expensive:{}{}", stats.size(),
+                getDroppedHits() > 0 ? " and " + getDroppedHits() + " untracked hit(s)" : "",
+                System.lineSeparator(),
+                stats.stream()
+                        .limit(SUMMARY_SIZE)
+                        .map(stat -> "  " + stat)
+                        .collect(Collectors.joining(System.lineSeparator())));
+    }
+
+    /**
+     * Identity of a tracked slow path.
+     */
+    private record Key(SlowPathKind kind, Class<?> sourceClass, Class<?> destinationClass, String field) {
+    }
+
+    /**
+     * Counters of a tracked slow path.
+     */
+    private static final class Counters {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder sampledHits = new LongAdder();
+        private final LongAdder sampledNanos = new LongAdder();
+
+        private SlowPathStats toStats(Key key) {
+            long hitCount = hits.sum();
+            long sampled = sampledHits.sum();
+            long estimated = sampled > 0 ? Math.round((double) sampledNanos.sum() * hitCount / sampled) : 0L;
+            return new SlowPathStats(key.kind(), key.sourceClass(), key.destinationClass(), key.field(),
+                    hitCount, estimated);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.gregoryfeijon.object.factory.util.strategy;
+
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+
+/**
+ * Service provider interface for copying values of specific types.
+ * <p>
+ * A strategy takes over the copy of every field whose declared source type it supports,
+ * replacing the engine's built-in handling (direct assignment, serialization cloning or
+ * JSON deep copy). Nested objects of fields without a strategy are also dispatched on their
+ * runtime class, so a strategy supporting a subtype of the declared type copies them too. This is the extension point for types the engine cannot copy efficiently
+ * on its own, such as money amounts, geometric values or protobuf messages.
+ * </p>
+ * <p>
+ * Strategies are discovered through {@link java.util.ServiceLoader} (declare the implementation
+ * in {@code META-INF/services/io.github.gregoryfeijon.object.factory.util.strategy.CopyStrategy})
+ * and, in Spring applications, from beans of this type. When several strategies support the
+ * same type, the one with the highest precedence according to
+ * {@link org.springframework.core.Ordered} or {@link org.springframework.core.annotation.Order} wins.
+ * </p>
+ * <p>
+ * The supporting strategy is resolved once per type and stored in the copy plan of each class
+ * pair, so {@link #supports(Class)} is not called on the copy path. Implementations must be
+ * thread-safe.
+ * </p>
+ * <p>
+ * Example:
+ * </p>
+ * <pre>
+ * public class MoneyCopyStrategy implements CopyStrategy {
+ *
+ *     public boolean supports(Class&lt;?&gt; type) {
+ *         return Money.class.equals(type);
+ *     }
+ *
+ *     public Object copy(Object sourceValue, Class&lt;?&gt; targetType) {
+ *         Money money = (Money) sourceValue;
+ *         return new Money(money.getAmount(), money.getCurrency());
+ *     }
+ * }
+ * </pre>
+ *
+ * @author gregory.feijon
+ * @see CopyStrategyRegistry
+ * @see ObjectFactoryUtil#registerCopyStrategy(CopyStrategy)
+ */
+public interface CopyStrategy {
+
+    /**
+     * Indicates whether this strategy copies values declared with the given type.
+     *
+     * @param type the declared type of the source field
+     * @return {@code true} if this strategy handles the type
+     */
+    boolean supports(Class<?> type);
+
+    /**
+     * Creates a copy of a non-null value.
+     *
+     * @param sourceValue the value read from the source field, never {@code null}
+     * @param targetType  the declared type of the destination field, assignable from the source field type,
+     *                    or the runtime class of a nested value dispatched on it
+     * @return the value to assign to the destination field
+     */
+    Object copy(Object sourceValue, Class<?> targetType);
+}
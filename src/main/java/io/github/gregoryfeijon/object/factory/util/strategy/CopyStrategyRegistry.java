@@ -0,0 +1,119 @@
+package io.github.gregoryfeijon.object.factory.util.strategy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Registry of {@link CopyStrategy} implementations with per-type resolution.
+ * <p>
+ * Lookups are memoized per type through a {@link ClassValue}, so resolving the strategy of a
+ * type costs a single scan of the registered strategies. Registering a new strategy discards
+ * the memoized results.
+ * </p>
+ * <p>
+ * A strategy registered explicitly, for example as a Spring bean, replaces the instance of the
+ * same class discovered through {@link ServiceLoader}, so its configuration is the one applied.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@Slf4j
+public class CopyStrategyRegistry {
+
+    private final List<CopyStrategy> strategies = new ArrayList<>();
+    private final Set<CopyStrategy> serviceLoadedStrategies = Collections.newSetFromMap(new IdentityHashMap<>());
+    private volatile ClassValue<Optional<CopyStrategy>> resolvedStrategies = newResolver(List.of());
+
+    /**
+     * Creates a registry populated with the strategies declared through {@link ServiceLoader}.
+     *
+     * @param classLoader the class loader used to locate the service declarations
+     * @return a new registry containing the discovered strategies
+     */
+    public static CopyStrategyRegistry fromServiceLoader(ClassLoader classLoader) {
+        CopyStrategyRegistry registry = new CopyStrategyRegistry();
+        try {
+            ServiceLoader.load(CopyStrategy.class, classLoader).forEach(registry::registerServiceLoaded);
+        } catch (ServiceConfigurationError ex) {
+            log.warn("Could not load CopyStrategy services: {}", ex.getMessage());
+        }
+        return registry;
+    }
+
+    /**
+     * Registers a strategy, unless the same instance or another explicitly registered instance
+     * of the same class is already registered. An instance of the same class discovered through
+     * {@link ServiceLoader} is replaced by the strategy.
+     *
+     * @param strategy the strategy to register
+     * @return {@code true} if the strategy was added, {@code false} if it was already present
+     */
+    public synchronized boolean register(CopyStrategy strategy) {
+        return register(strategy, false);
+    }
+
+    private synchronized void registerServiceLoaded(CopyStrategy strategy) {
+        register(strategy, true);
+    }
+
+    private boolean register(CopyStrategy strategy, boolean serviceLoaded) {
+        CopyStrategy registered = strategies.stream()
+                .filter(candidate -> candidate.getClass() == strategy.getClass())
+                .findFirst()
+                .orElse(null);
+        if (registered != null) {
+            if (registered == strategy || serviceLoaded || !serviceLoadedStrategies.remove(registered)) {
+                return false;
+            }
+            strategies.remove(registered);
+            log.info("Replacing the CopyStrategy {} discovered through ServiceLoader with the registered instance.",
+                    strategy.getClass().getName());
+        }
+        if (serviceLoaded) {
+            serviceLoadedStrategies.add(strategy);
+        }
+        strategies.add(strategy);
+        AnnotationAwareOrderComparator.sort(strategies);
+        resolvedStrategies = newResolver(List.copyOf(strategies));
+        return true;
+    }
+
+    /**
+     * Resolves the strategy handling values declared with the given type.
+     *
+     * @param type the declared type of a source field
+     * @return the highest-precedence strategy supporting the type, or {@code null} if none does
+     */
+    public CopyStrategy resolve(Class<?> type) {
+        return resolvedStrategies.get(type).orElse(null);
+    }
+
+    /**
+     * Returns the registered strategies in precedence order.
+     *
+     * @return an immutable snapshot of the registered strategies
+     */
+    public synchronized List<CopyStrategy> getStrategies() {
+        return List.copyOf(strategies);
+    }
+
+    private static ClassValue<Optional<CopyStrategy>> newResolver(List<CopyStrategy> snapshot) {
+        return new ClassValue<>() {
+            @Override
+            protected Optional<CopyStrategy> computeValue(Class<?> type) {
+                return snapshot.stream()
+                        .filter(strategy -> strategy.supports(type))
+                        .findFirst();
+            }
+        };
+    }
+}
@@ -0,0 +1,423 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import io.github.gregoryfeijon.object.factory.commons.utils.FieldUtil;
+import io.github.gregoryfeijon.object.factory.util.converter.TypeConverter;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyOptions;
+import io.github.gregoryfeijon.object.factory.util.domain.model.FieldCopyPlan;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.jfr.BulkCopyEvent;
+import org.apache.commons.lang3.ClassUtils;
+import org.hibernate.Hibernate;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Copies and merges whole collections and maps on behalf of an {@link ObjectFactory}.
+ * <p>
+ * Bulk copies apply a copy function to every element or map entry, in parallel when there are
+ * at least {@code bulkParallelThreshold} of them, and record bulk metrics and a
+ * {@link BulkCopyEvent}. Merges update a destination collection in place, matching its elements
+ * by key, see {@link ObjectFactory#mergeCollection(Collection, Collection, Class, String, boolean)}.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+final class CollectionCopier {
+
+    private final ObjectFactory objectFactory;
+    private final CopyPlanCompiler planCompiler;
+    private final LazyLoadHandler lazyLoadHandler;
+    private final int bulkParallelThreshold;
+
+    /**
+     * Creates the collection copier of an engine.
+     *
+     * @param objectFactory         the engine copying the elements
+     * @param planCompiler          the plan compiler of the engine, whose plans merges follow
+     * @param lazyLoadHandler       the lazy load handler of the engine, looking up identifier keys
+     * @param bulkParallelThreshold the minimum number of elements or entries copied in parallel
+     */
+    CollectionCopier(ObjectFactory objectFactory, CopyPlanCompiler planCompiler, LazyLoadHandler lazyLoadHandler,
+                     int bulkParallelThreshold) {
+        this.objectFactory = objectFactory;
+        this.planCompiler = planCompiler;
+        this.lazyLoadHandler = lazyLoadHandler;
+        this.bulkParallelThreshold = bulkParallelThreshold;
+    }
+
+    /**
+     * Copies every element of a collection and gathers the copies with the given collector,
+     * recording bulk metrics and a {@link BulkCopyEvent}.
+     *
+     * @param <S>            the source element type
+     * @param <T>            the copied element type
+     * @param <R>            the type of the resulting container
+     * @param entitiesToCopy the non-empty collection of objects to copy
+     * @param copyFunction   the function that copies a single element
+     * @param collector      the collector that gathers the copies
+     * @param returnType     the requested element type, or {@code null} for same-type copies
+     * @param sequential     whether the elements are copied on the calling thread, whatever their number
+     * @return the collected copies
+     */
+    <S, T, R> R copyAll(Collection<S> entitiesToCopy,
+                        Function<S, T> copyFunction,
+                        Collector<T, ?, R> collector,
+                        Class<?> returnType,
+                        boolean sequential) {
+        BulkCopyEvent event = new BulkCopyEvent();
+        event.begin();
+        long start = objectFactory.startTimer();
+
+        R copies = sequential || entitiesToCopy.size() < bulkParallelThreshold
+                ? entitiesToCopy.stream().map(copyFunction).collect(collector)
+                : parallelCopyAll(entitiesToCopy, copyFunction, collector);
+
+        objectFactory.recordBulkCopy(event, start, entitiesToCopy.size(), entitiesToCopy.iterator().next(), returnType);
+        return copies;
+    }
+
+    /**
+     * Copies every entry of a map into the given map, recording bulk metrics and a
+     * {@link BulkCopyEvent}.
+     * <p>
+     * The entries are put in the encounter order of the source. When the map has at least
+     * {@code bulkParallelThreshold} entries, keys and values are copied in parallel first and
+     * put afterward, so the target map does not need to be thread-safe.
+     * </p>
+     *
+     * @param <K>        the source key type
+     * @param <S>        the source value type
+     * @param <L>        the copied key type
+     * @param <T>        the copied value type
+     * @param <M>        the type of the resulting map
+     * @param mapToCopy  the non-empty map to copy
+     * @param keyCopy    the function that copies a single non-null key
+     * @param valueCopy  the function that copies a single non-null value
+     * @param copies     the empty map receiving the copies
+     * @param returnType the requested value type
+     * @return the map receiving the copies
+     */
+    @SuppressWarnings("unchecked")
+    <K, S, L, T, M extends Map<L, T>> M copyAllEntries(Map<K, S> mapToCopy,
+                                                       Function<? super K, ? extends L> keyCopy,
+                                                       Function<S, T> valueCopy,
+                                                       M copies,
+                                                       Class<?> returnType) {
+        BulkCopyEvent event = new BulkCopyEvent();
+        event.begin();
+        long start = objectFactory.startTimer();
+
+        if (mapToCopy.size() < bulkParallelThreshold) {
+            for (Map.Entry<K, S> entry : mapToCopy.entrySet()) {
+                copies.put(copyNullable(entry.getKey(), keyCopy), copyNullable(entry.getValue(), valueCopy));
+            }
+        } else {
+            List<Map.Entry<K, S>> entries = new ArrayList<>(mapToCopy.entrySet());
+            Object[] keys = new Object[entries.size()];
+            Object[] values = new Object[entries.size()];
+            objectFactory.forEachIndex(entries.size(), true, index -> {
+                Map.Entry<K, S> entry = entries.get(index);
+                keys[index] = copyNullable(entry.getKey(), keyCopy);
+                values[index] = copyNullable(entry.getValue(), valueCopy);
+            });
+            for (int index = 0; index < keys.length; index++) {
+                copies.put((L) keys[index], (T) values[index]);
+            }
+        }
+
+        objectFactory.recordBulkCopy(event, start, mapToCopy.size(), mapToCopy.values().iterator().next(), returnType);
+        return copies;
+    }
+
+    /**
+     * Merges a collection of source objects into an existing destination collection, matching
+     * the elements by a key field, see
+     * {@link ObjectFactory#mergeCollection(Collection, Collection, Class, String, boolean)}.
+     *
+     * @param <S>           the source element type
+     * @param <T>           the destination element type
+     * @param sources       the source objects; {@code null} elements are ignored
+     * @param destination   the collection to update in place
+     * @param elementType   the class of the destination elements
+     * @param keyField      the logical name of the destination key field, or {@code null} to use
+     *                      its identifier field
+     * @param removeOrphans whether destination elements matched by no source are removed
+     * @throws ApiException if any collection or the element type is null, the key field is not found
+     *                      in the element type or in a source class, or a source key cannot be
+     *                      converted to the destination key type
+     */
+    <S, T> void merge(Collection<S> sources, Collection<T> destination, Class<T> elementType, String keyField,
+                      boolean removeOrphans) {
+        verifyMergeArguments(sources, destination, elementType);
+        Field destKeyField = findMergeKeyField(elementType, keyField);
+        boolean identifierKey = LazyLoadHandler.isIdentifierField(destKeyField);
+
+        Map<Object, T> index = HashMap.newHashMap(destination.size());
+        for (T element : destination) {
+            Object key = readDestinationKey(element, destKeyField, identifierKey);
+            if (key != null) {
+                index.putIfAbsent(key, element);
+            }
+        }
+
+        Set<Object> matchedKeys = HashSet.newHashSet(index.size());
+        List<T> created = new ArrayList<>();
+        Map<Class<?>, Function<Object, Object>> sourceKeyReaders = new HashMap<>();
+        for (S source : sources) {
+            if (source == null) {
+                continue;
+            }
+            Object key = sourceKeyReaders
+                    .computeIfAbsent(source.getClass(), sourceClass -> createSourceKeyReader(source, destKeyField))
+                    .apply(source);
+            T existing = key != null ? index.get(key) : null;
+            if (existing != null) {
+                Object target = existing instanceof HibernateProxy proxy
+                        ? proxy.getHibernateLazyInitializer().getImplementation()
+                        : existing;
+                mergeInto(source, target);
+                matchedKeys.add(key);
+            } else {
+                Object copy = objectFactory.createRootInstance(source, elementType, CopyOptions.DEFAULT);
+                created.add(elementType.cast(copy));
+            }
+        }
+
+        if (removeOrphans) {
+            destination.removeIf(element ->
+                    !matchedKeys.contains(readDestinationKey(element, destKeyField, identifierKey)));
+        }
+        destination.addAll(created);
+    }
+
+    /**
+     * Copies a source object into a matched destination element, keeping the identity of the
+     * Hibernate persistent collections and maps it holds.
+     * <p>
+     * Reassigning them would detach the persistent collections from their owner, failing orphan
+     * removal on flush. Collections of elements with an identifier field are merged recursively by
+     * identifier, removing orphans; other persistent collections and maps have their contents
+     * replaced by the copies. Uninitialized source collections leave them untouched.
+     * </p>
+     *
+     * @param source the source object
+     * @param target the matched destination element, unproxied
+     */
+    private void mergeInto(Object source, Object target) {
+        List<FieldCopyPlan> copyPlan = planCompiler.getCopyPlan(source.getClass(), target.getClass(),
+                CopyOptions.DEFAULT);
+        List<FieldCopyPlan> fieldPlans = new ArrayList<>(copyPlan.size());
+        List<FieldCopyPlan> containerPlans = new ArrayList<>();
+        List<Object> containers = new ArrayList<>();
+        for (FieldCopyPlan fieldPlan : copyPlan) {
+            if (!(FieldUtil.getProtectedFieldValue(fieldPlan.destField(), target)
+                    instanceof PersistentCollection<?> container)) {
+                fieldPlans.add(fieldPlan);
+                continue;
+            }
+            Object sourceValue = FieldUtil.getProtectedFieldValue(fieldPlan.sourceField(), source);
+            if (!Hibernate.isInitialized(sourceValue)) {
+                continue;
+            }
+            Class<?> elementType = container instanceof Collection<?>
+                    ? ResolvableType.forField(fieldPlan.destField()).asCollection().resolveGeneric(0)
+                    : null;
+            if (elementType != null && (sourceValue == null || sourceValue instanceof Collection<?>)
+                    && lazyLoadHandler.getIdField(elementType).isPresent()) {
+                mergeNested(sourceValue, container, elementType);
+            } else {
+                fieldPlans.add(fieldPlan);
+                containerPlans.add(fieldPlan);
+                containers.add(container);
+            }
+        }
+        objectFactory.copyRootInto(source, target, fieldPlans, CopyOptions.DEFAULT);
+        for (int index = 0; index < containers.size(); index++) {
+            restoreContainer(containerPlans.get(index).destField(), target, containers.get(index));
+        }
+    }
+
+    /**
+     * Merges a nested source collection into a persistent collection of elements with an identifier
+     * field, removing orphans.
+     *
+     * @param sourceValue the source collection, or {@code null} to remove every element
+     * @param container   the persistent collection
+     * @param elementType the class of its elements
+     */
+    @SuppressWarnings("unchecked")
+    private void mergeNested(Object sourceValue, Object container, Class<?> elementType) {
+        Collection<?> sources = sourceValue != null ? (Collection<?>) sourceValue : List.of();
+        merge(sources, (Collection<Object>) container, (Class<Object>) elementType, null, true);
+    }
+
+    /**
+     * Moves the copy assigned to a destination field into the persistent collection or map it
+     * replaced, and assigns the container back.
+     *
+     * @param destField the destination field
+     * @param target    the destination object
+     * @param container the persistent collection or map previously held by the field
+     */
+    @SuppressWarnings("unchecked")
+    private static void restoreContainer(Field destField, Object target, Object container) {
+        Object copy = FieldUtil.getProtectedFieldValue(destField, target);
+        if (copy == container) {
+            return;
+        }
+        if (container instanceof Collection<?> collection) {
+            collection.clear();
+            if (copy instanceof Collection<?> copies) {
+                ((Collection<Object>) collection).addAll(copies);
+            }
+        } else if (container instanceof Map<?, ?> map) {
+            map.clear();
+            if (copy instanceof Map<?, ?> copies) {
+                ((Map<Object, Object>) map).putAll(copies);
+            }
+        }
+        FieldUtil.setProtectedFieldValue(destField, target, container);
+    }
+
+    /**
+     * Applies a copy function to a value, keeping nulls.
+     *
+     * @param <S>   the source type
+     * @param <T>   the copied type
+     * @param value the value to copy
+     * @param copy  the function that copies a single non-null value
+     * @return the copy, or {@code null} if the value is null
+     */
+    private static <S, T> T copyNullable(S value, Function<? super S, ? extends T> copy) {
+        return value != null ? copy.apply(value) : null;
+    }
+
+    /**
+     * Copies the elements of a collection in parallel, keeping their encounter order in the result.
+     *
+     * @param <S>            the source element type
+     * @param <T>            the copied element type
+     * @param <R>            the type of the resulting container
+     * @param entitiesToCopy the collection of objects to copy
+     * @param copyFunction   the function that copies a single element
+     * @param collector      the collector that gathers the copies
+     * @return the collected copies
+     */
+    @SuppressWarnings("unchecked")
+    private <S, T, R> R parallelCopyAll(Collection<S> entitiesToCopy,
+                                        Function<S, T> copyFunction,
+                                        Collector<T, ?, R> collector) {
+        List<S> sources = new ArrayList<>(entitiesToCopy);
+        Object[] copies = new Object[sources.size()];
+        objectFactory.forEachIndex(sources.size(), true,
+                index -> copies[index] = copyFunction.apply(sources.get(index)));
+        return Arrays.stream(copies).map(copy -> (T) copy).collect(collector);
+    }
+
+    /**
+     * Verifies the arguments of a collection merge.
+     *
+     * @param sources     the source objects
+     * @param destination the collection to update
+     * @param elementType the class of the destination elements
+     * @throws ApiException if any argument is null
+     */
+    private static void verifyMergeArguments(Collection<?> sources, Collection<?> destination, Class<?> elementType) {
+        if (sources == null) {
+            throw new ApiException("The collection to be merged is null.");
+        }
+        if (destination == null) {
+            throw new ApiException("The destination collection is null.");
+        }
+        if (elementType == null) {
+            throw new ApiException("The destination element type is null.");
+        }
+    }
+
+    /**
+     * Finds the destination field elements are merged by.
+     *
+     * @param elementType the class of the destination elements
+     * @param keyField    the logical name of the key field, or {@code null} for the identifier field
+     * @return the key field
+     * @throws ApiException if the field is not found
+     */
+    private Field findMergeKeyField(Class<?> elementType, String keyField) {
+        if (!StringUtils.hasText(keyField)) {
+            return lazyLoadHandler.getIdField(elementType).orElseThrow(() -> new ApiException("No @Id or @EmbeddedId "
+                    + "field found in " + elementType.getName() + ". Declare the key field to merge by."));
+        }
+        String key = keyField.toLowerCase(Locale.ROOT).trim();
+        return CopyPlanCompiler.findField(elementType, field -> CopyPlanCompiler.resolveFieldKey(field).equals(key))
+                .orElseThrow(() -> new ApiException("Key field '" + keyField + "' not found in "
+                        + elementType.getName() + "."));
+    }
+
+    /**
+     * Reads the merge key of a destination element.
+     *
+     * @param element       the destination element
+     * @param keyField      the key field
+     * @param identifierKey whether the key field is the entity identifier, which uninitialized proxies expose
+     * @return the key, or {@code null} if the element or its key is null
+     */
+    private static Object readDestinationKey(Object element, Field keyField, boolean identifierKey) {
+        if (element instanceof HibernateProxy proxy) {
+            LazyInitializer lazyInitializer = proxy.getHibernateLazyInitializer();
+            return identifierKey
+                    ? lazyInitializer.getIdentifier()
+                    : FieldUtil.getProtectedFieldValue(keyField, lazyInitializer.getImplementation());
+        }
+        return element != null ? FieldUtil.getProtectedFieldValue(keyField, element) : null;
+    }
+
+    /**
+     * Creates the function reading the merge key of the source objects of a class, converted to
+     * the type of the destination key field.
+     *
+     * @param source       a source object of the class
+     * @param destKeyField the destination key field
+     * @return the key reader
+     * @throws ApiException if the class has no field matching the key field, or its key cannot be
+     *                      converted to the destination key type
+     */
+    private Function<Object, Object> createSourceKeyReader(Object source, Field destKeyField) {
+        List<Field> sourceFields = CopyPlanCompiler.declaredFields(source.getClass());
+        Field sourceKeyField = planCompiler.buildFieldKeyMap(sourceFields)
+                .get(CopyPlanCompiler.resolveFieldKey(destKeyField));
+        if (sourceKeyField == null) {
+            throw new ApiException("No key field matching '" + destKeyField.getName() + "' found in "
+                    + source.getClass().getName() + ".");
+        }
+        Class<?> sourceKeyType = sourceKeyField.getType();
+        Class<?> destKeyType = destKeyField.getType();
+        if (ClassUtils.isAssignable(sourceKeyType, destKeyType)) {
+            return value -> FieldUtil.getProtectedFieldValue(sourceKeyField, value);
+        }
+        TypeConverter converter = objectFactory.resolveConverter(sourceKeyType, destKeyType);
+        if (converter == null) {
+            throw new ApiException("No converter found from the key type " + sourceKeyType.getName() + " of "
+                    + source.getClass().getName() + " to " + destKeyType.getName() + ".");
+        }
+        return value -> {
+            Object key = FieldUtil.getProtectedFieldValue(sourceKeyField, value);
+            return key != null ? converter.convert(key) : null;
+        };
+    }
+}
@@ -0,0 +1,172 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyOptions;
+import io.github.gregoryfeijon.object.factory.util.domain.model.FieldCopyPlan;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import org.springframework.beans.BeanUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reusable, typed copier between two classes, created by {@link ObjectFactory#copier(Class, Class)}.
+ * <p>
+ * The copier resolves the copy plan and the instance creator of its class pair once, instead of
+ * looking them up on every copy. The plan is resolved again when the engine's plans are
+ * invalidated, for example by registering a converter. Sources whose runtime class is a subclass
+ * of the source class fall back to the regular copy of the engine.
+ * </p>
+ * <p>
+ * Copiers are thread-safe and can be shared between threads.
+ * </p>
+ *
+ * @param <S> the source type
+ * @param <T> the destination type
+ * @author gregory.feijon
+ */
+public final class Copier<S, T> {
+
+    private final ObjectFactory objectFactory;
+    private final Class<S> sourceType;
+    private final Class<T> destType;
+    private final CopyOptions options;
+    private final InstanceCreator creator;
+    private volatile PreparedPlan preparedPlan;
+
+    /**
+     * A copy plan together with the plan generation of the engine it was resolved in.
+     *
+     * @param generation the plan generation of the engine
+     * @param copyPlan   the copy plan of the class pair
+     */
+    private record PreparedPlan(long generation, List<FieldCopyPlan> copyPlan) {
+    }
+
+    Copier(ObjectFactory objectFactory, Class<S> sourceType, Class<T> destType, CopyOptions options) {
+        this.objectFactory = objectFactory;
+        this.sourceType = sourceType;
+        this.destType = destType;
+        this.options = options;
+        this.creator = InstanceCreator.find(destType);
+        this.preparedPlan = prepare();
+    }
+
+    /**
+     * Creates a copy of the source object.
+     *
+     * @param source the object to copy
+     * @return a new instance of the destination type with copied fields
+     * @throws ApiException if the source object is null or if an error occurs during copying
+     */
+    public T copy(S source) {
+        if (source == null || source.getClass() != sourceType) {
+            return objectFactory.createFromObject(source, destType, options);
+        }
+        List<FieldCopyPlan> copyPlan = copyPlan();
+        if (creator != null) {
+            return destType.cast(objectFactory.createRootInstance(source, creator, copyPlan, options));
+        }
+        T dest = BeanUtils.instantiateClass(destType);
+        objectFactory.copyRootInto(source, dest, copyPlan, options);
+        return dest;
+    }
+
+    /**
+     * Copies the source object into an existing destination object.
+     *
+     * @param source the object to copy
+     * @param dest   the destination object
+     * @throws ApiException if either object is null or if an error occurs during copying
+     */
+    public void copyInto(S source, T dest) {
+        if (source == null || dest == null || source.getClass() != sourceType || dest.getClass() != destType) {
+            objectFactory.createFromObject(source, dest, options);
+            return;
+        }
+        objectFactory.copyRootInto(source, dest, copyPlan(), options);
+    }
+
+    /**
+     * Copies every object of a collection, in iteration order.
+     * <p>
+     * Large collections are copied in parallel, as in
+     * {@link ObjectFactory#copyAllObjectsFromCollection(Collection, Class)}, unless the options of
+     * the copier are {@link CopyOptions#isSequential() sequential}.
+     * </p>
+     *
+     * @param sources the objects to copy
+     * @return a list with the copies
+     * @throws ApiException if the collection is null or if an error occurs during copying
+     */
+    public List<T> copyAll(Collection<S> sources) {
+        if (sources == null) {
+            throw new ApiException("The collection to be copied is null.");
+        }
+        if (sources.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return objectFactory.getCollectionCopier().copyAll(sources, this::copy, Collectors.toList(), destType,
+                options.isSequential());
+    }
+
+    /**
+     * Copies every object of a stream, in encounter order.
+     * <p>
+     * The stream is collected first and copied as in {@link #copyAll(Collection)}, so large streams
+     * are copied in parallel unless the options of the copier are
+     * {@link CopyOptions#isSequential() sequential}, whether or not the stream itself is parallel.
+     * </p>
+     *
+     * @param sources the objects to copy
+     * @return a list with the copies
+     * @throws ApiException if the stream is null or if an error occurs during copying
+     */
+    public List<T> copyAll(Stream<S> sources) {
+        if (sources == null) {
+            throw new ApiException("The stream to be copied is null.");
+        }
+        return copyAll(sources.toList());
+    }
+
+    /**
+     * Returns the class of the source objects.
+     *
+     * @return the source class
+     */
+    public Class<S> getSourceType() {
+        return sourceType;
+    }
+
+    /**
+     * Returns the class of the copies.
+     *
+     * @return the destination class
+     */
+    public Class<T> getDestType() {
+        return destType;
+    }
+
+    /**
+     * Returns the copy plan, resolving it again if the engine's plans were invalidated since it
+     * was resolved.
+     *
+     * @return the current copy plan of the class pair
+     */
+    private List<FieldCopyPlan> copyPlan() {
+        PreparedPlan prepared = preparedPlan;
+        if (prepared.generation() != objectFactory.getPlanCompiler().getPlanGeneration()) {
+            prepared = prepare();
+            preparedPlan = prepared;
+        }
+        return prepared.copyPlan();
+    }
+
+    private PreparedPlan prepare() {
+        CopyPlanCompiler planCompiler = objectFactory.getPlanCompiler();
+        long generation = planCompiler.getPlanGeneration();
+        return new PreparedPlan(generation, planCompiler.getCopyPlan(sourceType, destType, options));
+    }
+}
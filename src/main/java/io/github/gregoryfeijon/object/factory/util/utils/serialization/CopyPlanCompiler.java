@@ -0,0 +1,792 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import io.github.gregoryfeijon.object.factory.util.converter.ConverterRegistry;
+import io.github.gregoryfeijon.object.factory.util.converter.TypeConverter;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.FieldCopyName;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectConstructor;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectCopyExclude;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectCopyExclusions;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.ExclusionReason;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CacheStatistics;
+import io.github.gregoryfeijon.object.factory.util.domain.model.ClassPairKey;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyOptions;
+import io.github.gregoryfeijon.object.factory.util.domain.model.FieldCopyPlan;
+import io.github.gregoryfeijon.object.factory.util.jfr.PlanCompilationEvent;
+import io.github.gregoryfeijon.object.factory.util.metrics.CopyMetrics;
+import io.github.gregoryfeijon.object.factory.util.strategy.CopyStrategy;
+import io.github.gregoryfeijon.object.factory.util.strategy.CopyStrategyRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.stream;
+
+/**
+ * Compiles and caches the copy plans of an {@link ObjectFactory}, together with the field
+ * metadata they are built from.
+ * <p>
+ * A copy plan lists, for a class pair and a combination of {@link CopyOptions}, the matched
+ * source/destination field pairs along with the {@link CopyStrategy} or converter resolved for
+ * them, so repeated copies skip field matching, exclusion rules and strategy lookup entirely.
+ * Plans are compiled without holding any lock of the cache, once per class pair, and discarded
+ * whenever the strategies or converters of the engine change.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@Slf4j
+@SuppressWarnings("java:S6204")
+//warning for .toList() suppressed, as it does not apply to this engine
+final class CopyPlanCompiler {
+
+    private static final Predicate<Field> PREDICATE_MODIFIERS = predicateModifiers();
+
+    /**
+     * Fields of each class and its superclasses, see {@link #declaredFields(Class)}.
+     */
+    private static final ClassValue<List<Field>> DECLARED_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class;
+                 current = current.getSuperclass()) {
+                stream(current.getDeclaredFields())
+                        .filter(field -> !field.isSynthetic())
+                        .forEach(fields::add);
+            }
+            return List.copyOf(fields);
+        }
+    };
+
+    private final ObjectFactory objectFactory;
+
+    /**
+     * Custom copy strategies bound to the plan entries, shared with the engine.
+     */
+    private final CopyStrategyRegistry copyStrategies;
+
+    /**
+     * Converters bound to the plan entries of incompatible types, shared with the engine.
+     */
+    private final ConverterRegistry converters;
+
+    /**
+     * Cache storing field mappings for each class, keyed by normalized field name.
+     * This cache avoids repeated reflection and annotation lookups.
+     * <p>
+     * Thread-safe via {@link ConcurrentHashMap}, bounded by {@code maxClassMetadata}.
+     * </p>
+     */
+    private final Map<Class<?>, Map<String, Field>> fieldKeyCache = new ConcurrentHashMap<>();
+
+    /**
+     * Cache of compiled copy plans per class pair (source, destination) and options.
+     * Bounded by {@code maxCopyPlans}.
+     */
+    private final Map<ClassPairKey, List<FieldCopyPlan>> copyPlanCache = new ConcurrentHashMap<>();
+
+    /**
+     * Copy plans being compiled, per class pair.
+     * <p>
+     * Plans are compiled outside of {@code copyPlanCache}, so a slow compilation never blocks
+     * the lookups of other class pairs. The first caller missing a plan registers its compilation
+     * here; concurrent callers of the same pair reuse it, or the first plan one of them has ready,
+     * instead of compiling the plan again.
+     * </p>
+     */
+    private final Map<ClassPairKey, PendingPlan> pendingPlans = new ConcurrentHashMap<>();
+
+    /**
+     * Lookup and compilation counters of the plan and field key caches, exposed through
+     * {@link ObjectFactory#snapshot()}.
+     */
+    private final LongAdder planCacheHits = new LongAdder();
+    private final LongAdder planCacheMisses = new LongAdder();
+    private final LongAdder planCompilations = new LongAdder();
+    private final LongAdder planCompilationNanos = new LongAdder();
+    private final LongAdder fieldKeyCacheHits = new LongAdder();
+    private final LongAdder fieldKeyCacheMisses = new LongAdder();
+
+    /**
+     * Incremented whenever the cached copy plans are discarded, so that {@link Copier} handles
+     * holding a plan can detect that it is outdated.
+     */
+    private final AtomicLong planGeneration = new AtomicLong();
+
+    private final int maxCopyPlans;
+    private final int maxClassMetadata;
+
+    /**
+     * Whether callers wait for a copy plan being compiled by another thread, instead of compiling
+     * an uncached plan of their own and handing it to the later callers.
+     */
+    private final boolean awaitPendingPlans;
+
+    /**
+     * Creates the plan compiler of an engine.
+     *
+     * @param objectFactory     the engine copying along the plans
+     * @param copyStrategies    the custom copy strategies of the engine
+     * @param converters        the converters of the engine
+     * @param maxCopyPlans      the maximum number of cached copy plans
+     * @param maxClassMetadata  the maximum number of classes with cached field keys
+     * @param awaitPendingPlans whether callers missing a plan that another thread is compiling wait for it
+     */
+    CopyPlanCompiler(ObjectFactory objectFactory, CopyStrategyRegistry copyStrategies, ConverterRegistry converters,
+                     int maxCopyPlans, int maxClassMetadata, boolean awaitPendingPlans) {
+        this.objectFactory = objectFactory;
+        this.copyStrategies = copyStrategies;
+        this.converters = converters;
+        this.maxCopyPlans = maxCopyPlans;
+        this.maxClassMetadata = maxClassMetadata;
+        this.awaitPendingPlans = awaitPendingPlans;
+    }
+
+    /**
+     * Retrieves the copy plan of a class pair, compiling and caching it on its first use.
+     * Each combination of options has its own plans.
+     * <p>
+     * Every caller, whether copying into an instance, through an {@link InstanceCreator}, from a
+     * {@link Copier} handle or merging collections, compiles the plan from the
+     * {@link #declaredFields(Class)} of both classes, so the cached plan does not depend on which
+     * of them compiled it first.
+     * </p>
+     * <p>
+     * Exclusion rules applied:
+     * </p>
+     * <ul>
+     *   <li>Static final fields (constants) are always excluded</li>
+     *   <li>Class-level exclusions declared via {@link ObjectConstructor#exclude()} (destination only)
+     *       and {@link ObjectCopyExclusions} (both source and destination) are applied</li>
+     *   <li>Fields annotated with {@link ObjectCopyExclude} in either source or destination are excluded</li>
+     *   <li>Exclusions from superclasses are also considered (inheritance support)</li>
+     * </ul>
+     *
+     * @param sourceClass the class of the source objects
+     * @param destClass   the class of the destination objects
+     * @param options     the interned options of the copy
+     * @return a cached or compiled {@link List} of {@link FieldCopyPlan} entries
+     */
+    List<FieldCopyPlan> getCopyPlan(Class<?> sourceClass, Class<?> destClass, CopyOptions options) {
+        return getCopyPlan(new ClassPairKey(sourceClass, destClass, options),
+                () -> compileCopyPlan(sourceClass, new ArrayList<>(declaredFields(sourceClass)), destClass,
+                        declaredFields(destClass), options));
+    }
+
+    /**
+     * Looks up a copy plan in the plan cache, compiling and caching it on a miss.
+     * <p>
+     * Plans are compiled without holding any lock of the cache, once per class pair: callers
+     * missing a plan that another thread is compiling never block on it, unless
+     * {@code awaitPendingPlans} is enabled, see {@link #awaitPendingPlan(PendingPlan, Supplier)}.
+     * </p>
+     *
+     * @param cacheKey the class pair and options of the plan
+     * @param compiler compiles the plan, called only on a cache miss
+     * @return a cached or compiled {@link List} of {@link FieldCopyPlan} entries
+     */
+    private List<FieldCopyPlan> getCopyPlan(ClassPairKey cacheKey, Supplier<List<FieldCopyPlan>> compiler) {
+        CopyMetrics metrics = objectFactory.getMetrics();
+        List<FieldCopyPlan> cached = copyPlanCache.get(cacheKey);
+        if (cached != null) {
+            planCacheHits.increment();
+            metrics.recordPlanCacheHit();
+            return cached;
+        }
+        planCacheMisses.increment();
+        metrics.recordPlanCacheMiss();
+
+        PendingPlan pending = new PendingPlan(Thread.currentThread(), new CompletableFuture<>());
+        PendingPlan inFlight = pendingPlans.putIfAbsent(cacheKey, pending);
+        if (inFlight != null) {
+            return awaitPendingPlan(inFlight, compiler);
+        }
+        try {
+            return compileAndCachePlan(cacheKey, pending, compiler);
+        } finally {
+            pendingPlans.remove(cacheKey, pending);
+        }
+    }
+
+    /**
+     * Compiles a copy plan registered as pending and publishes it to the plan cache and to the
+     * callers waiting for it.
+     * <p>
+     * A plan whose compilation overlapped a change of the strategies or converters is handed to
+     * the waiting callers but not cached.
+     * </p>
+     *
+     * @param cacheKey the class pair and options of the plan
+     * @param pending  the pending compilation registered by the current thread
+     * @param compiler compiles the plan
+     * @return the compiled plan
+     */
+    private List<FieldCopyPlan> compileAndCachePlan(ClassPairKey cacheKey, PendingPlan pending,
+                                                    Supplier<List<FieldCopyPlan>> compiler) {
+        List<FieldCopyPlan> cached = copyPlanCache.get(cacheKey);
+        if (cached != null) {
+            pending.plan().complete(cached);
+            return cached;
+        }
+
+        long generation = planGeneration.get();
+        List<FieldCopyPlan> copyPlan;
+        try {
+            copyPlan = compiler.get();
+        } catch (RuntimeException | Error e) {
+            pending.plan().completeExceptionally(e);
+            throw e;
+        }
+        if (planGeneration.get() == generation) {
+            copyPlanCache.put(cacheKey, copyPlan);
+            if (planGeneration.get() != generation) {
+                copyPlanCache.remove(cacheKey, copyPlan);
+            }
+            ObjectFactory.evictIfFull(copyPlanCache, cacheKey, maxCopyPlans);
+        }
+        pending.plan().complete(copyPlan);
+        return copyPlan;
+    }
+
+    /**
+     * Obtains a copy plan that another compilation is producing.
+     * <p>
+     * Unless {@code awaitPendingPlans} is enabled, a caller finding the plan not ready yet compiles
+     * an uncached plan of its own, from the field listings cached per class, and hands it to the
+     * pending compilation: later callers of the pair take the first plan ready instead of compiling
+     * it again, and only the original compilation caches its plan. Callers re-entering their own
+     * compilation through a custom strategy or converter, like those of a failed compilation, also
+     * compile an uncached plan.
+     * </p>
+     *
+     * @param pending  the compilation in progress
+     * @param compiler compiles the plan
+     * @return the plan of the pending compilation, or an uncached plan
+     */
+    private List<FieldCopyPlan> awaitPendingPlan(PendingPlan pending, Supplier<List<FieldCopyPlan>> compiler) {
+        if (pending.compiler() == Thread.currentThread()) {
+            return compiler.get();
+        }
+        if (!awaitPendingPlans && !pending.plan().isDone()) {
+            List<FieldCopyPlan> copyPlan = compiler.get();
+            pending.plan().complete(copyPlan);
+            return copyPlan;
+        }
+        try {
+            return pending.plan().join();
+        } catch (CompletionException | CancellationException e) {
+            return compiler.get();
+        }
+    }
+
+    /**
+     * Compiles the copy plan for a (source, destination) pair.
+     * <p>
+     * The copyable source fields, after every exclusion rule described in
+     * {@link #getCopyPlan(Class, Class, CopyOptions)}, are matched with the destination fields sharing
+     * the same logical name (considering {@link FieldCopyName}). Each matched pair is bound to
+     * the {@link CopyStrategy} supporting the source field type, when one is registered and the
+     * destination field can hold its result. Pairs left out by the projection of the options are
+     * dropped, and the others are copied with the options without their projection.
+     * </p>
+     * <p>
+     * Each compilation is reported as a {@link PlanCompilationEvent}.
+     * </p>
+     *
+     * @param sourceClass  the class of the source object
+     * @param sourceFields the mutable list of the fields of the source class
+     * @param destClass    the class of the destination object
+     * @param destFields   the fields of the destination class
+     * @param options      the interned options of the copy
+     * @return an immutable {@link List} of the plan entries
+     */
+    private List<FieldCopyPlan> compileCopyPlan(Class<?> sourceClass, List<Field> sourceFields, Class<?> destClass,
+                                                List<Field> destFields, CopyOptions options) {
+        PlanCompilationEvent event = new PlanCompilationEvent();
+        event.begin();
+        long start = System.nanoTime();
+
+        int sourceFieldCount = sourceFields.size();
+        Map<Field, ExclusionReason> exclusions = collectExclusions(sourceFields, sourceClass, destClass, destFields);
+
+        if (!exclusions.isEmpty()) {
+            sourceFields.removeAll(exclusions.keySet());
+        }
+
+        List<FieldCopyPlan> copyPlan = matchDestinationFields(sourceFields, destFields,
+                objectFactory.intern(options.nested()));
+        if (options.hasProjection()) {
+            copyPlan = copyPlan.stream()
+                    .filter(fieldPlan -> options.isProjected(resolveFieldKey(fieldPlan.sourceField())))
+                    .toList();
+        }
+
+        planCompilations.increment();
+        planCompilationNanos.add(System.nanoTime() - start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setSourceClass(sourceClass);
+            event.setDestinationClass(destClass);
+            event.setSourceFieldCount(sourceFieldCount);
+            event.setCopiedFieldCount(copyPlan.size());
+            event.commit();
+        }
+        return copyPlan;
+    }
+
+    /**
+     * Pairs the copyable source fields with the destination fields that share the same
+     * logical name, considering {@link FieldCopyName} annotations.
+     *
+     * @param sourceFields the source fields left after exclusions
+     * @param destFields   the fields of the destination class that will receive the values
+     * @param options      the interned options the field values are copied with
+     * @return an immutable list of plan entries; empty if either side has no fields to copy
+     */
+    private List<FieldCopyPlan> matchDestinationFields(List<Field> sourceFields, List<Field> destFields,
+                                                       CopyOptions options) {
+        if (sourceFields.isEmpty() || destFields.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Field> sourceFieldMap = buildFieldKeyMap(sourceFields);
+        Map<String, Field> destFieldMap = buildFieldKeyMap(destFields);
+
+        return sourceFieldMap.entrySet().stream()
+                .filter(entry -> destFieldMap.containsKey(entry.getKey()))
+                .map(entry -> createFieldCopyPlan(entry.getValue(), destFieldMap.get(entry.getKey()), options))
+                .toList();
+    }
+
+    /**
+     * Creates the plan entry for a matched field pair, resolving its custom strategy or,
+     * for incompatible types, its converter.
+     * <p>
+     * Enum pairs are left to the enum matching of the engine, so no converter is resolved for them.
+     * </p>
+     *
+     * @param sourceField the field in the source object
+     * @param destField   the corresponding field in the destination object
+     * @param options     the interned options the field value is copied with
+     * @return the plan entry for the pair
+     */
+    FieldCopyPlan createFieldCopyPlan(Field sourceField, Field destField, CopyOptions options) {
+        Class<?> sourceFieldType = sourceField.getType();
+        Class<?> destFieldType = destField.getType();
+        if (ClassUtils.isAssignable(sourceFieldType, destFieldType)) {
+            return new FieldCopyPlan(sourceField, destField, copyStrategies.resolve(sourceFieldType), null, options);
+        }
+        TypeConverter converter = sourceFieldType.isEnum() || destFieldType.isEnum()
+                ? null
+                : converters.resolve(sourceFieldType, destFieldType);
+        return new FieldCopyPlan(sourceField, destField, null, converter, options);
+    }
+
+    /**
+     * Collects the source fields excluded from the copy of a class pair, with the reason of
+     * their exclusion.
+     * <p>
+     * Exclusion rules applied, the first matching rule giving the reason:
+     * </p>
+     * <ul>
+     *   <li>Static final fields (constants) are always excluded</li>
+     *   <li>Class-level exclusions declared via {@link ObjectConstructor#exclude()} (destination only)
+     *       and {@link ObjectCopyExclusions} (both source and destination) are applied</li>
+     *   <li>Fields annotated with {@link ObjectCopyExclude} in either source or destination are excluded</li>
+     * </ul>
+     *
+     * @param sourceFields the fields of the source class
+     * @param sourceClass  the source class
+     * @param destClass    the destination class
+     * @param destFields   the fields of the destination class
+     * @return the excluded source fields and their reasons, in the order they were excluded
+     */
+    Map<Field, ExclusionReason> collectExclusions(List<Field> sourceFields, Class<?> sourceClass,
+                                                  Class<?> destClass, List<Field> destFields) {
+        Map<Field, ExclusionReason> exclusions = new LinkedHashMap<>();
+        sourceFields.stream()
+                .filter(PREDICATE_MODIFIERS)
+                .forEach(field -> exclusions.put(field, ExclusionReason.STATIC_FINAL));
+
+        addAnnotationBasedExclusions(exclusions, sourceFields,
+                getClassExclusions(destClass, ObjectConstructor.class, ObjectConstructor::exclude),
+                ExclusionReason.OBJECT_CONSTRUCTOR);
+        addAnnotationBasedExclusions(exclusions, sourceFields,
+                getClassExclusions(destClass, ObjectCopyExclusions.class, ObjectCopyExclusions::value),
+                ExclusionReason.OBJECT_COPY_EXCLUSIONS);
+        addAnnotationBasedExclusions(exclusions, sourceFields,
+                getClassExclusions(sourceClass, ObjectCopyExclusions.class, ObjectCopyExclusions::value),
+                ExclusionReason.OBJECT_COPY_EXCLUSIONS);
+
+        excludeAnnotatedSourceFields(exclusions, sourceFields);
+        excludeAnnotatedDestinationFields(exclusions, sourceFields, destFields);
+        return exclusions;
+    }
+
+    /**
+     * Adds exclusion rules defined in class-level annotations, supporting inheritance.
+     * <p>
+     * Although exclusions are not cached at this level, they are indirectly cached through
+     * the final result stored in {@code copyPlanCache}, avoiding redundant reflection
+     * in subsequent copy operations for the same class pair.
+     * </p>
+     *
+     * @param exclusions    the excluded fields and their reasons
+     * @param sourceFields  the {@link List} of source fields available for copying
+     * @param excludeFields the field names declared for exclusion, see {@link #getClassExclusions(Class, Class, Function)}
+     * @param reason        the reason recorded for the fields excluded by these names
+     */
+    private static void addAnnotationBasedExclusions(Map<Field, ExclusionReason> exclusions,
+                                                     List<Field> sourceFields,
+                                                     Set<String> excludeFields,
+                                                     ExclusionReason reason) {
+        if (!excludeFields.isEmpty()) {
+            excludeListedFields(exclusions, sourceFields, excludeFields.toArray(new String[0]), reason);
+        }
+    }
+
+    /**
+     * Collects exclusion field names declared at the class level by an annotation, such as
+     * {@link ObjectConstructor#exclude()} or {@link ObjectCopyExclusions}, traversing the
+     * superclass hierarchy.
+     * <p>
+     * Exclusions resolved by this method are not individually cached. However, once
+     * the final copyable field list is computed and stored in {@code copyPlanCache},
+     * this logic will not be re-executed for the same class combination.
+     * </p>
+     *
+     * @param <A>            the annotation type
+     * @param clazz          the target class to inspect
+     * @param annotationType the class-level annotation declaring the exclusions
+     * @param names          reads the excluded field names from the annotation
+     * @return an immutable {@link Set} of field names to exclude
+     */
+    private static <A extends Annotation> Set<String> getClassExclusions(Class<?> clazz, Class<A> annotationType,
+                                                                         Function<A, String[]> names) {
+        Set<String> exclusions = new HashSet<>();
+
+        while (clazz != null && clazz != Object.class) {
+            A annotation = clazz.getAnnotation(annotationType);
+            if (annotation != null) {
+                exclusions.addAll(Arrays.asList(names.apply(annotation)));
+            }
+            clazz = clazz.getSuperclass();
+        }
+
+        return Set.copyOf(exclusions);
+    }
+
+    /**
+     * Excludes all fields from the source object that are annotated with {@link ObjectCopyExclude}.
+     *
+     * @param exclusions   the excluded fields and their reasons
+     * @param sourceFields the {@link List} of fields declared in the source object
+     */
+    private static void excludeAnnotatedSourceFields(Map<Field, ExclusionReason> exclusions,
+                                                     List<Field> sourceFields) {
+        sourceFields.stream()
+                .filter(f -> f.isAnnotationPresent(ObjectCopyExclude.class))
+                .forEach(f -> exclusions.putIfAbsent(f, ExclusionReason.OBJECT_COPY_EXCLUDE));
+    }
+
+    /**
+     * Excludes source fields whose names match destination fields annotated with {@link ObjectCopyExclude}.
+     * <p>
+     * This method creates a map of source fields for efficient lookup, then checks each destination field
+     * for the {@link ObjectCopyExclude} annotation. If found, the corresponding source field (by name)
+     * is added to the exclusion set.
+     * </p>
+     *
+     * @param exclusions   the excluded fields and their reasons
+     * @param sourceFields the {@link List} of fields declared in the source object
+     * @param destFields   the destination fields to inspect for {@link ObjectCopyExclude} annotations
+     */
+    private static void excludeAnnotatedDestinationFields(Map<Field, ExclusionReason> exclusions,
+                                                          List<Field> sourceFields,
+                                                          List<Field> destFields) {
+        Map<String, Field> sourceFieldMap = sourceFields.stream()
+                .collect(Collectors.toMap(
+                        CopyPlanCompiler::resolveFieldKey,
+                        Function.identity(),
+                        (a, b) -> a
+                ));
+
+        destFields.stream()
+                .filter(f -> f.isAnnotationPresent(ObjectCopyExclude.class))
+                .map(CopyPlanCompiler::resolveFieldKey)
+                .map(sourceFieldMap::get)
+                .filter(Objects::nonNull)
+                .forEach(f -> exclusions.putIfAbsent(f, ExclusionReason.OBJECT_COPY_EXCLUDE));
+    }
+
+    /**
+     * Marks for exclusion all source fields whose names match any of the given exclusion field names.
+     *
+     * @param exclusions   the excluded fields and their reasons
+     * @param sourceFields the {@link List} of source fields available for copying
+     * @param exclude      the array of field names declared for exclusion
+     * @param reason       the reason recorded for the excluded fields
+     */
+    private static void excludeListedFields(Map<Field, ExclusionReason> exclusions,
+                                            List<Field> sourceFields,
+                                            String[] exclude,
+                                            ExclusionReason reason) {
+        stream(exclude)
+                .forEach(excludeField -> sourceFields.stream()
+                        .filter(sourceField -> resolveFieldKey(sourceField).equalsIgnoreCase(excludeField))
+                        .findAny()
+                        .ifPresentOrElse(sourceField -> exclusions.putIfAbsent(sourceField, reason),
+                                () -> log.trace("ObjectCopyExclusions: field '{}' not found in source class. Skipping" +
+                                        " exclusion.", excludeField)
+                        )
+                );
+    }
+
+    /**
+     * Builds a key-to-field map for a given class, using cached data when available.
+     * <p>
+     * The cache key is the declaring class of the provided fields. If the class
+     * has already been processed, the cached result is returned immediately.
+     * Fields from multiple classes (e.g., through inheritance) are grouped by their
+     * declaring class before caching.
+     * </p>
+     *
+     * @param fields the list of fields to process
+     * @return a map of normalized field names (case-insensitive) to {@link Field} objects;
+     * returns an empty map if the list of fields is empty
+     */
+    Map<String, Field> buildFieldKeyMap(List<Field> fields) {
+        return fields.stream()
+                .collect(Collectors.groupingBy(Field::getDeclaringClass))
+                .entrySet().stream()
+                .flatMap(entry -> getFieldKeys(entry.getKey(), entry.getValue()).entrySet().stream())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * Returns the cached key-to-field map of the fields declared by a class, computing it if needed.
+     *
+     * @param declaringClass the class declaring the fields
+     * @param fields         the fields declared by the class
+     * @return a map of normalized field names to {@link Field} objects
+     */
+    private Map<String, Field> getFieldKeys(Class<?> declaringClass, List<Field> fields) {
+        Map<String, Field> cached = fieldKeyCache.get(declaringClass);
+        if (cached != null) {
+            fieldKeyCacheHits.increment();
+            return cached;
+        }
+        fieldKeyCacheMisses.increment();
+
+        Map<String, Field> fieldKeys = fieldKeyCache.computeIfAbsent(declaringClass, cls -> fields.stream()
+                .collect(Collectors.toMap(
+                        CopyPlanCompiler::resolveFieldKey,
+                        Function.identity(),
+                        (a, b) -> {
+                            log.warn("Duplicate field key '{}' detected in class '{}'. Keeping first occurrence.",
+                                    a.getName(), cls.getSimpleName());
+                            return a;
+                        })
+                ));
+        ObjectFactory.evictIfFull(fieldKeyCache, declaringClass, maxClassMetadata);
+        return fieldKeys;
+    }
+
+    /**
+     * Resolves the logical key name for a field, considering the {@link FieldCopyName} annotation.
+     * <p>
+     * If the annotation is present and contains a non-empty value, that value is used;
+     * otherwise, the field's actual name is used. The result is always normalized to lowercase
+     * and trimmed for consistent matching.
+     * </p>
+     *
+     * @param field the field to resolve
+     * @return the normalized key representing the logical field name
+     */
+    static String resolveFieldKey(Field field) {
+        FieldCopyName ann = field.getAnnotation(FieldCopyName.class);
+        String key = (ann != null && StringUtils.hasText(ann.value()))
+                ? ann.value()
+                : field.getName();
+        return key.toLowerCase(Locale.ROOT).trim();
+    }
+
+    /**
+     * Lists the fields of a class and its superclasses, the only field source copy plans, explanations
+     * and merge keys are built from. Static fields are listed too: constants are excluded from the
+     * plans, and fields an {@link InstanceCreator} cannot set are skipped when creating instances.
+     *
+     * <p>
+     * The fields are listed once per class, so compiling a plan, cached or not, does not walk the
+     * class hierarchy again.
+     * </p>
+     *
+     * @param type the class to inspect
+     * @return the immutable list of the non-synthetic fields, from the class up to its superclasses
+     */
+    static List<Field> declaredFields(Class<?> type) {
+        return DECLARED_FIELDS.get(type);
+    }
+
+    /**
+     * Finds the first field matching a predicate in a class hierarchy, starting from the class itself.
+     *
+     * @param type      the class to inspect
+     * @param predicate the condition the field must match
+     * @return the matching field, or empty if none matches
+     */
+    static Optional<Field> findField(Class<?> type, Predicate<Field> predicate) {
+        return declaredFields(type).stream().filter(predicate).findFirst();
+    }
+
+    /**
+     * Evicts the cached copy plans of a class pair, for every combination of options.
+     *
+     * @param sourceClass the source class, or {@code null} for any source class
+     * @param destClass   the destination class, or {@code null} for any destination class
+     * @return the number of evicted plans
+     */
+    int evictCopyPlans(Class<?> sourceClass, Class<?> destClass) {
+        int evicted = 0;
+        Iterator<ClassPairKey> keys = copyPlanCache.keySet().iterator();
+        while (keys.hasNext()) {
+            ClassPairKey key = keys.next();
+            if ((sourceClass == null || key.sourceClass() == sourceClass)
+                    && (destClass == null || key.destClass() == destClass)) {
+                keys.remove();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Discards the cached copy plans, after a change of the strategies or converters they were compiled with.
+     */
+    void invalidateCopyPlans() {
+        planGeneration.incrementAndGet();
+        pendingPlans.clear();
+        copyPlanCache.clear();
+    }
+
+    /**
+     * Discards the cached copy plans and field keys. The cache statistics are kept.
+     */
+    void clearCaches() {
+        invalidateCopyPlans();
+        fieldKeyCache.clear();
+    }
+
+    /**
+     * Returns the current generation of the copy plans.
+     *
+     * @return a number changing whenever the cached copy plans are discarded
+     */
+    long getPlanGeneration() {
+        return planGeneration.get();
+    }
+
+    /**
+     * Returns the cached copy plans, keyed by class pair.
+     *
+     * @return an unmodifiable view of the plan cache
+     */
+    Map<ClassPairKey, List<FieldCopyPlan>> getCachedCopyPlans() {
+        return Collections.unmodifiableMap(copyPlanCache);
+    }
+
+    /**
+     * Returns the cached key-to-field maps, one per declaring class.
+     *
+     * @return an unmodifiable view of the field key cache entries
+     */
+    Collection<Map<String, Field>> getCachedFieldKeys() {
+        return Collections.unmodifiableCollection(fieldKeyCache.values());
+    }
+
+    /**
+     * Returns the size, limit and lookup counters of the plan cache.
+     *
+     * @return the plan cache statistics
+     */
+    CacheStatistics getPlanCacheStatistics() {
+        return new CacheStatistics(copyPlanCache.size(), maxCopyPlans, planCacheHits.sum(), planCacheMisses.sum());
+    }
+
+    /**
+     * Returns the size, limit and lookup counters of the field key cache.
+     *
+     * @return the field key cache statistics
+     */
+    CacheStatistics getFieldKeyCacheStatistics() {
+        return new CacheStatistics(fieldKeyCache.size(), maxClassMetadata, fieldKeyCacheHits.sum(),
+                fieldKeyCacheMisses.sum());
+    }
+
+    /**
+     * Returns the number of copy plans compiled so far.
+     *
+     * @return the plan compilation count
+     */
+    long getPlanCompilations() {
+        return planCompilations.sum();
+    }
+
+    /**
+     * Returns the total time spent compiling copy plans.
+     *
+     * @return the plan compilation time, in nanoseconds
+     */
+    long getPlanCompilationNanos() {
+        return planCompilationNanos.sum();
+    }
+
+    /**
+     * Creates a predicate that identifies constant fields.
+     * <p>
+     * The predicate returns true for fields that are both static and final,
+     * which typically represent constants that should not be copied.
+     * </p>
+     *
+     * @return a predicate for identifying constant fields
+     */
+    private static Predicate<Field> predicateModifiers() {
+        return p -> Modifier.isStatic(p.getModifiers()) && Modifier.isFinal(p.getModifiers());
+    }
+
+    /**
+     * A copy plan being compiled, together with the thread compiling it.
+     *
+     * @param compiler the thread compiling the plan
+     * @param plan     completed with the plan, or with the failure of its compilation
+     */
+    private record PendingPlan(Thread compiler, CompletableFuture<List<FieldCopyPlan>> plan) {
+    }
+}
@@ -0,0 +1,238 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import io.github.gregoryfeijon.object.factory.util.domain.enums.ExclusionReason;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.TransferStrategy;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CachedCopyPlan;
+import io.github.gregoryfeijon.object.factory.util.domain.model.ClassPairKey;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyEngineSnapshot;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyOptions;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyPlanExplanation;
+import io.github.gregoryfeijon.object.factory.util.domain.model.FieldCopyPlan;
+import io.github.gregoryfeijon.object.factory.util.domain.model.FieldExplanation;
+import io.github.gregoryfeijon.object.factory.util.domain.model.RuntimeCopyTarget;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.metrics.SlowPathDetector;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.isClassMapCollection;
+import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.isPrimitiveOrEnum;
+import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.isWrapperType;
+
+/**
+ * Explains the copy plans of an {@link ObjectFactory} and takes snapshots of its caches, see
+ * {@link ObjectFactory#explain(Class, Class, CopyOptions)} and {@link ObjectFactory#snapshot()}.
+ * <p>
+ * Neither is on the copy path: explanations build throwaway plan entries with the matching and
+ * resolution rules of the engine, and snapshots walk its caches.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+final class CopyPlanInspector {
+
+    /**
+     * Rough shallow size, in bytes, of a cache entry: the map node, its key and its value
+     * container, used by {@link #snapshot()} to estimate the heap held by the caches.
+     */
+    private static final int CACHE_ENTRY_BYTES = 112;
+
+    /**
+     * Rough shallow size, in bytes, of a copy plan entry with its inline type cache.
+     */
+    private static final int PLAN_ENTRY_BYTES = 96;
+
+    /**
+     * Rough shallow size, in bytes, of a field key mapping, including the normalized key.
+     */
+    private static final int FIELD_KEY_BYTES = 88;
+
+    private final ObjectFactory objectFactory;
+    private final CopyPlanCompiler planCompiler;
+
+    /**
+     * Creates the inspector of an engine.
+     *
+     * @param objectFactory the engine whose plans and caches are inspected
+     * @param planCompiler  the plan compiler of the engine
+     */
+    CopyPlanInspector(ObjectFactory objectFactory, CopyPlanCompiler planCompiler) {
+        this.objectFactory = objectFactory;
+        this.planCompiler = planCompiler;
+    }
+
+    /**
+     * Explains how objects of a source class are copied into a destination class with the given
+     * options, field by field.
+     *
+     * @param sourceClass the class of the source objects
+     * @param destClass   the class of the destination objects
+     * @param options     the options of the copy; {@code null} keeps every setting of the engine
+     * @return the structured explanation of the copy plan
+     * @throws ApiException if either class is null
+     */
+    CopyPlanExplanation explain(Class<?> sourceClass, Class<?> destClass, CopyOptions options) {
+        if (sourceClass == null || destClass == null) {
+            throw new ApiException("The source and destination classes must not be null.");
+        }
+        List<Field> destFields = CopyPlanCompiler.declaredFields(destClass);
+        List<Field> sourceFields = CopyPlanCompiler.declaredFields(sourceClass);
+        Map<Field, ExclusionReason> exclusions = planCompiler.collectExclusions(sourceFields, sourceClass, destClass,
+                destFields);
+        CopyOptions copyOptions = options != null ? options : CopyOptions.DEFAULT;
+        CopyOptions nestedOptions = objectFactory.intern(copyOptions.nested());
+
+        List<Field> copyableFields = new ArrayList<>(sourceFields);
+        copyableFields.removeAll(exclusions.keySet());
+        Map<String, Field> sourceFieldMap = copyableFields.isEmpty()
+                ? Map.of()
+                : planCompiler.buildFieldKeyMap(copyableFields);
+        Map<String, Field> destFieldMap = destFields.isEmpty() ? Map.of() : planCompiler.buildFieldKeyMap(destFields);
+
+        List<FieldExplanation> copied = new ArrayList<>();
+        List<FieldExplanation> skipped = new ArrayList<>();
+        for (Field sourceField : sourceFields) {
+            String key = CopyPlanCompiler.resolveFieldKey(sourceField);
+            Field destField = destFieldMap.get(key);
+            ExclusionReason exclusion = exclusions.get(sourceField);
+            if (exclusion == null && !sourceField.equals(sourceFieldMap.get(key))) {
+                exclusion = ExclusionReason.DUPLICATE_KEY;
+            } else if (exclusion == null && destField == null) {
+                exclusion = ExclusionReason.NO_MATCHING_FIELD;
+            } else if (exclusion == null && !copyOptions.isProjected(key)) {
+                exclusion = ExclusionReason.PROJECTION;
+            }
+            if (exclusion != null) {
+                skipped.add(new FieldExplanation(key, sourceField, destField, exclusion, null, 0));
+                continue;
+            }
+            FieldCopyPlan fieldPlan = planCompiler.createFieldCopyPlan(sourceField, destField, nestedOptions);
+            TransferStrategy strategy = predictTransfer(fieldPlan);
+            copied.add(strategy != null
+                    ? new FieldExplanation(key, sourceField, destField, null, strategy, estimateCost(fieldPlan, strategy))
+                    : new FieldExplanation(key, sourceField, destField, ExclusionReason.INCOMPATIBLE_TYPES, null, 0));
+        }
+        Set<String> sourceKeys = sourceFields.stream()
+                .map(CopyPlanCompiler::resolveFieldKey)
+                .collect(Collectors.toSet());
+        destFields.stream()
+                .filter(destField -> !sourceKeys.contains(CopyPlanCompiler.resolveFieldKey(destField)))
+                .forEach(destField -> skipped.add(new FieldExplanation(CopyPlanCompiler.resolveFieldKey(destField),
+                        null, destField, ExclusionReason.NO_MATCHING_FIELD, null, 0)));
+
+        copied.addAll(skipped);
+        return new CopyPlanExplanation(sourceClass, destClass, copied);
+    }
+
+    /**
+     * Takes a snapshot of the caches and slow paths of the engine.
+     *
+     * @return the snapshot
+     */
+    CopyEngineSnapshot snapshot() {
+        List<CachedCopyPlan> copyPlans = new ArrayList<>();
+        long estimatedBytes = 0;
+        for (Map.Entry<ClassPairKey, List<FieldCopyPlan>> entry : planCompiler.getCachedCopyPlans().entrySet()) {
+            ClassPairKey key = entry.getKey();
+            List<FieldCopyPlan> copyPlan = entry.getValue();
+            List<String> fallbackFields = copyPlan.stream()
+                    .filter(fieldPlan -> predictTransfer(fieldPlan) == TransferStrategy.JSON_FALLBACK)
+                    .map(fieldPlan -> fieldPlan.sourceField().getName())
+                    .toList();
+            copyPlans.add(new CachedCopyPlan(key.sourceClass(), key.destClass(), key.options(), copyPlan.size(),
+                    fallbackFields));
+            estimatedBytes += CACHE_ENTRY_BYTES + (long) copyPlan.size() * PLAN_ENTRY_BYTES;
+        }
+        for (Map<String, Field> fieldKeys : planCompiler.getCachedFieldKeys()) {
+            estimatedBytes += CACHE_ENTRY_BYTES + (long) fieldKeys.size() * FIELD_KEY_BYTES;
+        }
+        SlowPathDetector detector = objectFactory.getSlowPathDetector();
+        return new CopyEngineSnapshot(copyPlans, planCompiler.getPlanCacheStatistics(),
+                planCompiler.getFieldKeyCacheStatistics(), planCompiler.getPlanCompilations(),
+                planCompiler.getPlanCompilationNanos(), estimatedBytes,
+                detector != null ? detector.snapshot() : List.of());
+    }
+
+    /**
+     * Predicts the transfer strategy of a plan entry from its declared field types, following the
+     * decision chain of the field copies of the engine.
+     * <p>
+     * Nested objects are predicted as if their runtime class were the declared source field type.
+     * </p>
+     *
+     * @param fieldPlan the plan entry
+     * @return the predicted strategy, or {@code null} if the destination field is set to {@code null}
+     */
+    private TransferStrategy predictTransfer(FieldCopyPlan fieldPlan) {
+        Class<?> sourceFieldType = fieldPlan.sourceField().getType();
+        Class<?> destFieldType = fieldPlan.destField().getType();
+        if (fieldPlan.strategy() != null) {
+            return TransferStrategy.CUSTOM;
+        }
+        if (sourceFieldType != destFieldType) {
+            if (sourceFieldType.isEnum() || destFieldType.isEnum()) {
+                return TransferStrategy.ENUM;
+            }
+            if (fieldPlan.converter() != null) {
+                return TransferStrategy.CONVERSION;
+            }
+            if (isClassMapCollection(destFieldType) || isClassMapCollection(sourceFieldType)) {
+                return null;
+            }
+        }
+        if (isPrimitiveOrEnum(sourceFieldType)) {
+            return TransferStrategy.PRIMITIVE;
+        }
+        if (isWrapperType(sourceFieldType)) {
+            return TransferStrategy.WRAPPER;
+        }
+        if (isClassMapCollection(sourceFieldType)) {
+            return TransferStrategy.COLLECTION_MAP;
+        }
+        RuntimeCopyTarget target = objectFactory.createRuntimeTarget(sourceFieldType, destFieldType);
+        if (target.shared()) {
+            return TransferStrategy.SHARED;
+        }
+        if (target.strategy() != null) {
+            return TransferStrategy.CUSTOM;
+        }
+        return target.entity() ? TransferStrategy.ENTITY : TransferStrategy.JSON_FALLBACK;
+    }
+
+    /**
+     * Estimates the cost of copying a field, in relative units where a primitive assignment costs {@code 1}.
+     * <p>
+     * The figures are coarse orders of magnitude: a conversion costs a few assignments, a custom
+     * strategy, a collection copy or an entity copy tens of them, excluding the copy of its elements
+     * or fields, and a serialization round trip about a hundred.
+     * </p>
+     *
+     * @param fieldPlan the plan entry
+     * @param strategy  the predicted strategy
+     * @return the estimated cost
+     */
+    private static int estimateCost(FieldCopyPlan fieldPlan, TransferStrategy strategy) {
+        return switch (strategy) {
+            case PRIMITIVE, SHARED -> 1;
+            case WRAPPER -> {
+                Class<?> sourceFieldType = fieldPlan.sourceField().getType();
+                boolean shared = ClassUtils.isAssignable(sourceFieldType, fieldPlan.destField().getType())
+                        && ImmutabilityAnalyzer.isImmutable(sourceFieldType);
+                yield shared ? 1 : 100;
+            }
+            case ENUM -> {
+                Class<?> destFieldType = fieldPlan.destField().getType();
+                yield 1 + (destFieldType.isEnum() ? destFieldType.getEnumConstants().length : 0);
+            }
+            case CONVERSION -> 5;
+            case CUSTOM, COLLECTION_MAP, ENTITY -> 20;
+            case JSON_FALLBACK -> 100;
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyOptions;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+
+/**
+ * Fluent description of a copy, started by {@link ObjectFactory#copy(Object)}.
+ * <p>
+ * Requests are immutable: {@link #to(Class)} and {@link #with(CopyOptions)} return new
+ * requests, so a partially configured request can be reused.
+ * </p>
+ *
+ * @param <S> the source type
+ * @param <T> the target type
+ * @author gregory.feijon
+ */
+public final class CopyRequest<S, T> {
+
+    private final ObjectFactory objectFactory;
+    private final S source;
+    private final Class<T> targetType;
+    private final CopyOptions options;
+
+    CopyRequest(ObjectFactory objectFactory, S source, Class<T> targetType, CopyOptions options) {
+        this.objectFactory = objectFactory;
+        this.source = source;
+        this.targetType = targetType;
+        this.options = options;
+    }
+
+    /**
+     * Sets the type of the copy.
+     *
+     * @param <U>        the new target type
+     * @param targetType the class of the copy
+     * @return a request creating copies of the given type
+     */
+    public <U> CopyRequest<S, U> to(Class<U> targetType) {
+        return new CopyRequest<>(objectFactory, source, targetType, options);
+    }
+
+    /**
+     * Sets the options of the copy.
+     *
+     * @param options the options of the copy; {@code null} keeps every setting of the engine
+     * @return a request copying with the given options
+     */
+    public CopyRequest<S, T> with(CopyOptions options) {
+        return new CopyRequest<>(objectFactory, source, targetType, options != null ? options : CopyOptions.DEFAULT);
+    }
+
+    /**
+     * Creates the copy.
+     *
+     * @return a new instance of the target type, or of the source's class when no target type was set
+     * @throws ApiException if the source object is null or if an error occurs during copying
+     * @see ObjectFactory#createFromObject(Object, Class, CopyOptions)
+     */
+    @SuppressWarnings("unchecked")
+    public T create() {
+        if (source == null) {
+            throw new ApiException("The object to be copied is null.");
+        }
+        Class<T> type = targetType != null ? targetType : (Class<T>) source.getClass();
+        return objectFactory.createFromObject(source, type, options);
+    }
+
+    /**
+     * Copies the source into an existing object instead of creating one.
+     *
+     * @param dest the destination object
+     * @throws ApiException if an error occurs during copying
+     * @see ObjectFactory#createFromObject(Object, Object, CopyOptions)
+     */
+    public void into(Object dest) {
+        objectFactory.createFromObject(source, dest, options);
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.jfr.BulkCopyEvent;
+import io.github.gregoryfeijon.object.factory.util.utils.spill.DiskBackedList;
+import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerAdapter;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Copies sequences of objects into {@link DiskBackedList}s on behalf of an {@link ObjectFactory},
+ * see {@link ObjectFactory#copyAllObjectsToDisk(Iterable, Class)}.
+ * <p>
+ * Copies are encoded and decoded by the same {@link JsonByteCodec}: the JSON fallback copier of the
+ * engine when it implements it, reading straight from the bytes, or else the serializer adapter.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+final class DiskSpillCopier {
+
+    private final ObjectFactory objectFactory;
+    private final JsonByteCodec codec;
+    private final long heapBudget;
+    private final Path directory;
+
+    /**
+     * Creates the disk spill copier of an engine.
+     *
+     * @param objectFactory the engine copying the objects
+     * @param serializer    the serializer adapter of the engine
+     * @param fallbackCopier the JSON fallback copier of the engine, spilling the copies when it is
+     *                      also a {@link JsonByteCodec}, or {@code null}
+     * @param heapBudget    the default maximum estimated weight, in bytes, of the copies kept decoded in heap
+     * @param directory     the directory of the files backing the lists, or {@code null} for the
+     *                      default temporary-file directory
+     */
+    DiskSpillCopier(ObjectFactory objectFactory, SerializerAdapter serializer, JsonFallbackCopier fallbackCopier,
+                    long heapBudget, Path directory) {
+        this.objectFactory = objectFactory;
+        this.codec = fallbackCopier instanceof JsonByteCodec byteCodec ? byteCodec : adapterCodec(serializer);
+        this.heapBudget = heapBudget;
+        this.directory = directory;
+    }
+
+    /**
+     * Copies every object of a sequence into a disk-backed list with the default heap budget.
+     *
+     * @param <S>            the source type
+     * @param <T>            the target type
+     * @param entitiesToCopy the objects to copy
+     * @param returnType     the class of the target type
+     * @return a disk-backed list containing deep copies of the original objects
+     * @throws ApiException if an argument is null, an object is null or an error occurs during
+     *                      copying or spilling
+     */
+    <S, T> DiskBackedList<T> copyAll(Iterable<S> entitiesToCopy, Class<T> returnType) {
+        return copyAll(entitiesToCopy, returnType, heapBudget);
+    }
+
+    /**
+     * Copies every object of a sequence into a disk-backed list, recording bulk metrics and a
+     * {@link BulkCopyEvent}.
+     *
+     * @param <S>            the source type
+     * @param <T>            the target type
+     * @param entitiesToCopy the objects to copy
+     * @param returnType     the class of the target type
+     * @param heapBudget     the maximum estimated weight, in bytes, of the copies the returned list
+     *                       keeps decoded in heap; {@code 0} decodes every access
+     * @return a disk-backed list containing deep copies of the original objects
+     * @throws ApiException if an argument is null, the budget is negative, an object is null or an
+     *                      error occurs during copying or spilling
+     */
+    <S, T> DiskBackedList<T> copyAll(Iterable<S> entitiesToCopy, Class<T> returnType, long heapBudget) {
+        if (entitiesToCopy == null || returnType == null) {
+            throw new ApiException("The objects to be copied and their return type must not be null.");
+        }
+        BulkCopyEvent event = new BulkCopyEvent();
+        event.begin();
+        long start = objectFactory.startTimer();
+
+        Object first = null;
+        DiskBackedList<T> copies;
+        try (DiskBackedList.Writer<T> writer = DiskBackedList.writer(directory, codec::encode,
+                bytes -> returnType.cast(codec.decode(bytes, returnType)), heapBudget)) {
+            for (S entity : entitiesToCopy) {
+                if (writer.size() == 0) {
+                    first = entity;
+                }
+                writer.add(objectFactory.createFromObject(entity, returnType));
+            }
+            copies = writer.finish();
+        }
+
+        objectFactory.recordBulkCopy(event, start, copies.size(), first, returnType);
+        return copies;
+    }
+
+    /**
+     * Creates the codec encoding and decoding values with a serializer adapter, whose API is textual.
+     *
+     * @param serializer the serializer adapter
+     * @return the codec
+     */
+    private static JsonByteCodec adapterCodec(SerializerAdapter serializer) {
+        return new JsonByteCodec() {
+
+            @Override
+            public byte[] encode(Object value) {
+                return serializer.serialize(value).getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public Object decode(byte[] bytes, Type targetType) {
+                return serializer.deserialize(new String(bytes, StandardCharsets.UTF_8), targetType);
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import com.google.gson.Gson;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link JsonFallbackCopier} that serializes values into a Gson {@link com.google.gson.JsonElement}
+ * tree and deserializes the copy straight from the tree. Spilled copies are written and read
+ * as bytes with the same {@link Gson}.
+ *
+ * @author gregory.feijon
+ */
+@RequiredArgsConstructor
+public class GsonTreeCopier implements JsonFallbackCopier, JsonByteCodec {
+
+    private final Gson gson;
+
+    @Override
+    public Object copy(Object value, Type targetType) {
+        return gson.fromJson(gson.toJsonTree(value), targetType);
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(bytes, StandardCharsets.UTF_8)) {
+            gson.toJson(value, writer);
+        } catch (IOException ex) {
+            throw new ApiException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] bytes, Type targetType) {
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, targetType);
+        } catch (IOException ex) {
+            throw new ApiException(ex);
+        }
+    }
+}
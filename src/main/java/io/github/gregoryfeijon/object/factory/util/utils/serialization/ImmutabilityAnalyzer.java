@@ -0,0 +1,145 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectImmutable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Classifies classes as deeply immutable, so their instances can be shared by reference
+ * instead of being copied.
+ * <p>
+ * A class is deeply immutable when it is:
+ * </p>
+ * <ul>
+ *   <li>annotated with {@link ObjectImmutable}, whose value always takes precedence;</li>
+ *   <li>a primitive, a primitive wrapper, an enum, or one of the known immutable JDK value types
+ *       ({@link String}, {@link BigDecimal}, {@code java.time} types, {@link UUID}, ...);</li>
+ *   <li>an application class, records included, whose instance fields, inherited ones included,
+ *       are all final and declared with deeply immutable types that cannot be subclassed into
+ *       mutable ones (primitives, final classes, records, enums or known JDK value types).</li>
+ * </ul>
+ * <p>
+ * Arrays, other JDK types, interfaces and abstract classes are never considered immutable. The
+ * analysis is conservative for cyclic references: a class reached again while it is being
+ * analyzed is considered mutable. Results are memoized per class.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+final class ImmutabilityAnalyzer {
+
+    private static final Set<Class<?>> IMMUTABLE_JDK_TYPES = Set.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigDecimal.class, BigInteger.class, UUID.class, Locale.class,
+            Currency.class, URI.class, Instant.class, LocalDate.class, LocalTime.class, LocalDateTime.class,
+            OffsetTime.class, OffsetDateTime.class, ZonedDateTime.class, Duration.class, Period.class,
+            Year.class, YearMonth.class, MonthDay.class);
+
+    private static final ThreadLocal<Set<Class<?>>> IN_ANALYSIS = ThreadLocal.withInitial(HashSet::new);
+
+    private static final ClassValue<Boolean> IMMUTABLE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            Set<Class<?>> inAnalysis = IN_ANALYSIS.get();
+            inAnalysis.add(type);
+            try {
+                return analyze(type);
+            } finally {
+                inAnalysis.remove(type);
+            }
+        }
+    };
+
+    private ImmutabilityAnalyzer() {
+    }
+
+    /**
+     * Checks whether instances of a class are deeply immutable.
+     *
+     * @param type the runtime class of the instances
+     * @return {@code true} if the instances can be shared by reference
+     */
+    static boolean isImmutable(Class<?> type) {
+        if (IN_ANALYSIS.get().contains(type)) {
+            return false;
+        }
+        return IMMUTABLE.get(type);
+    }
+
+    private static boolean analyze(Class<?> type) {
+        ObjectImmutable annotation = type.getAnnotation(ObjectImmutable.class);
+        if (annotation != null) {
+            return annotation.value();
+        }
+        if (type.isPrimitive() || type.isEnum() || isImmutableJdkType(type)) {
+            return true;
+        }
+        if (type.isArray() || type.isInterface() || Modifier.isAbstract(type.getModifiers()) || ObjectFactory.isJdkType(type)) {
+            return false;
+        }
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !isImmutableField(field)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a field can only ever hold deeply immutable values.
+     *
+     * @param field an instance field
+     * @return {@code true} if the field is final and its declared type cannot hold mutable instances
+     */
+    private static boolean isImmutableField(Field field) {
+        Class<?> fieldType = field.getType();
+        if (!Modifier.isFinal(field.getModifiers())) {
+            return false;
+        }
+        if (fieldType.isPrimitive() || fieldType.isEnum() || isImmutableJdkType(fieldType)) {
+            return true;
+        }
+        boolean sealedByType = Modifier.isFinal(fieldType.getModifiers())
+                || fieldType.isAnnotationPresent(ObjectImmutable.class);
+        return sealedByType && isImmutable(fieldType);
+    }
+
+    /**
+     * Checks whether a type is one of the known immutable JDK value types.
+     * <p>
+     * {@link ZoneId} is sealed to {@code ZoneOffset} and the internal region class, both
+     * immutable, so it is matched by hierarchy rather than by listing a class that can only be
+     * obtained from a zone identifier.
+     * </p>
+     *
+     * @param type the type to check
+     * @return {@code true} if the type is a known immutable JDK value type
+     */
+    private static boolean isImmutableJdkType(Class<?> type) {
+        return IMMUTABLE_JDK_TYPES.contains(type) || ZoneId.class.isAssignableFrom(type);
+    }
+}
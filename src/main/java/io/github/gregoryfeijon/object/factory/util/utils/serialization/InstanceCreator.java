@@ -0,0 +1,366 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectCreator;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.util.ClassUtils;
+
+import java.beans.ConstructorProperties;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Creates destination instances through a constructor, a static factory method or a builder,
+ * for classes that cannot be created through a no-arg constructor and filled field by field.
+ * <p>
+ * The entry point is resolved once per class, see {@link ObjectCreator}, and invoked through a
+ * cached {@link MethodHandle} with all the copied values at once. Classes with a no-arg
+ * constructor and no {@link ObjectCreator} have no instance creator and keep being filled
+ * through reflective field writes.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+final class InstanceCreator {
+
+    /**
+     * Marker for arguments without a copied value.
+     */
+    private static final Object UNSET = new Object();
+
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private static final ClassValue<Optional<InstanceCreator>> CREATORS = new ClassValue<>() {
+        @Override
+        protected Optional<InstanceCreator> computeValue(Class<?> type) {
+            return Optional.ofNullable(resolve(type));
+        }
+    };
+
+    private final Class<?> type;
+    private final List<Field> fields;
+    private final Map<Field, Integer> parameterIndexes;
+    private final Class<?>[] parameterTypes;
+
+    /**
+     * Creates the instance from all its arguments spread from an {@code Object[]}, or creates the
+     * builder when {@link #setters} is not null.
+     */
+    private final MethodHandle factory;
+    private final MethodHandle[] setters;
+    private final MethodHandle build;
+
+    private InstanceCreator(Class<?> type, List<Field> fields, List<Field> parameters, Class<?>[] parameterTypes,
+                            MethodHandle factory, MethodHandle[] setters, MethodHandle build) {
+        this.type = type;
+        this.fields = fields;
+        this.parameterTypes = parameterTypes;
+        this.factory = factory;
+        this.setters = setters;
+        this.build = build;
+        this.parameterIndexes = new HashMap<>();
+        for (int index = 0; index < parameters.size(); index++) {
+            if (parameters.get(index) != null) {
+                parameterIndexes.putIfAbsent(parameters.get(index), index);
+            }
+        }
+    }
+
+    /**
+     * Returns the instance creator of a class.
+     *
+     * @param type the class to create
+     * @return the instance creator, or {@code null} if the class is created through its no-arg constructor
+     * @throws ApiException if the class declares an invalid {@link ObjectCreator}
+     */
+    static InstanceCreator find(Class<?> type) {
+        return CREATORS.get(type).orElse(null);
+    }
+
+    /**
+     * Returns the created class.
+     *
+     * @return the class whose instances are created
+     */
+    Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the instance fields of the created class, including inherited ones.
+     *
+     * @return the fields, in declaration order from the class up to its superclasses
+     */
+    List<Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the position of the argument receiving a field value.
+     *
+     * @param field a field of the created class
+     * @return the argument index, or {@code -1} if the field cannot be set through the entry point
+     */
+    int indexOf(Field field) {
+        return parameterIndexes.getOrDefault(field, -1);
+    }
+
+    /**
+     * Creates the array of arguments to fill before calling {@link #create(Object[])}.
+     *
+     * @return a new array with every argument unset
+     */
+    Object[] newArguments() {
+        Object[] arguments = new Object[parameterTypes.length];
+        Arrays.fill(arguments, UNSET);
+        return arguments;
+    }
+
+    /**
+     * Creates an instance from the given arguments.
+     * <p>
+     * Unset arguments are passed as {@code null}, or as the default value of primitive parameters;
+     * builder methods are not called for them.
+     * </p>
+     *
+     * @param arguments the arguments created by {@link #newArguments()}
+     * @return the new instance
+     * @throws ApiException if the entry point fails
+     */
+    Object create(Object[] arguments) {
+        try {
+            if (setters == null) {
+                for (int index = 0; index < arguments.length; index++) {
+                    if (arguments[index] == UNSET || arguments[index] == null) {
+                        arguments[index] = ReflectionTypeUtil.defaultValueFor(parameterTypes[index]);
+                    }
+                }
+                return (Object) factory.invokeExact(arguments);
+            }
+            Object builder = (Object) factory.invokeExact(arguments);
+            for (int index = 0; index < arguments.length; index++) {
+                if (arguments[index] != UNSET) {
+                    builder = (Object) setters[index].invokeExact(builder, arguments[index]);
+                }
+            }
+            return (Object) build.invokeExact(builder);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ApiException("Failed creating instance of " + type.getName() + ".", ex);
+        }
+    }
+
+    /**
+     * Resolves the entry point of a class.
+     *
+     * @param type the class to create
+     * @return the instance creator, or {@code null} if the class is created through its no-arg constructor
+     */
+    private static InstanceCreator resolve(Class<?> type) {
+        if (type.isInterface() || type.isArray() || type.isPrimitive() || type.isEnum()
+                || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        List<Field> fields = instanceFields(type);
+        Executable annotated = findAnnotatedEntryPoint(type);
+        if (annotated instanceof Method method && method.getParameterCount() == 0
+                && !ClassUtils.isAssignable(type, method.getReturnType())) {
+            return forBuilder(type, fields, method);
+        }
+        if (annotated != null) {
+            return forExecutable(type, fields, annotated, parameterFields(annotated, fields));
+        }
+        if (type.isRecord()) {
+            RecordComponent[] components = type.getRecordComponents();
+            Class<?>[] componentTypes = Stream.of(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+            List<Field> parameters = Stream.of(components)
+                    .map(component -> findField(fields, component.getName()))
+                    .toList();
+            return forExecutable(type, fields, getDeclaredConstructor(type, componentTypes), parameters);
+        }
+        if (Stream.of(type.getDeclaredConstructors()).anyMatch(constructor -> constructor.getParameterCount() == 0)) {
+            return null;
+        }
+        Class<?>[] fieldTypes = fields.stream().map(Field::getType).toArray(Class<?>[]::new);
+        return Stream.of(type.getDeclaredConstructors())
+                .filter(constructor -> Arrays.equals(constructor.getParameterTypes(), fieldTypes))
+                .findFirst()
+                .map(constructor -> forExecutable(type, fields, constructor, fields))
+                .orElse(null);
+    }
+
+    /**
+     * Finds the constructor or static method annotated with {@link ObjectCreator}.
+     *
+     * @param type the class to inspect
+     * @return the annotated entry point, or {@code null} if there is none
+     * @throws ApiException if several entry points, or an instance method, are annotated
+     */
+    private static Executable findAnnotatedEntryPoint(Class<?> type) {
+        List<Executable> annotated = Stream.concat(Stream.of(type.getDeclaredConstructors()),
+                        Stream.of(type.getDeclaredMethods()))
+                .filter(executable -> executable.isAnnotationPresent(ObjectCreator.class))
+                .toList();
+        if (annotated.isEmpty()) {
+            return null;
+        }
+        if (annotated.size() > 1) {
+            throw new ApiException("Multiple @ObjectCreator entry points declared in " + type.getName() + ".");
+        }
+        Executable entryPoint = annotated.getFirst();
+        if (entryPoint instanceof Method && !Modifier.isStatic(entryPoint.getModifiers())) {
+            throw new ApiException("The @ObjectCreator method " + entryPoint.getName() + " of " + type.getName()
+                    + " must be static.");
+        }
+        return entryPoint;
+    }
+
+    /**
+     * Matches the parameters of a constructor or factory method with the class fields.
+     *
+     * @param executable the constructor or factory method
+     * @param fields     the instance fields of the class
+     * @return the field received by each parameter, {@code null} for parameters without a field
+     * @throws ApiException if the parameter names cannot be resolved
+     */
+    private static List<Field> parameterFields(Executable executable, List<Field> fields) {
+        String[] names = parameterNames(executable);
+        if (names != null) {
+            return Stream.of(names).map(name -> findField(fields, name)).toList();
+        }
+        Class<?>[] fieldTypes = fields.stream().map(Field::getType).toArray(Class<?>[]::new);
+        if (Arrays.equals(executable.getParameterTypes(), fieldTypes)) {
+            return fields;
+        }
+        throw new ApiException("Cannot match the parameters of the @ObjectCreator " + executable.getName()
+                + " with the fields of " + executable.getDeclaringClass().getName()
+                + ". Compile with -parameters or declare the parameters in field order.");
+    }
+
+    private static String[] parameterNames(Executable executable) {
+        ConstructorProperties properties = executable.getAnnotation(ConstructorProperties.class);
+        if (properties != null) {
+            return properties.value();
+        }
+        return switch (executable) {
+            case Constructor<?> constructor -> PARAMETER_NAMES.getParameterNames(constructor);
+            case Method method -> PARAMETER_NAMES.getParameterNames(method);
+        };
+    }
+
+    private static InstanceCreator forExecutable(Class<?> type, List<Field> fields, Executable executable,
+                                                 List<Field> parameters) {
+        MethodHandle handle = unreflect(executable);
+        MethodHandle factory = handle
+                .asSpreader(Object[].class, executable.getParameterCount())
+                .asType(SPREAD_TYPE);
+        return new InstanceCreator(type, fields, parameters, executable.getParameterTypes(), factory, null, null);
+    }
+
+    /**
+     * Creates the instance creator of a class built through a builder.
+     *
+     * @param type           the class to create
+     * @param fields         the instance fields of the class
+     * @param builderFactory the static method returning a new builder
+     * @return the instance creator
+     * @throws ApiException if the builder has no {@code build()} method returning the class
+     */
+    private static InstanceCreator forBuilder(Class<?> type, List<Field> fields, Method builderFactory) {
+        Class<?> builderType = builderFactory.getReturnType();
+        Method buildMethod = findMethod(builderType, "build")
+                .filter(method -> ClassUtils.isAssignable(type, method.getReturnType()))
+                .orElseThrow(() -> new ApiException("The builder " + builderType.getName() + " returned by "
+                        + builderFactory.getName() + " has no build() method creating " + type.getName() + "."));
+
+        List<Field> parameters = new ArrayList<>();
+        List<MethodHandle> setters = new ArrayList<>();
+        for (Field field : fields) {
+            findMethod(builderType, field.getName(), field.getType()).ifPresent(setter -> {
+                parameters.add(field);
+                setters.add(unreflect(setter).asType(MethodType.methodType(Object.class, Object.class, Object.class)));
+            });
+        }
+        MethodHandle factory = MethodHandles.dropArguments(
+                unreflect(builderFactory).asType(MethodType.methodType(Object.class)), 0, Object[].class);
+        Class<?>[] parameterTypes = parameters.stream().map(Field::getType).toArray(Class<?>[]::new);
+        return new InstanceCreator(type, fields, parameters, parameterTypes, factory,
+                setters.toArray(MethodHandle[]::new),
+                unreflect(buildMethod).asType(MethodType.methodType(Object.class, Object.class)));
+    }
+
+    private static Optional<Method> findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        Class<?> current = type;
+        while (current != null && current != Object.class) {
+            try {
+                return Optional.of(current.getDeclaredMethod(name, parameterTypes));
+            } catch (NoSuchMethodException ex) {
+                current = current.getSuperclass();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Constructor<?> getDeclaredConstructor(Class<?> type, Class<?>[] parameterTypes) {
+        try {
+            return type.getDeclaredConstructor(parameterTypes);
+        } catch (NoSuchMethodException ex) {
+            throw new ApiException("No canonical constructor found in " + type.getName() + ".", ex);
+        }
+    }
+
+    private static MethodHandle unreflect(Executable executable) {
+        try {
+            executable.setAccessible(true);
+            return switch (executable) {
+                case Constructor<?> constructor -> MethodHandles.lookup().unreflectConstructor(constructor);
+                case Method method -> MethodHandles.lookup().unreflect(method);
+            };
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            throw new ApiException("Cannot access " + executable.getName() + " of "
+                    + executable.getDeclaringClass().getName() + ".", ex);
+        }
+    }
+
+    private static Field findField(List<Field> fields, String name) {
+        return fields.stream()
+                .filter(field -> field.getName().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Lists the non-static, non-synthetic fields of a class and its superclasses.
+     *
+     * @param type the class to inspect
+     * @return the fields, from the class up to its superclasses
+     */
+    private static List<Field> instanceFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            Stream.of(current.getDeclaredFields())
+                    .filter(field -> !field.isSynthetic() && !Modifier.isStatic(field.getModifiers()))
+                    .forEach(fields::add);
+        }
+        return List.copyOf(fields);
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * {@link JsonFallbackCopier} that serializes values into a Jackson {@link TokenBuffer} and
+ * deserializes the copy straight from the buffered tokens.
+ * <p>
+ * Unlike {@link ObjectMapper#convertValue(Object, Class)}, the round-trip is never skipped
+ * when the value is already an instance of the target type, so the result is always a new
+ * instance. Spilled copies are written and read as bytes with the same mapper.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@RequiredArgsConstructor
+public class JacksonTokenBufferCopier implements JsonFallbackCopier, JsonByteCodec {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Object copy(Object value, Type targetType) {
+        TokenBuffer buffer = new TokenBuffer(objectMapper, false)
+                .forceUseOfBigDecimal(objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+        try (buffer) {
+            objectMapper.writeValue(buffer, value);
+            try (JsonParser parser = buffer.asParser()) {
+                return objectMapper.readValue(parser, objectMapper.constructType(targetType));
+            }
+        } catch (IOException ex) {
+            throw new ApiException(ex);
+        }
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException ex) {
+            throw new ApiException(ex);
+        }
+    }
+
+    @Override
+    public Object decode(byte[] bytes, Type targetType) {
+        try {
+            return objectMapper.readValue(bytes, objectMapper.constructType(targetType));
+        } catch (IOException ex) {
+            throw new ApiException(ex);
+        }
+    }
+}
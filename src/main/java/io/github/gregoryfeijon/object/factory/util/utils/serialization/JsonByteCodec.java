@@ -0,0 +1,36 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import java.lang.reflect.Type;
+
+/**
+ * Encodes values as JSON bytes and decodes them back with the same serializer, used by the copy
+ * engine to spill copies to disk, see {@link ObjectFactory#copyAllObjectsToDisk(Iterable, Class)}.
+ * <p>
+ * When the configured {@link JsonFallbackCopier} also implements this interface, the engine spills
+ * through it, so copies are written and read by the same serializer straight from the bytes.
+ * Otherwise both directions go through the configured serializer adapter.
+ * </p>
+ *
+ * @author gregory.feijon
+ * @see JacksonTokenBufferCopier
+ * @see GsonTreeCopier
+ */
+public interface JsonByteCodec {
+
+    /**
+     * Encodes a value as JSON.
+     *
+     * @param value the non-null value to encode
+     * @return the UTF-8 encoded JSON of the value
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Decodes a value previously encoded by {@link #encode(Object)}.
+     *
+     * @param bytes      the UTF-8 encoded JSON of the value
+     * @param targetType the type of the decoded value
+     * @return the decoded value
+     */
+    Object decode(byte[] bytes, Type targetType);
+}
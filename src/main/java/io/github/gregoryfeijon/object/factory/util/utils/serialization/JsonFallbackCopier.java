@@ -0,0 +1,30 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import java.lang.reflect.Type;
+
+/**
+ * Copies a value through a JSON representation, used by the copy engine for values it cannot
+ * copy field by field.
+ * <p>
+ * By default, the engine serializes the value to a {@code byte[]}, decodes it to a {@code String}
+ * and parses it with the configured serializer adapter. Implementations of this interface stream
+ * the serializer output straight into the deserializer instead, so no textual copy of the
+ * value is ever materialized.
+ * </p>
+ *
+ * @author gregory.feijon
+ * @see JacksonTokenBufferCopier
+ * @see GsonTreeCopier
+ */
+@FunctionalInterface
+public interface JsonFallbackCopier {
+
+    /**
+     * Creates a deep copy of a value through its JSON representation.
+     *
+     * @param value      the non-null value to copy
+     * @param targetType the type of the copy
+     * @return the copy
+     */
+    Object copy(Object value, Type targetType);
+}
@@ -0,0 +1,188 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+import io.github.gregoryfeijon.object.factory.commons.utils.FieldUtil;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.LazyLoadPolicy;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyOptions;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Id;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.CollectionFactory;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves Hibernate proxies and uninitialized persistent collections on behalf of an
+ * {@link ObjectFactory}, according to its {@link LazyLoadPolicy}.
+ * <p>
+ * Uninitialized associations are never loaded: they become entity stubs, empty containers or
+ * {@code null}, depending on the policy. It also looks up the identifier fields of entities,
+ * carried by {@link LazyLoadPolicy#ID_ONLY} stubs and used as merge keys.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@Slf4j
+final class LazyLoadHandler {
+
+    /**
+     * Cache of identifier fields per entity class, bounded by {@code maxClassMetadata}.
+     */
+    private final Map<Class<?>, Optional<Field>> idFieldCache = new ConcurrentHashMap<>();
+
+    private final int maxClassMetadata;
+
+    /**
+     * Handling of uninitialized Hibernate proxies and persistent collections.
+     */
+    private volatile LazyLoadPolicy lazyLoadPolicy;
+
+    /**
+     * Creates the lazy load handler of an engine.
+     *
+     * @param lazyLoadPolicy   the initial policy of the engine
+     * @param maxClassMetadata the maximum number of classes with a cached identifier field
+     */
+    LazyLoadHandler(LazyLoadPolicy lazyLoadPolicy, int maxClassMetadata) {
+        this.lazyLoadPolicy = lazyLoadPolicy;
+        this.maxClassMetadata = maxClassMetadata;
+    }
+
+    /**
+     * Sets the policy applied to the copies whose options do not set one.
+     *
+     * @param policy the lazy load policy
+     */
+    void setLazyLoadPolicy(LazyLoadPolicy policy) {
+        lazyLoadPolicy = policy;
+    }
+
+    /**
+     * Resolves the handling of uninitialized Hibernate associations of a copy.
+     *
+     * @param options the options of the copy
+     * @return the policy set in the options, or the engine's current one
+     */
+    LazyLoadPolicy lazyLoadPolicy(CopyOptions options) {
+        return options.getLazyLoadPolicy() != null ? options.getLazyLoadPolicy() : lazyLoadPolicy;
+    }
+
+    /**
+     * Resolves an uninitialized Hibernate proxy or persistent collection without initializing it.
+     * <p>
+     * Proxies are resolved as described in {@link #unproxy(HibernateProxy, LazyLoadPolicy)};
+     * collections and maps become empty containers matching the destination type, or {@code null}
+     * with {@link LazyLoadPolicy#NULL}. {@link LazyLoadPolicy#SKIP} is left to the caller.
+     * </p>
+     *
+     * @param lazyValue     the uninitialized value
+     * @param destFieldType the declared type of the destination field
+     * @param policy        the lazy load policy being applied
+     * @return an entity stub, an empty collection or map, or {@code null}
+     */
+    Object resolveUninitialized(Object lazyValue, Class<?> destFieldType, LazyLoadPolicy policy) {
+        if (lazyValue instanceof HibernateProxy proxy) {
+            return unproxy(proxy, policy);
+        }
+        return policy == LazyLoadPolicy.NULL ? null : createEmptyContainer(destFieldType);
+    }
+
+    /**
+     * Unwraps a Hibernate proxy to get the underlying object.
+     * <p>
+     * If the proxy is uninitialized, it is not loaded: depending on the {@link LazyLoadPolicy},
+     * a new entity stub is returned ({@link LazyLoadPolicy#EMPTY}, {@link LazyLoadPolicy#ID_ONLY})
+     * or {@code null} ({@link LazyLoadPolicy#NULL}, {@link LazyLoadPolicy#SKIP}).
+     * Otherwise, returns the initialized implementation.
+     * </p>
+     *
+     * @param proxy  the Hibernate proxy to unwrap
+     * @param policy the handling of the proxy if uninitialized
+     * @return the underlying object, an entity stub or {@code null} if uninitialized
+     */
+    Object unproxy(HibernateProxy proxy, LazyLoadPolicy policy) {
+        LazyInitializer li = proxy.getHibernateLazyInitializer();
+        if (li.isUninitialized()) {
+            return policy == LazyLoadPolicy.EMPTY || policy == LazyLoadPolicy.ID_ONLY
+                    ? createLazyStub(li, policy)
+                    : null;
+        }
+        return li.getImplementation();
+    }
+
+    /**
+     * Creates a new instance of the entity class behind an uninitialized proxy, carrying its
+     * identifier when the policy is {@link LazyLoadPolicy#ID_ONLY}.
+     *
+     * @param lazyInitializer the proxy's lazy initializer
+     * @param policy          the lazy load policy being applied
+     * @return a new, detached entity stub
+     */
+    private Object createLazyStub(LazyInitializer lazyInitializer, LazyLoadPolicy policy) {
+        Object stub = BeanUtils.instantiateClass(lazyInitializer.getPersistentClass());
+        if (policy == LazyLoadPolicy.ID_ONLY) {
+            getIdField(stub.getClass()).ifPresentOrElse(
+                    field -> FieldUtil.setProtectedFieldValue(field, stub, lazyInitializer.getIdentifier()),
+                    () -> log.debug("No @Id field found in {}. Copying proxy as an empty instance.",
+                            stub.getClass().getSimpleName()));
+        }
+        return stub;
+    }
+
+    /**
+     * Creates an empty collection or map matching the destination field type.
+     *
+     * @param destFieldType the declared type of the destination field
+     * @return an empty collection or map, or {@code null} if the type is neither or cannot be instantiated
+     */
+    private static Object createEmptyContainer(Class<?> destFieldType) {
+        try {
+            if (Collection.class.isAssignableFrom(destFieldType)) {
+                return CollectionFactory.createCollection(destFieldType, 0);
+            }
+            if (Map.class.isAssignableFrom(destFieldType)) {
+                return CollectionFactory.createMap(destFieldType, 0);
+            }
+        } catch (IllegalArgumentException ex) {
+            log.trace("Could not create empty container of type {}.", destFieldType.getSimpleName());
+        }
+        return null;
+    }
+
+    /**
+     * Returns the field annotated with {@link Id} or {@link EmbeddedId} in the entity class hierarchy,
+     * using cached data when available.
+     *
+     * @param entityClass the entity class
+     * @return the identifier field, or empty if the entity uses property access or has no identifier field
+     */
+    Optional<Field> getIdField(Class<?> entityClass) {
+        Optional<Field> idField = idFieldCache.computeIfAbsent(entityClass,
+                cls -> CopyPlanCompiler.findField(cls, LazyLoadHandler::isIdentifierField));
+        ObjectFactory.evictIfFull(idFieldCache, entityClass, maxClassMetadata);
+        return idField;
+    }
+
+    /**
+     * Checks whether a field is an entity identifier.
+     *
+     * @param field the field to check
+     * @return {@code true} if the field is annotated with {@link Id} or {@link EmbeddedId}
+     */
+    static boolean isIdentifierField(Field field) {
+        return field.isAnnotationPresent(Id.class) || field.isAnnotationPresent(EmbeddedId.class);
+    }
+
+    /**
+     * Discards the cached identifier fields.
+     */
+    void clearCaches() {
+        idFieldCache.clear();
+    }
+}
@@ -0,0 +1,2330 @@
+package io.github.gregoryfeijon.object.factory.util.utils.serialization;
+
+
+import io.github.gregoryfeijon.object.factory.commons.utils.FieldUtil;
+import io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil;
+import io.github.gregoryfeijon.object.factory.util.converter.ConverterRegistry;
+import io.github.gregoryfeijon.object.factory.util.converter.TypeConverter;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.FieldCopyName;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectConstructor;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectCreator;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectImmutable;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectCopyExclude;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectCopyExclusions;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.ExclusionReason;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.LazyLoadPolicy;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.SlowPathKind;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.TransferStrategy;
+import io.github.gregoryfeijon.object.factory.util.domain.model.ClassPairKey;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyEngineSnapshot;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyOptions;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyPlanExplanation;
+import io.github.gregoryfeijon.object.factory.util.domain.model.FieldCopyPlan;
+import io.github.gregoryfeijon.object.factory.util.domain.model.InlineTypeCache;
+import io.github.gregoryfeijon.object.factory.util.domain.model.RuntimeCopyTarget;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.jfr.BulkCopyEvent;
+import io.github.gregoryfeijon.object.factory.util.jfr.ObjectCopyEvent;
+import io.github.gregoryfeijon.object.factory.util.jfr.SerializationFallbackEvent;
+import io.github.gregoryfeijon.object.factory.util.metrics.CopyMetrics;
+import io.github.gregoryfeijon.object.factory.util.metrics.SlowPathDetector;
+import io.github.gregoryfeijon.object.factory.util.strategy.CopyStrategy;
+import io.github.gregoryfeijon.object.factory.util.strategy.CopyStrategyRegistry;
+import io.github.gregoryfeijon.object.factory.util.utils.spill.DiskBackedList;
+import io.github.gregoryfeijon.serializer.provider.util.serialization.SerializationUtil;
+import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerAdapter;
+import io.github.gregoryfeijon.serializer.provider.util.serialization.adapter.SerializerProvider;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.apache.commons.lang3.ClassUtils;
+import org.hibernate.Hibernate;
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.beans.BeanInstantiationException;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.SerializationUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.defaultValueFor;
+import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.isClassMapCollection;
+import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.isPrimitiveOrEnum;
+import static io.github.gregoryfeijon.object.factory.commons.utils.ReflectionTypeUtil.isWrapperType;
+
+/**
+ * Engine for creating deep copies of objects.
+ * <p>
+ * This class provides methods to create copies of objects, including complex objects
+ * with nested structures, collections, and primitive types. It uses a combination of
+ * reflection, serialization, and direct field copying to achieve deep copying.
+ * </p>
+ * <p>
+ * Each instance owns its caches, copy strategies, converters and tuning (cache limits,
+ * parallelism, lazy load policy, copy depth, fallback serializer), so differently tuned
+ * engines can coexist in the same JVM. Instances are created through {@link #builder()}; in
+ * Spring Boot applications one is auto-configured from the {@code object-factory} properties
+ * and installed as the default engine behind {@link ObjectFactoryUtil}. Instances are thread-safe.
+ * </p>
+ * <p>
+ * Key features:
+ * </p>
+ * <ul>
+ *   <li>Deep copying with support for nested objects and collections</li>
+ *   <li>Hibernate proxy unwrapping to avoid lazy initialization issues, with a configurable
+ *       {@link LazyLoadPolicy} for uninitialized associations</li>
+ *   <li>Field-level exclusion via annotations ({@link ObjectCopyExclude}, {@link ObjectCopyExclusions})</li>
+ *   <li>Class-level exclusion via {@link ObjectConstructor#exclude()}</li>
+ *   <li>Custom field name mapping via {@link FieldCopyName}</li>
+ *   <li>Performance optimization through reflection caching</li>
+ *   <li>Type conversion support (e.g., enum to string, wrapper to primitive, numeric, date/time
+ *       and collection to array) via {@link ConverterRegistry}</li>
+ *   <li>Optional instrumentation through {@link CopyMetrics} and Java Flight Recorder events</li>
+ *   <li>Pluggable per-type copy logic via {@link CopyStrategy}</li>
+ *   <li>Sharing of deeply immutable objects by reference, see {@link ObjectImmutable}</li>
+ *   <li>Explanation of the copy plan of a class pair through {@link #explain(Class, Class)}</li>
+ *   <li>Identifier-keyed merge of collections into existing, possibly persistent, collections</li>
+ *   <li>Per-copy {@link CopyOptions} (depth, null handling, lazy load policy, parallelism, projection
+ *       and JSON fallback) through the fluent {@link #copy(Object)} API</li>
+ *   <li>Reusable typed {@link Copier} handles for hot class pairs, see {@link #copier(Class, Class)}</li>
+ *   <li>Parallel and fork/join copies of large objects, collections and maps</li>
+ *   <li>Copies of large sequences spilled to disk, see {@link #copyAllObjectsToDisk(Iterable, Class)}</li>
+ *   <li>Cache and slow path inspection through {@link #snapshot()}</li>
+ * </ul>
+ * <p>
+ * Copy plans are compiled and cached by a {@code CopyPlanCompiler}, Hibernate proxies and lazy
+ * associations are resolved by a {@code LazyLoadHandler}, and whole collections, disk spills and
+ * explanations are delegated to the {@code CollectionCopier}, {@code DiskSpillCopier} and
+ * {@code CopyPlanInspector} of the engine.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+@SuppressWarnings("java:S6204")
+//warning for .toList() suppressed, as it does not apply to this engine
+@Slf4j
+public class ObjectFactory {
+
+    /**
+     * Default maximum number of entries of each cache.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    /**
+     * Default minimum number of fields for an object's fields to be copied in parallel.
+     */
+    public static final int DEFAULT_FIELD_PARALLEL_THRESHOLD = 32;
+
+    /**
+     * Default maximum estimated weight, in bytes, of the elements a {@link DiskBackedList} keeps decoded in heap.
+     */
+    public static final long DEFAULT_SPILL_HEAP_BUDGET = 16L * 1024 * 1024;
+
+    /**
+     * Number of fork/join tasks per worker thread a large collection or map is split into,
+     * leaving room for work stealing between unevenly sized elements.
+     */
+    private static final int FORK_SURPLUS = 4;
+
+    /**
+     * Marker returned for fields that must be left untouched in the destination object.
+     */
+    private static final Object SKIP_FIELD = new Object();
+
+    /**
+     * Set while a thread runs a chunk of a parallel copy submitted to an executor, or a fork/join copy task.
+     */
+    private static final ThreadLocal<Boolean> IN_EXECUTOR_TASK = new ThreadLocal<>();
+
+    /**
+     * JDK collection and map implementations that cannot be modified after creation.
+     * <p>
+     * Unmodifiable views, such as {@link Collections#unmodifiableList(List)}, are not included:
+     * the collection they wrap can still be modified through another reference.
+     * </p>
+     */
+    private static final Set<Class<?>> IMMUTABLE_CONTAINER_TYPES = Stream.of(
+                    List.of(), List.of(1), List.of(1, 2, 3), List.of(1, 2, 3).subList(0, 2),
+                    Set.of(), Set.of(1), Set.of(1, 2, 3), Map.of(), Map.of(1, 1), Map.of(1, 1, 2, 2),
+                    Collections.emptyList(), Collections.emptySet(), Collections.emptyMap(),
+                    Collections.emptySortedSet(), Collections.emptySortedMap(),
+                    Collections.singletonList(1), Collections.singleton(1), Collections.singletonMap(1, 1))
+            .map(Object::getClass)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final SerializerAdapter serializer;
+
+    /**
+     * Streaming copier used by the JSON fallback instead of the serializer round-trip, if any.
+     */
+    private final JsonFallbackCopier jsonFallbackCopier;
+
+    /**
+     * Copy targets per (runtime class, declared destination type) pair, shared by the plan
+     * entries whose {@link InlineTypeCache} turned megamorphic. Bounded by {@code maxClassMetadata}.
+     */
+    private final Map<ClassPairKey, RuntimeCopyTarget> runtimeTargetCache = new ConcurrentHashMap<>();
+
+    /**
+     * Canonical instances of the copy options used so far, so that plan cache keys compare them by reference.
+     */
+    private final Map<CopyOptions, CopyOptions> internedOptions = new ConcurrentHashMap<>();
+
+    /**
+     * Custom copy strategies, initially populated through {@link java.util.ServiceLoader}.
+     */
+    private final CopyStrategyRegistry copyStrategies;
+
+    /**
+     * Converters applied between source and destination fields of different types.
+     */
+    private final ConverterRegistry converters;
+
+    private final CopyPlanCompiler planCompiler;
+    private final LazyLoadHandler lazyLoadHandler;
+    private final CollectionCopier collectionCopier;
+    private final DiskSpillCopier diskSpillCopier;
+    private final CopyPlanInspector inspector;
+
+    private final int maxCopyPlans;
+    private final int maxClassMetadata;
+    private final int maxDepth;
+    private final int fieldParallelThreshold;
+    private final int parallelism;
+    private final int forkThreshold;
+    private final Executor executor;
+
+    /**
+     * Instrumentation hooks for copy operations.
+     * <p>
+     * Defaults to {@link CopyMetrics#NOOP}, which records nothing; timing is only measured
+     * when an enabled implementation has been installed via {@link #setMetrics(CopyMetrics)}.
+     * </p>
+     */
+    private volatile CopyMetrics metrics;
+
+    /**
+     * Detector of the values copied through serialization, or {@code null} when slow paths are not tracked.
+     */
+    private volatile SlowPathDetector slowPathDetector;
+
+    /**
+     * Creates a copy engine. Every argument is optional; {@code null} selects the default.
+     *
+     * @param serializer             the serializer reading back JSON fallback copies; defaults to
+     *                               {@link SerializerProvider#getAdapter()}
+     * @param jsonFallbackCopier     the copier streaming JSON fallback copies without a textual
+     *                               round-trip; defaults to none, using {@code serializer}
+     * @param metrics                the instrumentation; defaults to {@link CopyMetrics#NOOP}
+     * @param lazyLoadPolicy         the handling of uninitialized Hibernate associations; defaults to
+     *                               {@link LazyLoadPolicy#EMPTY}
+     * @param maxCopyPlans           the maximum number of cached copy plans; defaults to
+     *                               {@value #DEFAULT_CACHE_SIZE}
+     * @param maxClassMetadata       the maximum number of classes with cached field metadata; defaults to
+     *                               {@value #DEFAULT_CACHE_SIZE}
+     * @param maxDepth               the maximum nesting depth copied, see {@link #createFromObject(Object, Object)};
+     *                               defaults to unlimited
+     * @param fieldParallelThreshold the minimum number of fields for an object's fields to be copied in
+     *                               parallel; defaults to {@value #DEFAULT_FIELD_PARALLEL_THRESHOLD}
+     * @param bulkParallelThreshold  the minimum number of elements for a collection to be copied in
+     *                               parallel; defaults to never
+     * @param parallelism            the number of tasks parallel copies are split into when an
+     *                               {@code executor} is set; defaults to the number of available processors
+     * @param executor               the executor running parallel copies; defaults to the common
+     *                               {@link java.util.concurrent.ForkJoinPool} through parallel streams
+     * @param spillHeapBudget        the maximum estimated weight, in bytes, of the elements a list
+     *                               returned by {@link #copyAllObjectsToDisk(Iterable, Class)} keeps
+     *                               decoded in heap; defaults to {@value #DEFAULT_SPILL_HEAP_BUDGET}
+     * @param spillDirectory         the directory of the files backing such lists; defaults to the
+     *                               default temporary-file directory
+     * @param slowPathDetector       the detector of the values copied through serialization; defaults
+     *                               to none
+     * @param forkThreshold          the minimum number of elements of a nested collection or map, or of
+     *                               the collections and maps held by one object, for their copy to be
+     *                               split into fork/join tasks; defaults to never
+     * @param awaitPendingPlans      whether callers missing a copy plan that another thread is compiling
+     *                               wait for it, instead of compiling an uncached plan of their own;
+     *                               defaults to {@code false}
+     */
+    @Builder
+    public ObjectFactory(SerializerAdapter serializer, JsonFallbackCopier jsonFallbackCopier,
+                         CopyMetrics metrics, LazyLoadPolicy lazyLoadPolicy,
+                         Integer maxCopyPlans, Integer maxClassMetadata, Integer maxDepth,
+                         Integer fieldParallelThreshold, Integer bulkParallelThreshold, Integer parallelism,
+                         Executor executor, Long spillHeapBudget, Path spillDirectory,
+                         SlowPathDetector slowPathDetector, Integer forkThreshold, Boolean awaitPendingPlans) {
+        this.serializer = serializer != null ? serializer : SerializerProvider.getAdapter();
+        this.jsonFallbackCopier = jsonFallbackCopier;
+        this.metrics = metrics != null ? metrics : CopyMetrics.NOOP;
+        this.maxCopyPlans = positiveOrDefault(maxCopyPlans, DEFAULT_CACHE_SIZE);
+        this.maxClassMetadata = positiveOrDefault(maxClassMetadata, DEFAULT_CACHE_SIZE);
+        this.maxDepth = maxDepth != null && maxDepth >= 0 ? maxDepth : Integer.MAX_VALUE;
+        this.fieldParallelThreshold = positiveOrDefault(fieldParallelThreshold, DEFAULT_FIELD_PARALLEL_THRESHOLD);
+        this.parallelism = positiveOrDefault(parallelism, Runtime.getRuntime().availableProcessors());
+        this.forkThreshold = positiveOrDefault(forkThreshold, Integer.MAX_VALUE);
+        this.executor = executor;
+        this.slowPathDetector = slowPathDetector;
+        this.copyStrategies = CopyStrategyRegistry.fromServiceLoader(ObjectFactory.class.getClassLoader());
+        this.converters = new ConverterRegistry(this::copyArrayElement);
+        this.planCompiler = new CopyPlanCompiler(this, copyStrategies, converters, this.maxCopyPlans,
+                this.maxClassMetadata, awaitPendingPlans != null && awaitPendingPlans);
+        this.lazyLoadHandler = new LazyLoadHandler(lazyLoadPolicy != null ? lazyLoadPolicy : LazyLoadPolicy.EMPTY,
+                this.maxClassMetadata);
+        this.collectionCopier = new CollectionCopier(this, planCompiler, lazyLoadHandler,
+                positiveOrDefault(bulkParallelThreshold, Integer.MAX_VALUE));
+        this.diskSpillCopier = new DiskSpillCopier(this, this.serializer, jsonFallbackCopier,
+                spillHeapBudget != null && spillHeapBudget >= 0 ? spillHeapBudget : DEFAULT_SPILL_HEAP_BUDGET,
+                spillDirectory);
+        this.inspector = new CopyPlanInspector(this, planCompiler);
+    }
+
+    /**
+     * Installs the instrumentation used by all subsequent copy operations.
+     *
+     * @param copyMetrics the metrics implementation; {@code null} restores {@link CopyMetrics#NOOP}
+     */
+    public void setMetrics(CopyMetrics copyMetrics) {
+        metrics = copyMetrics != null ? copyMetrics : CopyMetrics.NOOP;
+    }
+
+    /**
+     * Installs the detector of the values copied through serialization by all subsequent copy operations.
+     *
+     * @param detector the slow path detector; {@code null} stops tracking slow paths
+     */
+    public void setSlowPathDetector(SlowPathDetector detector) {
+        slowPathDetector = detector;
+    }
+
+    /**
+     * Returns the detector of the values copied through serialization, exposing the slow paths
+     * hit so far.
+     *
+     * @return the slow path detector, or {@code null} when slow paths are not tracked
+     */
+    public SlowPathDetector getSlowPathDetector() {
+        return slowPathDetector;
+    }
+
+    /**
+     * Takes a snapshot of the caches and slow paths of the engine.
+     * <p>
+     * The snapshot lists every cached copy plan with the fields predicted to be copied through
+     * the JSON fallback, the lookup statistics of the plan and field key caches, a rough estimate
+     * of the heap they hold and the slow paths tracked by the {@link SlowPathDetector}, if any.
+     * It is meant for occasional inspection, as it walks both caches.
+     * </p>
+     *
+     * @return the snapshot
+     */
+    public CopyEngineSnapshot snapshot() {
+        return inspector.snapshot();
+    }
+
+    /**
+     * Evicts the cached copy plans of a class pair, for every combination of options.
+     * <p>
+     * The plans are compiled again on their next use. {@link Copier} handles keep the plan they
+     * already resolved.
+     * </p>
+     *
+     * @param sourceClass the source class, or {@code null} for any source class
+     * @param destClass   the destination class, or {@code null} for any destination class
+     * @return the number of evicted plans
+     */
+    public int evictCopyPlans(Class<?> sourceClass, Class<?> destClass) {
+        return planCompiler.evictCopyPlans(sourceClass, destClass);
+    }
+
+    /**
+     * Clears every cache of the engine: copy plans, field metadata and runtime copy targets.
+     * <p>
+     * {@link Copier} handles resolve their plan again on their next copy. The cache statistics
+     * are kept.
+     * </p>
+     */
+    public void clearCaches() {
+        planCompiler.clearCaches();
+        runtimeTargetCache.clear();
+        lazyLoadHandler.clearCaches();
+    }
+
+    /**
+     * Sets the handling of uninitialized Hibernate proxies and persistent collections for all
+     * subsequent copy operations.
+     *
+     * @param policy the lazy load policy; {@code null} restores {@link LazyLoadPolicy#EMPTY}
+     */
+    public void setLazyLoadPolicy(LazyLoadPolicy policy) {
+        lazyLoadHandler.setLazyLoadPolicy(policy != null ? policy : LazyLoadPolicy.EMPTY);
+    }
+
+    /**
+     * Registers a custom copy strategy for all subsequent copy operations.
+     * <p>
+     * Cached copy plans are discarded when the strategy is added, so it also applies to class
+     * pairs that have already been copied.
+     * </p>
+     *
+     * @param strategy the strategy to register
+     * @throws ApiException if the strategy is null
+     */
+    public void registerCopyStrategy(CopyStrategy strategy) {
+        if (strategy == null) {
+            throw new ApiException("The copy strategy is null.");
+        }
+        if (copyStrategies.register(strategy)) {
+            planCompiler.invalidateCopyPlans();
+            runtimeTargetCache.clear();
+        }
+    }
+
+    /**
+     * Registers a converter used when a source field of {@code sourceType} is copied into a
+     * destination field of {@code targetType}, taking precedence over the built-in conversions.
+     * <p>
+     * Cached copy plans are discarded, so the converter also applies to class pairs that
+     * have already been copied.
+     * </p>
+     *
+     * @param <S>        the source type
+     * @param <T>        the destination type
+     * @param sourceType the source field type
+     * @param targetType the destination field type
+     * @param converter  the conversion function, called with non-null values only
+     * @throws ApiException if any argument is null
+     */
+    public <S, T> void registerConverter(Class<S> sourceType, Class<T> targetType,
+                                                Function<? super S, ? extends T> converter) {
+        if (sourceType == null || targetType == null || converter == null) {
+            throw new ApiException("The converter types and function must not be null.");
+        }
+        converters.register(sourceType, targetType, converter);
+        planCompiler.invalidateCopyPlans();
+    }
+
+    /**
+     * Bridges the Spring {@link ConversionService} for type pairs not covered by the built-in converters.
+     * <p>
+     * Cached copy plans are discarded, so the bridge also applies to class pairs that
+     * have already been copied.
+     * </p>
+     *
+     * @param conversionService the conversion service, or {@code null} to remove the bridge
+     */
+    public void setConversionService(ConversionService conversionService) {
+        converters.setConversionService(conversionService);
+        planCompiler.invalidateCopyPlans();
+    }
+
+    /**
+     * Creates deep copies of all objects in a collection.
+     * <p>
+     * This method creates a new list containing deep copies of all objects in the provided collection.
+     * Each object is copied to a new instance of the same type.
+     * </p>
+     *
+     * @param <T>            the type of objects in the collection
+     * @param entitiesToCopy the collection of objects to copy
+     * @return a list containing deep copies of the original objects
+     * @throws ApiException if the collection is empty or if an error occurs during copying
+     */
+    public <T> List<T> copyAllObjectsFromCollection(Collection<T> entitiesToCopy) {
+        verifyCollection(entitiesToCopy);
+        return collectionCopier.copyAll(entitiesToCopy, createCopy(), Collectors.toList(), null, false);
+    }
+
+    /**
+     * Creates deep copies of all objects in a collection, converting them to a different type.
+     * <p>
+     * This method creates a new list containing deep copies of all objects in the provided collection.
+     * Each object is converted to the specified return type. The return type does not need to be
+     * the same as the source type; fields with matching names will be copied.
+     * </p>
+     *
+     * @param <T>            the type of the resulting collection elements
+     * @param entitiesToCopy the collection of objects to copy
+     * @param returnType     the class of the target type
+     * @return a list containing deep copies of the original objects, converted to the target type
+     * @throws ApiException if the collection is empty or if an error occurs during copying
+     */
+    public <T> List<T> copyAllObjectsFromCollection(Collection<?> entitiesToCopy, Class<T> returnType) {
+        verifyCollection(entitiesToCopy);
+        return collectionCopier.copyAll(entitiesToCopy, createCopy(returnType), Collectors.toList(), returnType, false);
+    }
+
+    /**
+     * Creates deep copies of all objects in a collection and returns them in a custom collection type.
+     * <p>
+     * This method allows you to specify the type of collection to return (e.g., HashSet, LinkedList).
+     * The returned collection is populated with deep copies of all objects from the source collection.
+     * </p>
+     *
+     * @param <T>            the type of objects in the collection
+     * @param <U>            the type of the resulting collection, created by the supplier
+     * @param entitiesToCopy the collection of objects to copy
+     * @param supplier       a supplier that creates the target collection
+     * @return a collection of the specified type containing deep copies of the original objects
+     * @throws ApiException if the collection is empty, supplier is null, or an error occurs during copying
+     */
+    public <T, U extends Collection<T>> U copyAllObjectsFromCollection(Collection<T> entitiesToCopy,
+                                                                              Supplier<U> supplier) {
+        verifyCollectionAndSupplier(entitiesToCopy, supplier);
+        return collectionCopier.copyAll(entitiesToCopy, createCopy(), Collectors.toCollection(supplier), null, false);
+    }
+
+    /**
+     * Creates deep copies of all objects in a collection, converting them to a different type
+     * and returning them in a custom collection type.
+     * <p>
+     * This method combines type conversion with custom collection type specification. Each object
+     * is converted to the target type and added to a collection created by the supplier.
+     * </p>
+     *
+     * @param <T>            the target type for converted objects
+     * @param <S>            the source type of objects in the collection
+     * @param <U>            the type of the resulting collection
+     * @param entitiesToCopy the collection of objects to copy
+     * @param supplier       a supplier that creates the target collection
+     * @param returnType     the class of the target type
+     * @return a collection of the specified type containing deep copies of the original objects
+     * @throws ApiException if the collection is empty, supplier is null, or an error occurs during copying
+     */
+    public <T, S, U extends Collection<T>> U copyAllObjectsFromCollection(Collection<S> entitiesToCopy,
+                                                                                 Supplier<U> supplier, Class<T> returnType) {
+        verifyCollectionAndSupplier(entitiesToCopy, supplier);
+        return collectionCopier.copyAll(entitiesToCopy, createCopy(returnType), Collectors.toCollection(supplier),
+                returnType, false);
+    }
+
+    /**
+     * Creates deep copies of all objects of a sequence, converting them to a different type, and
+     * spills the copies to disk instead of holding them in heap.
+     * <p>
+     * Each object is copied through its cached copy plan, encoded as JSON and appended to a memory-mapped temporary file, so only one copy at a time is
+     * held in heap while copying. The returned list decodes the copies on access, keeping the
+     * most recently used ones within the configured {@code spillHeapBudget}, see
+     * {@link DiskBackedList}. The source is traversed once, so it may itself be streamed, for
+     * example from a database cursor. Copies are encoded and decoded by the JSON fallback copier
+     * when it is a {@link JsonByteCodec}, or else by the serializer, so they must be readable by it.
+     * </p>
+     * <p>
+     * The caller owns the returned list and should {@link DiskBackedList#close() close} it once
+     * done with it, to delete its files.
+     * </p>
+     *
+     * @param <S>            the source type
+     * @param <T>            the target type
+     * @param entitiesToCopy the objects to copy
+     * @param returnType     the class of the target type
+     * @return a disk-backed list containing deep copies of the original objects
+     * @throws ApiException if an argument is null, an object is null or an error occurs during
+     *                      copying or spilling
+     */
+    public <S, T> DiskBackedList<T> copyAllObjectsToDisk(Iterable<S> entitiesToCopy, Class<T> returnType) {
+        return diskSpillCopier.copyAll(entitiesToCopy, returnType);
+    }
+
+    /**
+     * Creates deep copies of all objects of a sequence, converting them to a different type, and
+     * spills the copies to disk, with a specific heap budget.
+     * <p>
+     * See {@link #copyAllObjectsToDisk(Iterable, Class)}.
+     * </p>
+     *
+     * @param <S>            the source type
+     * @param <T>            the target type
+     * @param entitiesToCopy the objects to copy
+     * @param returnType     the class of the target type
+     * @param heapBudget     the maximum estimated weight, in bytes, of the copies the returned list
+     *                       keeps decoded in heap; {@code 0} decodes every access
+     * @return a disk-backed list containing deep copies of the original objects
+     * @throws ApiException if an argument is null, the budget is negative, an object is null or an
+     *                      error occurs during copying or spilling
+     */
+    public <S, T> DiskBackedList<T> copyAllObjectsToDisk(Iterable<S> entitiesToCopy, Class<T> returnType,
+                                                         long heapBudget) {
+        return diskSpillCopier.copyAll(entitiesToCopy, returnType, heapBudget);
+    }
+
+    /**
+     * Creates deep copies of all values of a map, converting them to a different type and keeping
+     * their keys.
+     * <p>
+     * The keys are kept as is. The copies are gathered in a map presized to the source size: a
+     * {@code TreeMap} with the same comparator for sorted maps, an {@code EnumMap} for enum maps
+     * and a {@code LinkedHashMap} otherwise, so the encounter order of the source is preserved.
+     * Null values stay null. Maps with at least {@code bulkParallelThreshold} entries are copied
+     * in parallel, like collections.
+     * </p>
+     *
+     * @param <K>        the key type
+     * @param <S>        the source value type
+     * @param <T>        the target value type
+     * @param mapToCopy  the map whose values are copied
+     * @param returnType the class of the target value type
+     * @return a new map with the same keys and deep copies of the original values
+     * @throws ApiException if the map is empty or if an error occurs during copying
+     */
+    public <K, S, T> Map<K, T> copyAllValuesFromMap(Map<K, S> mapToCopy, Class<T> returnType) {
+        verifyMap(mapToCopy);
+        Map<K, T> copies = CollectionFactory.createApproximateMap(mapToCopy, mapToCopy.size());
+        if (copies instanceof LinkedHashMap<K, T>) {
+            copies = LinkedHashMap.newLinkedHashMap(mapToCopy.size());
+        }
+        return collectionCopier.copyAllEntries(mapToCopy, Function.identity(), createCopy(returnType), copies,
+                returnType);
+    }
+
+    /**
+     * Creates deep copies of all values of a map, converting them to a different type, and
+     * returns them with their keys in a custom map type.
+     * <p>
+     * Follows {@link #copyAllValuesFromMap(Map, Class)}, except that the copies are put into the
+     * map created by the supplier, in the encounter order of the source.
+     * </p>
+     *
+     * @param <K>        the key type
+     * @param <S>        the source value type
+     * @param <T>        the target value type
+     * @param <M>        the type of the resulting map, created by the supplier
+     * @param mapToCopy  the map whose values are copied
+     * @param supplier   a supplier that creates the target map
+     * @param returnType the class of the target value type
+     * @return a map of the specified type with the same keys and deep copies of the original values
+     * @throws ApiException if the map is empty, supplier is null, or an error occurs during copying
+     */
+    public <K, S, T, M extends Map<K, T>> M copyAllValuesFromMap(Map<K, S> mapToCopy, Supplier<M> supplier,
+                                                                 Class<T> returnType) {
+        verifyMapAndSupplier(mapToCopy, supplier);
+        return collectionCopier.copyAllEntries(mapToCopy, Function.identity(), createCopy(returnType), supplier.get(),
+                returnType);
+    }
+
+    /**
+     * Creates deep copies of all entries of a map, converting both keys and values.
+     * <p>
+     * Keys follow the rules of map keys nested in copied objects: keys that are not instances of
+     * the key type are converted or copied into it, immutable keys are kept as is and other keys
+     * are deep copied. Values are copied like in {@link #copyAllValuesFromMap(Map, Class)}.
+     * Sorted maps are copied into a {@code TreeMap} ordered by the natural order of the copied
+     * keys, since the source comparator may not apply to them; other maps are copied into a
+     * presized {@code LinkedHashMap}. Keys whose copies are equal collapse into one entry.
+     * </p>
+     *
+     * @param <L>        the target key type
+     * @param <T>        the target value type
+     * @param mapToCopy  the map whose entries are copied
+     * @param keyType    the class of the target key type
+     * @param returnType the class of the target value type
+     * @return a new map with deep copies of the original keys and values
+     * @throws ApiException if the map is empty, the key type is null or an error occurs during copying
+     */
+    public <L, T> Map<L, T> copyAllEntriesFromMap(Map<?, ?> mapToCopy, Class<L> keyType, Class<T> returnType) {
+        verifyMap(mapToCopy);
+        if (keyType == null) {
+            throw new ApiException("The specified key type is null.");
+        }
+        ResolvableType resolvableKeyType = ResolvableType.forClass(keyType);
+        Map<L, T> copies = mapToCopy instanceof SortedMap<?, ?>
+                ? new TreeMap<>()
+                : LinkedHashMap.newLinkedHashMap(mapToCopy.size());
+        return collectionCopier.copyAllEntries(mapToCopy,
+                key -> keyType.cast(copyElement(key, resolvableKeyType, 1, CopyOptions.DEFAULT)),
+                createCopy(returnType), copies, returnType);
+    }
+
+    /**
+     * Verifies that both a collection and a supplier are non-null.
+     *
+     * @param <T>            the type of objects in the collection
+     * @param <U>            the type of collection to be created by the supplier
+     * @param entitiesToCopy the collection to verify
+     * @param supplier       the supplier to verify
+     * @throws ApiException if either the collection is empty or the supplier is null
+     */
+    private static <T, U> void verifyCollectionAndSupplier(Collection<T> entitiesToCopy, Supplier<U> supplier) {
+        verifyCollection(entitiesToCopy);
+        if (supplier == null) {
+            throw new ApiException("The specified collection type for return is null.");
+        }
+    }
+
+    /**
+     * Verifies that a collection is not empty.
+     *
+     * @param <T>            the type of objects in the collection
+     * @param entitiesToCopy the collection to verify
+     * @throws ApiException if the collection is empty
+     */
+    private static <T> void verifyCollection(Collection<T> entitiesToCopy) {
+        if (CollectionUtils.isEmpty(entitiesToCopy)) {
+            throw new ApiException("The collection to be copied has no elements.");
+        }
+    }
+
+    /**
+     * Verifies that both a map and a supplier are non-null.
+     *
+     * @param <M>       the type of map to be created by the supplier
+     * @param mapToCopy the map to verify
+     * @param supplier  the supplier to verify
+     * @throws ApiException if either the map is empty or the supplier is null
+     */
+    private static <M> void verifyMapAndSupplier(Map<?, ?> mapToCopy, Supplier<M> supplier) {
+        verifyMap(mapToCopy);
+        if (supplier == null) {
+            throw new ApiException("The specified map type for return is null.");
+        }
+    }
+
+    /**
+     * Verifies that a map is not empty.
+     *
+     * @param mapToCopy the map to verify
+     * @throws ApiException if the map is empty
+     */
+    private static void verifyMap(Map<?, ?> mapToCopy) {
+        if (CollectionUtils.isEmpty(mapToCopy)) {
+            throw new ApiException("The map to be copied has no entries.");
+        }
+    }
+
+    /**
+     * Reads the clock only when the installed metrics are enabled.
+     *
+     * @return the current {@link System#nanoTime()}, or {@code 0} when metrics are disabled
+     */
+    long startTimer() {
+        return metrics.isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the bulk metrics and commits the {@link BulkCopyEvent} of a finished bulk copy.
+     *
+     * @param event      the began event
+     * @param start      the start time returned by {@link #startTimer()}
+     * @param count      the number of copied elements or map values
+     * @param first      the first copied element or map value
+     * @param returnType the requested element type, or {@code null} for same-type copies
+     */
+    void recordBulkCopy(BulkCopyEvent event, long start, int count, Object first, Class<?> returnType) {
+        CopyMetrics copyMetrics = metrics;
+        if (copyMetrics.isEnabled()) {
+            copyMetrics.recordBulkCopy(count, System.nanoTime() - start);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            Class<?> sourceClass = first != null ? first.getClass() : null;
+            event.setSourceClass(sourceClass);
+            event.setDestinationClass(returnType != null ? returnType : sourceClass);
+            event.setElementCount(count);
+            event.commit();
+        }
+    }
+
+    /**
+     * Runs an action for every index in {@code [0, size)}, sequentially or in parallel.
+     * <p>
+     * Parallel runs use the common {@link java.util.concurrent.ForkJoinPool} when no executor is
+     * configured. Otherwise, the indexes are split into {@code parallelism} contiguous chunks
+     * submitted to the executor, and the calling thread waits for all of them. The first failure
+     * is rethrown unwrapped. Nested parallel runs started from an executor task, such as the
+     * fields of an element copied by a parallel bulk copy, run sequentially, since blocking on a
+     * bounded executor from one of its own threads could deadlock.
+     * </p>
+     *
+     * @param size     the number of indexes
+     * @param parallel whether the indexes may be processed concurrently
+     * @param action   the action to run for each index
+     */
+    void forEachIndex(int size, boolean parallel, IntConsumer action) {
+        if (!parallel || Boolean.TRUE.equals(IN_EXECUTOR_TASK.get())) {
+            for (int index = 0; index < size; index++) {
+                action.accept(index);
+            }
+            return;
+        }
+        if (executor == null) {
+            IntStream.range(0, size).parallel().forEach(action);
+            return;
+        }
+        int chunkSize = Math.ceilDiv(size, parallelism);
+        List<CompletableFuture<Void>> chunks = new ArrayList<>(parallelism);
+        for (int from = 0; from < size; from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, size);
+            chunks.add(CompletableFuture.runAsync(() -> {
+                IN_EXECUTOR_TASK.set(Boolean.TRUE);
+                try {
+                    for (int index = start; index < end; index++) {
+                        action.accept(index);
+                    }
+                } finally {
+                    IN_EXECUTOR_TASK.remove();
+                }
+            }, executor));
+        }
+        try {
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Runs an action for every entry of an object's copy plan.
+     * <p>
+     * Objects holding at least {@code forkThreshold} elements across several collection and map
+     * fields have each field copied by its own fork/join task, since those fields are independent
+     * subtrees of the object graph. Otherwise, the fields are copied in parallel only when there
+     * are at least {@code fieldParallelThreshold} of them. Sequential copies, see
+     * {@link CopyOptions#isSequential()}, copy the fields one after the other.
+     * </p>
+     *
+     * @param copyPlan the compiled copy plan of the object
+     * @param source   the source object
+     * @param options  the interned options of the copy
+     * @param action   the action to run for each index of the copy plan
+     */
+    private void forEachField(List<FieldCopyPlan> copyPlan, Object source, CopyOptions options, IntConsumer action) {
+        if (options.isSequential()) {
+            forEachIndex(copyPlan.size(), false, action);
+        } else if (hasLargeSubtrees(copyPlan, source)) {
+            forkEachIndex(copyPlan.size(), 1, action);
+        } else {
+            forEachIndex(copyPlan.size(), copyPlan.size() >= fieldParallelThreshold, action);
+        }
+    }
+
+    /**
+     * Checks whether an object holds at least {@code forkThreshold} elements in two or more
+     * collection and map fields. Uninitialized Hibernate collections are not counted, so they
+     * are never loaded by the check.
+     *
+     * @param copyPlan the compiled copy plan of the object
+     * @param source   the source object
+     * @return {@code true} if the fields of the object should be copied by fork/join tasks
+     */
+    private boolean hasLargeSubtrees(List<FieldCopyPlan> copyPlan, Object source) {
+        if (forkThreshold == Integer.MAX_VALUE) {
+            return false;
+        }
+        long elements = 0;
+        int containers = 0;
+        for (FieldCopyPlan fieldPlan : copyPlan) {
+            if (fieldPlan.strategy() != null || !isClassMapCollection(fieldPlan.sourceField().getType())) {
+                continue;
+            }
+            Object value = FieldUtil.getProtectedFieldValue(fieldPlan.sourceField(), source);
+            int size = switch (value) {
+                case Collection<?> collection when Hibernate.isInitialized(collection) -> collection.size();
+                case Map<?, ?> map when Hibernate.isInitialized(map) -> map.size();
+                case null, default -> 0;
+            };
+            if (size > 0) {
+                elements += size;
+                containers++;
+            }
+        }
+        return containers > 1 && elements >= forkThreshold;
+    }
+
+    /**
+     * Runs an action for every index in {@code [0, size)} through fork/join tasks.
+     * <p>
+     * The range of indexes is split in halves until each task holds at most {@code leafSize}
+     * indexes, and idle workers steal the pending halves. Tasks run in the executor when it is a
+     * {@link ForkJoinPool}, in the pool of the calling worker when called from a fork/join task,
+     * and in the common pool otherwise. Nested copies forked by a task join the same pool, while
+     * the other parallel copies they start run sequentially, see {@link #forEachIndex(int, boolean, IntConsumer)}.
+     * The first failure is rethrown unwrapped once every task is done.
+     * </p>
+     *
+     * @param size     the number of indexes
+     * @param leafSize the maximum number of indexes handled by one task, or {@code 0} to derive
+     *                 it from the parallelism of the pool
+     * @param action   the action to run for each index
+     */
+    private void forkEachIndex(int size, int leafSize, IntConsumer action) {
+        boolean inPool = ForkJoinTask.inForkJoinPool();
+        ForkJoinPool pool = inPool ? ForkJoinTask.getPool()
+                : executor instanceof ForkJoinPool forkJoinPool ? forkJoinPool : ForkJoinPool.commonPool();
+        int leaf = leafSize > 0 ? leafSize : Math.max(1, size / (pool.getParallelism() * FORK_SURPLUS));
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        ForkedRange task = new ForkedRange(action, failure, 0, size, leaf);
+        if (inPool) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    /**
+     * Creates a function that produces a deep copy of an object.
+     *
+     * @param <T> the type of objects to copy
+     * @return a function that creates deep copies
+     */
+    private <T> Function<T, T> createCopy() {
+        return this::createFromObject;
+    }
+
+    /**
+     * Creates a function that produces a deep copy of an object, converting it to a different type.
+     *
+     * @param <T>        the target type
+     * @param <S>        the source type
+     * @param returnType the class of the target type
+     * @return a function that creates deep copies with type conversion
+     */
+    private <T, S> Function<S, T> createCopy(Class<T> returnType) {
+        return i -> createFromObject(i, returnType);
+    }
+
+    /**
+     * Creates a deep copy of an object, converting it to a different type.
+     * <p>
+     * This method creates a new instance of the target type and copies
+     * all matching fields from the source object to the new instance.
+     * </p>
+     * <p>
+     * Records, classes without a no-arg constructor and classes declaring an
+     * {@link ObjectCreator} are created through their constructor, factory method or builder,
+     * with all the copied values at once.
+     * </p>
+     *
+     * @param <T>        the target type
+     * @param <S>        the source type
+     * @param source     the source object to copy
+     * @param returnType the class of the target type
+     * @return a new instance of the target type with copied fields
+     * @throws ApiException if the source object is null or if an error occurs during copying
+     */
+    public <T, S> T createFromObject(S source, Class<T> returnType) {
+        return createFromObject(source, returnType, CopyOptions.DEFAULT);
+    }
+
+    /**
+     * Creates a deep copy of an object, converting it to a different type, with the given options.
+     * <p>
+     * Works like {@link #createFromObject(Object, Class)}, with the settings of the engine
+     * overridden by the options. Each combination of options gets its own copy plans.
+     * </p>
+     *
+     * @param <T>        the target type
+     * @param <S>        the source type
+     * @param source     the source object to copy
+     * @param returnType the class of the target type
+     * @param options    the options of the copy; {@code null} keeps every setting of the engine
+     * @return a new instance of the target type with copied fields
+     * @throws ApiException if the source object is null or if an error occurs during copying
+     * @see #copy(Object)
+     */
+    public <T, S> T createFromObject(S source, Class<T> returnType, CopyOptions options) {
+        verifySourceObject(source);
+        return returnType.cast(createRootInstance(source, returnType, intern(options)));
+    }
+
+    /**
+     * Creates a deep copy of an object of the same type.
+     * <p>
+     * This method creates a new instance of the same class as the source object
+     * and copies all fields from the source to the new instance, see
+     * {@link #createFromObject(Object, Class)}.
+     * </p>
+     *
+     * @param <T>    the type of the object
+     * @param source the object to copy
+     * @return a deep copy of the source object
+     * @throws ApiException if the source object is null or if an error occurs during copying
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T createFromObject(T source) {
+        verifySourceObject(source);
+        return (T) createRootInstance(source, source.getClass(), CopyOptions.DEFAULT);
+    }
+
+    /**
+     * Copies all fields from a source object to a destination object.
+     * <p>
+     * This method is the core implementation of the object copying functionality.
+     * It handles different types of fields, including primitive types, collections,
+     * and nested objects. The copying process:
+     * </p>
+     * <ul>
+     *   <li>Maps corresponding fields between source and destination</li>
+     *   <li>Unwraps Hibernate proxies to avoid lazy initialization issues</li>
+     *   <li>Performs type conversion when necessary</li>
+     *   <li>Recursively copies nested objects and collections</li>
+     *   <li>Respects field exclusion annotations</li>
+     * </ul>
+     *
+     * <p>
+     * Objects and collections nested deeper than the configured maximum depth are not copied:
+     * with a depth of {@code 0}, only the simple fields of the source object are copied; with a
+     * depth of {@code 1}, the objects and collections it references are copied as well, but
+     * only with their simple fields; and so on. Objects copied through the JSON fallback are
+     * copied whole.
+     * </p>
+     * <p>
+     * The fields of objects with at least {@code fieldParallelThreshold} copyable fields are
+     * copied in parallel.
+     * </p>
+     *
+     * @param <S>    the source type
+     * @param <T>    the destination type
+     * @param source the source object
+     * @param dest   the destination object
+     * @throws ApiException if an error occurs during copying
+     */
+    public <T, S> void createFromObject(S source, T dest) {
+        createFromObject(source, dest, CopyOptions.DEFAULT);
+    }
+
+    /**
+     * Copies all fields from a source object to a destination object, with the given options.
+     * <p>
+     * Works like {@link #createFromObject(Object, Object)}, with the settings of the engine
+     * overridden by the options. With {@link CopyOptions#isIgnoreNulls()}, the destination
+     * fields whose source value is {@code null} keep their current value.
+     * </p>
+     *
+     * @param <S>     the source type
+     * @param <T>     the destination type
+     * @param source  the source object
+     * @param dest    the destination object
+     * @param options the options of the copy; {@code null} keeps every setting of the engine
+     * @throws ApiException if an error occurs during copying
+     * @see #copy(Object)
+     */
+    public <T, S> void createFromObject(S source, T dest, CopyOptions options) {
+        verifySourceAndDestObjects(source, dest);
+        CopyOptions internedOptions = intern(options);
+        copyRootInto(source, dest, planCompiler.getCopyPlan(source.getClass(), dest.getClass(), internedOptions),
+                internedOptions);
+    }
+
+    /**
+     * Starts a fluent copy of an object.
+     * <p>
+     * For example, {@code objectFactory.copy(order).to(OrderDto.class).with(options).create()}
+     * creates an {@code OrderDto} from {@code order} with the given {@link CopyOptions}, and
+     * {@code objectFactory.copy(order).into(existing)} copies {@code order} into an existing object.
+     * </p>
+     *
+     * @param <S>    the source type
+     * @param source the object to copy
+     * @return a same-type copy request of the object, with the default options
+     */
+    public <S> CopyRequest<S, S> copy(S source) {
+        return new CopyRequest<>(this, source, null, CopyOptions.DEFAULT);
+    }
+
+    /**
+     * Creates a reusable copier between two classes.
+     * <p>
+     * The copier holds the copy plan of the class pair, resolved on creation, so its copies skip
+     * the plan cache lookup. Copiers are thread-safe and meant to be kept, for example in a
+     * {@code static final} field, by the call sites copying the same class pair repeatedly.
+     * </p>
+     *
+     * @param <S>        the source type
+     * @param <T>        the destination type
+     * @param sourceType the class of the source objects
+     * @param destType   the class of the copies
+     * @return the copier
+     * @throws ApiException if either class is null
+     */
+    public <S, T> Copier<S, T> copier(Class<S> sourceType, Class<T> destType) {
+        return copier(sourceType, destType, CopyOptions.DEFAULT);
+    }
+
+    /**
+     * Creates a reusable copier between two classes copying with the given options, see
+     * {@link #copier(Class, Class)}.
+     *
+     * @param <S>        the source type
+     * @param <T>        the destination type
+     * @param sourceType the class of the source objects
+     * @param destType   the class of the copies
+     * @param options    the options of the copies; {@code null} keeps every setting of the engine
+     * @return the copier
+     * @throws ApiException if either class is null
+     */
+    public <S, T> Copier<S, T> copier(Class<S> sourceType, Class<T> destType, CopyOptions options) {
+        if (sourceType == null || destType == null) {
+            throw new ApiException("The source and destination classes must not be null.");
+        }
+        return new Copier<>(this, sourceType, destType, intern(options));
+    }
+
+    /**
+     * Explains how objects of a source class are copied into a destination class, field by field.
+     * <p>
+     * The report is built from the same matching, exclusion and strategy resolution rules as the
+     * copy plans, without copying anything or touching the plan cache. For every field, it gives
+     * the logical key after {@link FieldCopyName} resolution, the matched source and destination
+     * fields, the reason why the field is not copied, if any, the {@link TransferStrategy}
+     * predicted from the declared field types and an estimated cost. A non-empty
+     * {@code fieldsUsing(TransferStrategy.JSON_FALLBACK)} is the usual sign of a slow class pair.
+     * </p>
+     *
+     * @param sourceClass the class of the source objects
+     * @param destClass   the class of the destination objects
+     * @return the structured explanation of the copy plan
+     * @throws ApiException if either class is null
+     */
+    public CopyPlanExplanation explain(Class<?> sourceClass, Class<?> destClass) {
+        return explain(sourceClass, destClass, CopyOptions.DEFAULT);
+    }
+
+    /**
+     * Explains how objects of a source class are copied into a destination class with the given
+     * options, see {@link #explain(Class, Class)}. Root fields left out by the projection of the
+     * options are reported with {@link ExclusionReason#PROJECTION}.
+     *
+     * @param sourceClass the class of the source objects
+     * @param destClass   the class of the destination objects
+     * @param options     the options of the copy; {@code null} keeps every setting of the engine
+     * @return the structured explanation of the copy plan
+     * @throws ApiException if either class is null
+     */
+    public CopyPlanExplanation explain(Class<?> sourceClass, Class<?> destClass, CopyOptions options) {
+        return inspector.explain(sourceClass, destClass, options);
+    }
+
+    /**
+     * Merges a collection of source objects into an existing destination collection, matching
+     * the elements by their {@link Id} or {@link EmbeddedId} field.
+     *
+     * @param <S>           the source element type
+     * @param <T>           the destination element type
+     * @param sources       the source objects
+     * @param destination   the collection to update in place
+     * @param elementType   the class of the destination elements
+     * @param removeOrphans whether destination elements matched by no source are removed
+     * @throws ApiException if any argument is null, the element type has no identifier field, or a
+     *                      source key is missing or cannot be converted to the identifier type
+     * @see #mergeCollection(Collection, Collection, Class, String, boolean)
+     */
+    public <S, T> void mergeCollection(Collection<S> sources, Collection<T> destination, Class<T> elementType,
+                                       boolean removeOrphans) {
+        mergeCollection(sources, destination, elementType, null, removeOrphans);
+    }
+
+    /**
+     * Merges a collection of source objects into an existing destination collection, matching
+     * the elements by a key field.
+     * <p>
+     * The destination elements are indexed by key once, so each source is matched in constant
+     * time. Matched sources are copied into the existing instances, as in
+     * {@link #createFromObject(Object, Object)}; unmatched sources, including those without a
+     * key, are copied into new instances added to the collection. The destination collection
+     * itself is updated in place, so Hibernate persistent collections keep their identity, and so
+     * do the persistent collections and maps of the matched elements: nested collections of
+     * elements with an {@link Id} or {@link EmbeddedId} field are merged by identifier, removing
+     * orphans, and the contents of the others are replaced.
+     * </p>
+     * <p>
+     * The source key is read from the source field sharing the logical name of the destination
+     * key field, considering {@link FieldCopyName}, and converted to the destination key type
+     * when they differ. Uninitialized Hibernate proxies in the destination are matched by their
+     * identifier, and only initialized when a source is copied into them.
+     * </p>
+     *
+     * @param <S>           the source element type
+     * @param <T>           the destination element type
+     * @param sources       the source objects; {@code null} elements are ignored
+     * @param destination   the collection to update in place
+     * @param elementType   the class of the destination elements
+     * @param keyField      the logical name of the destination key field, or {@code null} to use
+     *                      its {@link Id} or {@link EmbeddedId} field
+     * @param removeOrphans whether destination elements matched by no source are removed
+     * @throws ApiException if any collection or the element type is null, the key field is not found
+     *                      in the element type or in a source class, or a source key cannot be
+     *                      converted to the destination key type
+     */
+    public <S, T> void mergeCollection(Collection<S> sources, Collection<T> destination, Class<T> elementType,
+                                       String keyField, boolean removeOrphans) {
+        collectionCopier.merge(sources, destination, elementType, keyField, removeOrphans);
+    }
+
+    /**
+     * Creates a new instance of the destination class from a root source object, recording the
+     * copy in the metrics and as an {@link ObjectCopyEvent}.
+     * <p>
+     * Only root objects, passed to a public entry point or a {@link Copier}, are recorded: the
+     * nested objects and elements they reference are part of their copy.
+     * </p>
+     *
+     * @param source    the root source object
+     * @param destClass the class of the new instance
+     * @param options   the interned options of the copy
+     * @return the new instance
+     */
+    Object createRootInstance(Object source, Class<?> destClass, CopyOptions options) {
+        InstanceCreator creator = InstanceCreator.find(destClass);
+        if (creator != null) {
+            return createRootInstance(source, creator,
+                    planCompiler.getCopyPlan(source.getClass(), destClass, options), options);
+        }
+        Object dest = BeanUtils.instantiateClass(destClass);
+        copyRootInto(source, dest, planCompiler.getCopyPlan(source.getClass(), dest.getClass(), options), options);
+        return dest;
+    }
+
+    /**
+     * Creates a new instance through an {@link InstanceCreator} from a root source object following
+     * a resolved copy plan, see {@link #createRootInstance(Object, Class, CopyOptions)}.
+     *
+     * @param source   the root source object
+     * @param creator  the instance creator of the destination class
+     * @param copyPlan the copy plan of the source and destination classes
+     * @param options  the interned options the copy plan was compiled with
+     * @return the new instance
+     */
+    Object createRootInstance(Object source, InstanceCreator creator, List<FieldCopyPlan> copyPlan,
+                              CopyOptions options) {
+        ObjectCopyEvent event = new ObjectCopyEvent();
+        event.begin();
+        long start = startTimer();
+
+        Object dest = createInstance(source, creator, copyPlan, 1, options);
+
+        recordObjectCopy(event, start, source.getClass(), creator.getType(), copyPlan.size());
+        return dest;
+    }
+
+    /**
+     * Copies all fields from a root source object to a destination object following a resolved
+     * copy plan, recording the copy in the metrics and as an {@link ObjectCopyEvent}, see
+     * {@link #createRootInstance(Object, Class, CopyOptions)}.
+     *
+     * @param source   the root source object
+     * @param dest     the destination object
+     * @param copyPlan the copy plan of the source and destination classes
+     * @param options  the interned options the copy plan was compiled with
+     */
+    void copyRootInto(Object source, Object dest, List<FieldCopyPlan> copyPlan, CopyOptions options) {
+        ObjectCopyEvent event = new ObjectCopyEvent();
+        event.begin();
+        long start = startTimer();
+
+        copyInto(source, dest, copyPlan, 1, options);
+
+        recordObjectCopy(event, start, source.getClass(), dest.getClass(), copyPlan.size());
+    }
+
+    /**
+     * Copies all fields from a source object to a destination object at the given nesting depth.
+     *
+     * @param <S>     the source type
+     * @param <T>     the destination type
+     * @param source  the source object
+     * @param dest    the destination object
+     * @param depth   the nesting depth of the source object's fields, {@code 1} for the root object
+     * @param options the interned options of the copy
+     */
+    private <T, S> void copyInto(S source, T dest, int depth, CopyOptions options) {
+        copyInto(source, dest, planCompiler.getCopyPlan(source.getClass(), dest.getClass(), options), depth, options);
+    }
+
+    /**
+     * Copies all fields from a source object to a destination object following a resolved copy plan.
+     *
+     * @param source   the source object
+     * @param dest     the destination object
+     * @param copyPlan the copy plan of the source and destination classes
+     * @param depth    the nesting depth of the source object's fields, {@code 1} for the root object
+     * @param options  the interned options the copy plan was compiled with
+     */
+    private void copyInto(Object source, Object dest, List<FieldCopyPlan> copyPlan, int depth, CopyOptions options) {
+        forEachField(copyPlan, source, options, index -> {
+            FieldCopyPlan fieldPlan = copyPlan.get(index);
+            Object sourceValue = copyField(fieldPlan, source, depth);
+            if (sourceValue != SKIP_FIELD) {
+                FieldUtil.setProtectedFieldValue(fieldPlan.destField(), dest, sourceValue);
+            }
+        });
+    }
+
+    /**
+     * Creates a new instance of the destination class from a source object at the given nesting depth.
+     * <p>
+     * Classes with an {@link InstanceCreator} receive all the copied values at once through their
+     * constructor, factory method or builder; values skipped by the {@link LazyLoadPolicy} are
+     * left unset. Other classes are instantiated through their no-arg constructor and filled by
+     * {@link #copyInto(Object, Object, int, CopyOptions)}.
+     * </p>
+     *
+     * @param <S>       the source type
+     * @param source    the source object
+     * @param destClass the class of the new instance
+     * @param depth     the nesting depth of the source object's fields, {@code 1} for the root object
+     * @param options   the interned options of the copy
+     * @return the new instance
+     */
+    private <S> Object createInstance(S source, Class<?> destClass, int depth, CopyOptions options) {
+        InstanceCreator creator = InstanceCreator.find(destClass);
+        if (creator == null) {
+            Object dest = BeanUtils.instantiateClass(destClass);
+            copyInto(source, dest, depth, options);
+            return dest;
+        }
+        return createInstance(source, creator, planCompiler.getCopyPlan(source.getClass(), destClass, options),
+                depth, options);
+    }
+
+    /**
+     * Creates a new instance through an {@link InstanceCreator} following a resolved copy plan,
+     * see {@link #createInstance(Object, Class, int, CopyOptions)}.
+     *
+     * @param source   the source object
+     * @param creator  the instance creator of the destination class
+     * @param copyPlan the copy plan of the source and destination classes
+     * @param depth    the nesting depth of the source object's fields, {@code 1} for the root object
+     * @param options  the interned options the copy plan was compiled with
+     * @return the new instance
+     */
+    private Object createInstance(Object source, InstanceCreator creator, List<FieldCopyPlan> copyPlan, int depth,
+                                  CopyOptions options) {
+        Object[] arguments = creator.newArguments();
+        forEachField(copyPlan, source, options, index -> {
+            FieldCopyPlan fieldPlan = copyPlan.get(index);
+            int argumentIndex = creator.indexOf(fieldPlan.destField());
+            if (argumentIndex >= 0) {
+                Object sourceValue = copyField(fieldPlan, source, depth);
+                if (sourceValue != SKIP_FIELD) {
+                    arguments[argumentIndex] = sourceValue;
+                }
+            }
+        });
+        return creator.create(arguments);
+    }
+
+    /**
+     * Records a completed root object copy in the metrics and as an {@link ObjectCopyEvent}.
+     *
+     * @param event       the event started before copying
+     * @param start       the start time returned by {@link #startTimer()}
+     * @param sourceClass the class of the source object
+     * @param destClass   the class of the destination object
+     * @param fieldCount  the number of fields in the copy plan
+     */
+    private void recordObjectCopy(ObjectCopyEvent event, long start, Class<?> sourceClass, Class<?> destClass,
+                                  int fieldCount) {
+        CopyMetrics copyMetrics = metrics;
+        if (copyMetrics.isEnabled()) {
+            copyMetrics.recordCopy(sourceClass, destClass, System.nanoTime() - start);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.setSourceClass(sourceClass);
+            event.setDestinationClass(destClass);
+            event.setFieldCount(fieldCount);
+            event.commit();
+        }
+    }
+
+    /**
+     * Copies a single field value according to its compiled plan entry.
+     * <p>
+     * Uninitialized Hibernate associations are resolved according to the {@link LazyLoadPolicy}
+     * without being loaded, and initialized proxies are unwrapped. The proxies held by collections
+     * and maps are unwrapped while their elements are copied, in a single pass, see
+     * {@link #copyCollectionMap(Object, ResolvableType, int, CopyOptions)}; entries bound to a
+     * {@link CopyStrategy} hand it that copy. Other entries bound to a strategy delegate to it
+     * directly; all the others go through the built-in decision chain in
+     * {@link #verifyValue(FieldCopyPlan, Object, int)}.
+     * </p>
+     *
+     * @param <S>       the type of the source object
+     * @param fieldPlan the compiled plan entry for the field
+     * @param source    the source object instance
+     * @param depth     the nesting depth of the field
+     * @return the value to be set in the destination field, or {@link #SKIP_FIELD}
+     */
+    private <S> Object copyField(FieldCopyPlan fieldPlan, S source, int depth) {
+        Object sourceValue = FieldUtil.getProtectedFieldValue(fieldPlan.sourceField(), source);
+        if (sourceValue == null && fieldPlan.options().isIgnoreNulls()) {
+            return SKIP_FIELD;
+        }
+        if (!Hibernate.isInitialized(sourceValue)) {
+            return copyUninitializedValue(fieldPlan, sourceValue, depth);
+        }
+        if (sourceValue instanceof HibernateProxy proxy) {
+            sourceValue = proxy.getHibernateLazyInitializer().getImplementation();
+        }
+        if (fieldPlan.strategy() != null && (sourceValue instanceof Collection<?> || sourceValue instanceof Map<?, ?>)) {
+            // the strategy receives the elements unwrapped by the single-pass copy
+            sourceValue = copyCollectionMap(sourceValue, ResolvableType.forField(fieldPlan.sourceField()), depth,
+                    fieldPlan.options());
+        }
+        return copyResolvedValue(fieldPlan, sourceValue, depth);
+    }
+
+    /**
+     * Copies an unproxied source value, through the plan entry's {@link CopyStrategy} when present.
+     *
+     * @param fieldPlan   the compiled plan entry for the field
+     * @param sourceValue the unproxied value read from the source field
+     * @param depth       the nesting depth of the field
+     * @return the value to be set in the destination field
+     */
+    private Object copyResolvedValue(FieldCopyPlan fieldPlan, Object sourceValue, int depth) {
+        CopyStrategy strategy = fieldPlan.strategy();
+        if (strategy == null) {
+            return verifyValue(fieldPlan, sourceValue, depth);
+        }
+        metrics.recordTransfer(TransferStrategy.CUSTOM);
+        if (sourceValue == null) {
+            return null;
+        }
+        return strategy.copy(sourceValue, fieldPlan.destField().getType());
+    }
+
+    /**
+     * Resolves the destination value of an uninitialized Hibernate proxy or persistent collection
+     * according to the current {@link LazyLoadPolicy}, without initializing it, see
+     * {@link LazyLoadHandler#resolveUninitialized(Object, Class, LazyLoadPolicy)}. Entity stubs are
+     * copied like any other resolved value.
+     *
+     * @param fieldPlan the compiled plan entry for the field
+     * @param lazyValue the uninitialized value read from the source field
+     * @param depth     the nesting depth of the field
+     * @return the value to be set in the destination field, or {@link #SKIP_FIELD}
+     */
+    private Object copyUninitializedValue(FieldCopyPlan fieldPlan, Object lazyValue, int depth) {
+        LazyLoadPolicy policy = lazyLoadHandler.lazyLoadPolicy(fieldPlan.options());
+        return switch (policy) {
+            case SKIP -> SKIP_FIELD;
+            case NULL -> null;
+            case EMPTY, ID_ONLY -> {
+                Object resolved = lazyLoadHandler.resolveUninitialized(lazyValue, fieldPlan.destField().getType(),
+                        policy);
+                yield lazyValue instanceof HibernateProxy ? copyResolvedValue(fieldPlan, resolved, depth) : resolved;
+            }
+        };
+    }
+
+    /**
+     * Verifies that both source and destination objects are non-null.
+     *
+     * @param <T>    the type of the destination object
+     * @param <S>    the type of the source object
+     * @param source the source object
+     * @param dest   the destination object
+     * @throws ApiException if either object is null
+     */
+    private static <T, S> void verifySourceAndDestObjects(S source, T dest) {
+        verifySourceObject(source);
+        if (dest == null) {
+            throw new ApiException("The destination object is null.");
+        }
+    }
+
+    /**
+     * Verifies that the source object to be copied is non-null.
+     *
+     * @param <S>    the type of the source object
+     * @param source the source object
+     * @throws ApiException if the source object is null
+     */
+    private static <S> void verifySourceObject(S source) {
+        if (source == null) {
+            throw new ApiException("The object to be copied is null.");
+        }
+    }
+
+    /**
+     * Evicts arbitrary entries from a cache until it fits its maximum size.
+     * <p>
+     * Eviction is cheap and approximate: cached data can always be recomputed, and the
+     * limit only guards against unbounded growth with many distinct classes.
+     * </p>
+     *
+     * @param <K>         the cache key type
+     * @param cache       the cache to trim
+     * @param retainedKey the key that was just used, which is never evicted
+     * @param maxSize     the maximum number of entries
+     */
+    static <K> void evictIfFull(Map<K, ?> cache, K retainedKey, int maxSize) {
+        Iterator<K> keys = cache.keySet().iterator();
+        while (cache.size() > maxSize && keys.hasNext()) {
+            if (!keys.next().equals(retainedKey)) {
+                keys.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the given value when positive, or the default value otherwise.
+     *
+     * @param value        the configured value, may be {@code null}
+     * @param defaultValue the default value
+     * @return the value to use
+     */
+    private static int positiveOrDefault(Integer value, int defaultValue) {
+        return value != null && value > 0 ? value : defaultValue;
+    }
+
+    /**
+     * Returns the instrumentation currently installed.
+     *
+     * @return the copy metrics, {@link CopyMetrics#NOOP} when none is installed
+     */
+    CopyMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the compiler and cache of the copy plans of the engine.
+     *
+     * @return the plan compiler
+     */
+    CopyPlanCompiler getPlanCompiler() {
+        return planCompiler;
+    }
+
+    /**
+     * Returns the copier of whole collections and maps of the engine.
+     *
+     * @return the collection copier
+     */
+    CollectionCopier getCollectionCopier() {
+        return collectionCopier;
+    }
+
+    /**
+     * Resolves the converter between two types from the registered converters and the bridged
+     * {@link ConversionService}, if any.
+     *
+     * @param sourceType the type of the values to convert
+     * @param targetType the type to convert them to
+     * @return the converter, or {@code null} if none applies
+     */
+    TypeConverter resolveConverter(Class<?> sourceType, Class<?> targetType) {
+        return converters.resolve(sourceType, targetType);
+    }
+
+    /**
+     * Returns the canonical instance of the given copy options, so that equal options share
+     * their copy plans and compare by reference in the plan cache keys.
+     *
+     * @param options the options of a copy, may be {@code null}
+     * @return the interned options; {@link CopyOptions#DEFAULT} for {@code null} or default options
+     */
+    CopyOptions intern(CopyOptions options) {
+        if (options == null || options == CopyOptions.DEFAULT || options.equals(CopyOptions.DEFAULT)) {
+            return CopyOptions.DEFAULT;
+        }
+        CopyOptions interned = internedOptions.computeIfAbsent(options, Function.identity());
+        evictIfFull(internedOptions, options, maxCopyPlans);
+        return interned;
+    }
+
+    /**
+     * Resolves the maximum nesting depth of a copy.
+     *
+     * @param options the options of the copy
+     * @return the depth set in the options, or the engine's
+     */
+    private int maxDepth(CopyOptions options) {
+        return options.getMaxDepth() != null ? options.getMaxDepth() : maxDepth;
+    }
+
+    /**
+     * Fails a copy that would go through the JSON fallback when its options forbid it.
+     * Values of simple types, cloned through Java serialization, are always allowed.
+     *
+     * @param options     the options of the copy
+     * @param targetType  the type the value would be deserialized into
+     * @param description supplies the description of the value for the error message
+     * @throws ApiException if the options forbid the JSON fallback
+     */
+    private static void verifyJsonFallbackAllowed(CopyOptions options, Class<?> targetType,
+                                                  Supplier<String> description) {
+        if (options.isFailOnJsonFallback() && !ReflectionTypeUtil.isSimpleType(targetType)) {
+            throw new ApiException("The " + description.get() + " would be copied through the JSON fallback,"
+                    + " which the copy options forbid.");
+        }
+    }
+
+    /**
+     * Verifies and processes the value to be copied, handling special cases where source and
+     * destination field types differ.
+     * <p>
+     * This method handles several type conversion scenarios:
+     * </p>
+     * <ul>
+     *   <li>Wrapper to primitive conversions (and vice versa); a primitive default value becomes
+     *   {@code null} in a wrapper field only when no converter applies, as for its own wrapper type</li>
+     *   <li>Enum to String conversions (and vice versa)</li>
+     *   <li>Enum to Enum conversions (matching by name)</li>
+     *   <li>Conversions resolved in the plan by the {@link ConverterRegistry}</li>
+     *   <li>Other Collection and Map types (returns null for manual handling)</li>
+     * </ul>
+     *
+     * @param fieldPlan   the compiled plan entry for the field
+     * @param sourceValue the unproxied value read from the source field
+     * @param depth       the nesting depth of the field
+     * @return the processed value ready to be set in the destination field
+     */
+    private Object verifyValue(FieldCopyPlan fieldPlan, Object sourceValue, int depth) {
+        Field sourceField = fieldPlan.sourceField();
+        Field destField = fieldPlan.destField();
+        Class<?> sourceFieldType = sourceField.getType();
+        Class<?> destFieldType = destField.getType();
+
+        if (sourceFieldType == destFieldType) {
+            return copyValue(fieldPlan, sourceValue, depth);
+        }
+
+        if (isWrapperType(sourceFieldType) && destFieldType.isPrimitive() && sourceValue == null) {
+            return defaultValueFor(destFieldType);
+        }
+
+        if (fieldPlan.converter() == null && isWrapperType(destFieldType) && sourceFieldType.isPrimitive()
+                && Objects.equals(sourceValue, defaultValueFor(sourceFieldType))) {
+            return null;
+        }
+
+        if (sourceFieldType.isEnum() || destFieldType.isEnum()) {
+            metrics.recordTransfer(TransferStrategy.ENUM);
+            return validateEnums(sourceField, destField, sourceValue);
+        }
+
+        if (fieldPlan.converter() != null) {
+            return convertValue(fieldPlan, sourceValue, depth);
+        }
+
+        if (isClassMapCollection(destFieldType) || isClassMapCollection(sourceFieldType)) {
+            return null;
+        }
+
+        return copyValue(fieldPlan, sourceValue, depth);
+    }
+
+    /**
+     * Converts a value with the converter resolved in the plan entry.
+     * <p>
+     * Null values are not passed to the converter; they become the default value of a
+     * primitive destination field, or null otherwise. Elements placed into a new array are
+     * copied like the elements of a collection held by the field, with its depth and options.
+     * </p>
+     *
+     * @param fieldPlan   the compiled plan entry for the field
+     * @param sourceValue the value read from the source field
+     * @param depth       the nesting depth of the field
+     * @return the converted value
+     * @throws ApiException if the conversion fails
+     */
+    private Object convertValue(FieldCopyPlan fieldPlan, Object sourceValue, int depth) {
+        Class<?> destFieldType = fieldPlan.destField().getType();
+        if (sourceValue == null) {
+            return destFieldType.isPrimitive() ? defaultValueFor(destFieldType) : null;
+        }
+        metrics.recordTransfer(TransferStrategy.CONVERSION);
+        try {
+            return fieldPlan.converter().convert(sourceValue,
+                    element -> copyElement(element, ResolvableType.NONE, depth, fieldPlan.options()));
+        } catch (RuntimeException ex) {
+            throw new ApiException("Failed converting field '" + fieldPlan.sourceField().getName() + "' from "
+                    + fieldPlan.sourceField().getType().getName() + " to " + destFieldType.getName() + ".", ex);
+        }
+    }
+
+    /**
+     * Copies an element placed into an array by a collection to array conversion made outside
+     * of a field copy, such as the conversion of a merge key.
+     * <p>
+     * Follows the same rules as collection elements, see {@link #copyElement(Object, ResolvableType, int, CopyOptions)}.
+     * Field conversions copy their elements with the depth and options of the field instead, see
+     * {@link #convertValue(FieldCopyPlan, Object, int)}.
+     * </p>
+     *
+     * @param element the non-null element to copy
+     * @return the element copy
+     */
+    private Object copyArrayElement(Object element) {
+        return copyElement(element, ResolvableType.NONE, 1, CopyOptions.DEFAULT);
+    }
+
+    /**
+     * Validates and converts enum values between source and destination fields.
+     * <p>
+     * This method handles several enum conversion scenarios:
+     * </p>
+     * <ul>
+     *   <li>String to Enum: Finds the enum constant matching the string value</li>
+     *   <li>Enum to String: Converts the enum to its string representation</li>
+     *   <li>Enum to Enum: Converts between different enum types by matching names</li>
+     * </ul>
+     *
+     * @param sourceField the field in the source object
+     * @param destField   the corresponding field in the destination object
+     * @param sourceValue the value to convert
+     * @return the converted value, or null if conversion is not possible
+     */
+    private static Object validateEnums(Field sourceField, Field destField, Object sourceValue) {
+        Class<?> sourceFieldType = sourceField.getType();
+        Class<?> destFieldType = destField.getType();
+
+        if (destFieldType.isEnum()) {
+            if (sourceFieldType.equals(String.class)) {
+                return findEnumConstantEquivalent(destFieldType, sourceValue);
+            } else if (sourceFieldType.isEnum() && sourceValue != null) {
+                return findEnumConstantEquivalent(destFieldType, sourceValue.toString());
+            }
+        }
+        if (sourceFieldType.isEnum() && (sourceValue != null && destFieldType.equals(String.class))) {
+            return sourceValue.toString();
+        }
+        return null;
+    }
+
+    /**
+     * Finds an enum constant equivalent to the given string value.
+     * <p>
+     * This method searches through all constants of the specified enum type
+     * and returns the first one whose toString() value matches the source value.
+     * </p>
+     *
+     * @param type        the enum class to search
+     * @param sourceValue the value to match (compared using toString())
+     * @return the matching enum constant, or null if no match is found
+     */
+    private static Object findEnumConstantEquivalent(Class<?> type, Object sourceValue) {
+        return Stream.of(type.getEnumConstants())
+                .filter(enumConstant -> Objects.equals(enumConstant.toString(), sourceValue))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Determines the appropriate copying strategy based on the field types and copies the value.
+     * <p>
+     * This method selects the copying strategy based on the type of the source field:
+     * </p>
+     * <ul>
+     *   <li>Primitives and Enums: Direct value assignment</li>
+     *   <li>Wrapper types: Shared by reference when immutable, serialization-based cloning otherwise</li>
+     *   <li>Collections and Maps, including those held by {@code Object} or interface-typed fields:
+     *       Single-pass element copy with generic type preservation, or shared by reference when
+     *       immutable, see {@link #isSharedImmutable(Object, Class)}</li>
+     *   <li>Complex objects: Shared by reference when deeply immutable, or deep copied via
+     *       serialization or through the {@link CopyStrategy} supporting their runtime class</li>
+     * </ul>
+     *
+     * <p>
+     * Complex objects are dispatched on their runtime class, see {@link #resolveRuntimeTarget(FieldCopyPlan, Class)},
+     * so values of a subtype of the declared destination type, including implementations of an
+     * interface or abstract type, keep their class.
+     * </p>
+     * <p>
+     * Collections, maps and complex objects nested deeper than the maximum depth are not copied.
+     * </p>
+     *
+     * @param fieldPlan   the compiled plan entry for the field
+     * @param sourceValue the value to copy
+     * @param depth       the nesting depth of the field
+     * @return the copied value, or {@code null} beyond the maximum depth
+     */
+    private Object copyValue(FieldCopyPlan fieldPlan, Object sourceValue, int depth) {
+        Field sourceField = fieldPlan.sourceField();
+        Field destField = fieldPlan.destField();
+        Class<?> sourceFieldType = sourceField.getType();
+        Class<?> destFieldType = destField.getType();
+        if (isPrimitiveOrEnum(sourceFieldType)) {
+            metrics.recordTransfer(TransferStrategy.PRIMITIVE);
+            return sourceValue;
+        }
+        if (isWrapperType(sourceFieldType)) {
+            metrics.recordTransfer(TransferStrategy.WRAPPER);
+            return isSharedValue(sourceValue, destFieldType) ? sourceValue : serializingClone(fieldPlan, sourceValue);
+        }
+        if (depth > maxDepth(fieldPlan.options())) {
+            return null;
+        }
+        if (isClassMapCollection(sourceFieldType) || sourceValue instanceof Collection<?>
+                || sourceValue instanceof Map<?, ?>) {
+            if (isSharedImmutable(sourceValue, destFieldType)) {
+                metrics.recordTransfer(TransferStrategy.SHARED);
+                return sourceValue;
+            }
+            metrics.recordTransfer(TransferStrategy.COLLECTION_MAP);
+            return copyCollectionMap(sourceValue, ResolvableType.forField(destField), depth, fieldPlan.options());
+        }
+        if (sourceValue == null) {
+            metrics.recordTransfer(TransferStrategy.JSON_FALLBACK);
+            return null;
+        }
+        RuntimeCopyTarget target = resolveRuntimeTarget(fieldPlan, sourceValue.getClass());
+        if (target.shared()) {
+            metrics.recordTransfer(TransferStrategy.SHARED);
+            return sourceValue;
+        }
+        if (target.strategy() != null) {
+            metrics.recordTransfer(TransferStrategy.CUSTOM);
+            return target.strategy().copy(sourceValue, target.targetType());
+        }
+        if (target.entity()) {
+            metrics.recordTransfer(TransferStrategy.ENTITY);
+            return copyEntity(fieldPlan, sourceValue, target.targetType(), depth);
+        }
+        metrics.recordTransfer(TransferStrategy.JSON_FALLBACK);
+        verifyJsonFallbackAllowed(fieldPlan.options(), target.targetType(),
+                () -> "field '" + sourceField.getName() + "' of " + sourceField.getDeclaringClass().getName());
+        try {
+            return trackedSerializingClone(SlowPathKind.JSON_FALLBACK, fieldPlan.sourceField().getDeclaringClass(),
+                    fieldPlan.destField().getDeclaringClass(), fieldPlan.sourceField().getName(), sourceValue,
+                    target.targetType());
+        } catch (Exception ex) {
+            throw new ApiException(ex.getMessage());
+        }
+    }
+
+    /**
+     * Deep copies a persistent entity or embeddable held by a field, one nesting level below it.
+     * <p>
+     * The entity is copied field by field rather than through the JSON serializer, which would
+     * walk its uninitialized associations and load them, or fail outside of the session. Each
+     * association is resolved by {@link #copyField(FieldCopyPlan, Object, int)} according to the
+     * {@link LazyLoadPolicy} instead. Entities that cannot be instantiated fall back to the serializer.
+     * </p>
+     *
+     * @param fieldPlan   the compiled plan entry for the field
+     * @param sourceValue the unproxied entity read from the source field
+     * @param targetType  the class of the copy
+     * @param depth       the nesting depth of the field
+     * @return the entity copy
+     */
+    private Object copyEntity(FieldCopyPlan fieldPlan, Object sourceValue, Class<?> targetType, int depth) {
+        try {
+            return createInstance(sourceValue, targetType, depth + 1, fieldPlan.options());
+        } catch (BeanInstantiationException ex) {
+            log.trace("Could not instantiate {}. Copying entity through serialization.", targetType.getSimpleName());
+        }
+        verifyJsonFallbackAllowed(fieldPlan.options(), targetType,
+                () -> "field '" + fieldPlan.sourceField().getName() + "' of "
+                        + fieldPlan.sourceField().getDeclaringClass().getName());
+        return trackedSerializingClone(SlowPathKind.JSON_FALLBACK, fieldPlan.sourceField().getDeclaringClass(),
+                fieldPlan.destField().getDeclaringClass(), fieldPlan.sourceField().getName(), sourceValue, targetType);
+    }
+
+    /**
+     * Resolves the copy target of a nested value from its runtime class, through the inline
+     * cache of the plan entry.
+     * <p>
+     * The entry caches the targets of the first {@link InlineTypeCache#POLYMORPHIC_LIMIT} runtime
+     * classes it sees, which covers the usual monomorphic fields without any map lookup. Fields
+     * holding more classes fall back to the engine-wide {@code runtimeTargetCache}.
+     * </p>
+     *
+     * @param fieldPlan   the compiled plan entry for the field
+     * @param runtimeType the runtime class of the value read from the source field
+     * @return the copy target of the value
+     */
+    private RuntimeCopyTarget resolveRuntimeTarget(FieldCopyPlan fieldPlan, Class<?> runtimeType) {
+        Class<?> destFieldType = fieldPlan.destField().getType();
+        return fieldPlan.runtimeTargets().get(runtimeType, type -> {
+            ClassPairKey cacheKey = new ClassPairKey(type, destFieldType);
+            RuntimeCopyTarget target = runtimeTargetCache.computeIfAbsent(cacheKey,
+                    key -> createRuntimeTarget(type, destFieldType));
+            evictIfFull(runtimeTargetCache, cacheKey, maxClassMetadata);
+            return target;
+        });
+    }
+
+    /**
+     * Creates the copy target of a runtime class for a destination field type.
+     * <p>
+     * When the destination field can hold the runtime class, the value is copied into its own
+     * class, through the {@link CopyStrategy} supporting it when one is registered, or shared as is
+     * when the class is deeply immutable, see {@link ImmutabilityAnalyzer}; otherwise it is
+     * converted into the declared destination type. Persistent entities and embeddables, see
+     * {@link #isPersistentType(Class)}, are flagged to be copied field by field.
+     * </p>
+     *
+     * @param runtimeType   the runtime class of the source value
+     * @param destFieldType the declared type of the destination field
+     * @return the copy target
+     */
+    RuntimeCopyTarget createRuntimeTarget(Class<?> runtimeType, Class<?> destFieldType) {
+        if (ClassUtils.isAssignable(runtimeType, destFieldType)) {
+            CopyStrategy strategy = copyStrategies.resolve(runtimeType);
+            boolean shared = strategy == null && ImmutabilityAnalyzer.isImmutable(runtimeType);
+            return new RuntimeCopyTarget(runtimeType, strategy, shared,
+                    strategy == null && !shared && isPersistentType(runtimeType));
+        }
+        return new RuntimeCopyTarget(destFieldType, null, false,
+                isPersistentType(runtimeType) && !isJdkType(destFieldType));
+    }
+
+    /**
+     * Checks whether a class is a persistent entity or embeddable, whose associations may be lazy.
+     *
+     * @param type the class to check
+     * @return {@code true} if the class is annotated with {@link Entity} or {@link Embeddable}, or
+     * declares an identifier field
+     */
+    private boolean isPersistentType(Class<?> type) {
+        return !isJdkType(type) && (type.isAnnotationPresent(Entity.class) || type.isAnnotationPresent(Embeddable.class)
+                || lazyLoadHandler.getIdField(type).isPresent());
+    }
+
+    /**
+     * Creates a serialized clone of a wrapper type value.
+     * <p>
+     * This method handles null values and delegates to {@link #serializingCloneObjects(Object, Class)}
+     * for actual cloning.
+     * </p>
+     *
+     * @param fieldPlan   the compiled plan entry for the field
+     * @param sourceValue the value to clone
+     * @return a deep copy of the source value, or null if the source value is null
+     */
+    private Object serializingClone(FieldCopyPlan fieldPlan, Object sourceValue) {
+        if (sourceValue != null) {
+            return trackedSerializingClone(SlowPathKind.VALUE_CLONE, fieldPlan.sourceField().getDeclaringClass(),
+                    fieldPlan.destField().getDeclaringClass(), fieldPlan.sourceField().getName(), sourceValue,
+                    fieldPlan.destField().getType());
+        }
+        return null;
+    }
+
+    /**
+     * Creates a deep copy of an object via serialization, reporting the slow path to the
+     * {@link SlowPathDetector} when one is installed.
+     *
+     * @param kind        the slow path
+     * @param sourceClass the class declaring the source field, or the class of the element
+     * @param destClass   the class declaring the destination field, or the type of the element copy
+     * @param field       the name of the source field, or {@code null} for collection elements
+     * @param sourceValue the value to clone
+     * @param clazz       the target class type
+     * @return a deep copy of the source value
+     */
+    private Object trackedSerializingClone(SlowPathKind kind, Class<?> sourceClass, Class<?> destClass, String field,
+                                           Object sourceValue, Class<?> clazz) {
+        SlowPathDetector detector = slowPathDetector;
+        if (detector == null) {
+            return serializingCloneObjects(sourceValue, clazz);
+        }
+        long start = detector.start();
+        try {
+            return serializingCloneObjects(sourceValue, clazz);
+        } finally {
+            detector.record(kind, sourceClass, destClass, field, start);
+        }
+    }
+
+    /**
+     * Creates a deep copy of an object via serialization.
+     * <p>
+     * This method uses different serialization strategies based on whether the target
+     * type is a simple type (uses Java serialization) or a complex type (uses JSON serialization).
+     * JSON copies are streamed through the {@link JsonFallbackCopier}, when configured, instead of
+     * going through a serialized {@code byte[]} and its decoded {@code String}.
+     * </p>
+     *
+     * @param sourceValue the value to clone
+     * @param clazz       the target class type
+     * @return a deep copy of the source value
+     */
+    private Object serializingCloneObjects(Object sourceValue, Class<?> clazz) {
+        SerializationFallbackEvent event = new SerializationFallbackEvent();
+        event.begin();
+        Object clone;
+        byte[] byteClone;
+        if (ReflectionTypeUtil.isSimpleType(clazz)) {
+            byteClone = SerializationUtils.serialize(sourceValue);
+            clone = SerializationUtil.deserialize(byteClone);
+        } else if (jsonFallbackCopier != null) {
+            byteClone = null;
+            clone = jsonFallbackCopier.copy(sourceValue, clazz);
+        } else {
+            byteClone = SerializationUtil.serializeJsonObjectAsByte(sourceValue);
+            clone = serializer.deserialize(SerializationUtil.getDeserializedObjectAsString(byteClone), clazz);
+        }
+        commitFallbackEvent(event, sourceValue, clazz, byteClone);
+        return clone;
+    }
+
+    /**
+     * Creates a deep copy of a collection or map in a single pass over its entries.
+     * <p>
+     * The copy is created with the source's approximate type (for example {@code ArrayList} for
+     * lists and {@code LinkedHashSet} for sets), presized to the source size, unless that type
+     * does not fit the declared destination type. Each element is visited once: Hibernate proxies
+     * are unwrapped according to the {@link LazyLoadPolicy} and the result is copied by
+     * {@link #copyElement(Object, ResolvableType, int, CopyOptions)} straight into the new container.
+     * </p>
+     *
+     * @param sourceValue the collection or map to copy
+     * @param targetType  the declared type of the destination, including its generic parameters
+     * @param depth       the nesting depth of the collection or map
+     * @param options     the interned options of the copy
+     * @return a deep copy of the source value, or null if the source value is null
+     */
+    private Object copyCollectionMap(Object sourceValue, ResolvableType targetType, int depth, CopyOptions options) {
+        return switch (sourceValue) {
+            case Collection<?> collection -> copyCollection(collection, targetType, depth, options);
+            case Map<?, ?> map -> copyMap(map, targetType, depth, options);
+            case null, default -> null;
+        };
+    }
+
+    /**
+     * Copies a collection element by element into a presized collection.
+     *
+     * @param source     the collection to copy
+     * @param targetType the declared type of the destination collection
+     * @param depth      the nesting depth of the collection
+     * @param options    the interned options of the copy
+     * @return the collection copy
+     */
+    private Collection<Object> copyCollection(Collection<?> source, ResolvableType targetType, int depth,
+                                              CopyOptions options) {
+        Collection<Object> copy = CollectionFactory.createApproximateCollection(source, source.size());
+        Class<?> rawType = targetType.resolve(Collection.class);
+        if (!rawType.isInstance(copy)) {
+            copy = createCollection(rawType, targetType.asCollection().resolveGeneric(0), source.size());
+        }
+        ResolvableType elementType = targetType.asCollection().getGeneric(0);
+        if (source.size() >= forkThreshold && !options.isSequential()) {
+            Object[] elements = source.toArray();
+            forkEachIndex(elements.length, 0,
+                    index -> elements[index] = copyElement(elements[index], elementType, depth, options));
+            Collections.addAll(copy, elements);
+            return copy;
+        }
+        for (Object element : source) {
+            copy.add(copyElement(element, elementType, depth, options));
+        }
+        return copy;
+    }
+
+    /**
+     * Copies a map entry by entry into a presized map.
+     *
+     * @param source     the map to copy
+     * @param targetType the declared type of the destination map
+     * @param depth      the nesting depth of the map
+     * @param options    the interned options of the copy
+     * @return the map copy
+     */
+    private Map<Object, Object> copyMap(Map<?, ?> source, ResolvableType targetType, int depth, CopyOptions options) {
+        Map<Object, Object> copy = CollectionFactory.createApproximateMap(source, source.size());
+        Class<?> rawType = targetType.resolve(Map.class);
+        ResolvableType mapType = targetType.asMap();
+        if (!rawType.isInstance(copy)) {
+            copy = createMap(rawType, mapType.resolveGeneric(0), source.size());
+        }
+        ResolvableType keyType = mapType.getGeneric(0);
+        ResolvableType valueType = mapType.getGeneric(1);
+        if (source.size() >= forkThreshold && !options.isSequential()) {
+            Map.Entry<?, ?>[] entries = source.entrySet().toArray(Map.Entry<?, ?>[]::new);
+            Object[] keys = new Object[entries.length];
+            Object[] values = new Object[entries.length];
+            forkEachIndex(entries.length, 0, index -> {
+                keys[index] = copyElement(entries[index].getKey(), keyType, depth, options);
+                values[index] = copyElement(entries[index].getValue(), valueType, depth, options);
+            });
+            for (int index = 0; index < entries.length; index++) {
+                copy.put(keys[index], values[index]);
+            }
+            return copy;
+        }
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            copy.put(copyElement(entry.getKey(), keyType, depth, options),
+                    copyElement(entry.getValue(), valueType, depth, options));
+        }
+        return copy;
+    }
+
+    /**
+     * Instantiates the declared destination collection type.
+     *
+     * @param rawType     the declared collection type
+     * @param elementType the declared element type, or {@code null} if unknown
+     * @param size        the expected number of elements
+     * @return a new, empty collection
+     * @throws ApiException if the type cannot be instantiated
+     */
+    private static Collection<Object> createCollection(Class<?> rawType, Class<?> elementType, int size) {
+        try {
+            return CollectionFactory.createCollection(rawType, elementType, size);
+        } catch (IllegalArgumentException ex) {
+            throw new ApiException("Error creating collection of type " + rawType.getName() + " during object copy.", ex);
+        }
+    }
+
+    /**
+     * Instantiates the declared destination map type.
+     *
+     * @param rawType the declared map type
+     * @param keyType the declared key type, or {@code null} if unknown
+     * @param size    the expected number of entries
+     * @return a new, empty map
+     * @throws ApiException if the type cannot be instantiated
+     */
+    private static Map<Object, Object> createMap(Class<?> rawType, Class<?> keyType, int size) {
+        try {
+            return CollectionFactory.createMap(rawType, keyType, size);
+        } catch (IllegalArgumentException ex) {
+            throw new ApiException("Error creating map of type " + rawType.getName() + " during object copy.", ex);
+        }
+    }
+
+    /**
+     * Copies a single collection element, map key or map value.
+     * <p>
+     * Hibernate proxies are unwrapped first. Then:
+     * </p>
+     * <ul>
+     *   <li>Values not matching the declared element type are converted into it</li>
+     *   <li>Primitive wrappers, enums and other simple types are immutable and kept as is</li>
+     *   <li>Nested collections and maps are copied recursively</li>
+     *   <li>Other objects are deep copied into their own runtime class</li>
+     * </ul>
+     *
+     * @param element     the element to copy
+     * @param elementType the declared element type
+     * @param depth       the nesting depth of the enclosing collection or map
+     * @param options     the interned options of the copy
+     * @return the element copy
+     */
+    private Object copyElement(Object element, ResolvableType elementType, int depth, CopyOptions options) {
+        Object value = element instanceof HibernateProxy proxy
+                ? lazyLoadHandler.unproxy(proxy, lazyLoadHandler.lazyLoadPolicy(options))
+                : element;
+        if (value == null) {
+            return null;
+        }
+        Class<?> valueType = value.getClass();
+        Class<?> targetType = elementType.resolve(Object.class);
+        if (!targetType.isInstance(value)) {
+            return copyBean(value, targetType, depth, options);
+        }
+        if (isPrimitiveOrEnum(valueType) || isWrapperType(valueType) || ImmutabilityAnalyzer.isImmutable(valueType)) {
+            return value;
+        }
+        if (value instanceof Collection<?> || value instanceof Map<?, ?>) {
+            if (isSharedImmutable(value, targetType)) {
+                return value;
+            }
+            return copyCollectionMap(value, targetType == Object.class ? ResolvableType.forClass(valueType) : elementType,
+                    depth, options);
+        }
+        return copyBean(value, valueType, depth, options);
+    }
+
+    /**
+     * Checks whether a collection or map can be shared by the copy instead of being copied.
+     * <p>
+     * Only instances of the JDK immutable implementations ({@code List.of}, {@code Set.of},
+     * {@code Map.of}, {@code Stream.toList()} and the empty and singleton collections) whose
+     * elements, keys and values would be shared by an element-wise copy anyway (primitive
+     * wrappers, strings, enums and other simple types, deeply immutable objects or nested
+     * shareable containers) qualify: neither the source nor the copy can modify them.
+     * </p>
+     *
+     * @param value      the collection or map to copy
+     * @param targetType the type the copy must be assignable to
+     * @return {@code true} if the value can be assigned to the destination as is
+     */
+    private static boolean isSharedImmutable(Object value, Class<?> targetType) {
+        if (value == null || !IMMUTABLE_CONTAINER_TYPES.contains(value.getClass()) || !targetType.isInstance(value)) {
+            return false;
+        }
+        if (value instanceof Map<?, ?> map) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!isSharedElement(entry.getKey()) || !isSharedElement(entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (Object element : (Collection<?>) value) {
+            if (!isSharedElement(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether an element of an immutable collection or map is itself immutable.
+     *
+     * @param element the element, key or value
+     * @return {@code true} if the element can be shared by the copy
+     */
+    private static boolean isSharedElement(Object element) {
+        if (element == null || element instanceof Enum<?>) {
+            return true;
+        }
+        Class<?> type = element.getClass();
+        return isPrimitiveOrEnum(type) || isWrapperType(type) || ImmutabilityAnalyzer.isImmutable(type)
+                || isSharedImmutable(element, Object.class);
+    }
+
+    /**
+     * Checks whether a simple value can be assigned to the destination field as is.
+     *
+     * @param value         the value read from the source field
+     * @param destFieldType the declared type of the destination field
+     * @return {@code true} if the value is deeply immutable and the destination field can hold it
+     */
+    private static boolean isSharedValue(Object value, Class<?> destFieldType) {
+        return value != null && ClassUtils.isAssignable(value.getClass(), destFieldType)
+                && ImmutabilityAnalyzer.isImmutable(value.getClass());
+    }
+
+    /**
+     * Deep copies an object into the given type.
+     * <p>
+     * Application types, including records and types with an {@link ObjectCreator}, are copied
+     * field by field, one nesting level below the enclosing collection or map. JDK types and types
+     * that cannot be instantiated are copied through the JSON serializer.
+     * </p>
+     *
+     * @param value      the object to copy
+     * @param targetType the type of the copy
+     * @param depth      the nesting depth of the enclosing collection or map
+     * @param options    the interned options of the copy
+     * @return the copy
+     */
+    private Object copyBean(Object value, Class<?> targetType, int depth, CopyOptions options) {
+        if (!isJdkType(targetType) && !isJdkType(value.getClass())) {
+            try {
+                return createInstance(value, targetType, depth + 1, options);
+            } catch (BeanInstantiationException ex) {
+                log.trace("Could not instantiate {}. Copying element through serialization.", targetType.getSimpleName());
+            }
+        }
+        verifyJsonFallbackAllowed(options, targetType, () -> "element of type " + value.getClass().getName());
+        return trackedSerializingClone(SlowPathKind.ELEMENT_CLONE, value.getClass(), targetType, null, value, targetType);
+    }
+
+    /**
+     * Checks whether a type belongs to the JDK, whose internals cannot be copied reflectively.
+     *
+     * @param type the type to check
+     * @return {@code true} for primitives and {@code java.*}, {@code javax.*}, {@code jdk.*} and
+     * {@code sun.*} types
+     */
+    static boolean isJdkType(Class<?> type) {
+        String name = type.getName();
+        return type.isPrimitive() || name.startsWith("java.") || name.startsWith("javax.")
+                || name.startsWith("jdk.") || name.startsWith("sun.");
+    }
+
+    /**
+     * Ends a {@link SerializationFallbackEvent} and commits it when it passes the configured threshold.
+     *
+     * @param event       the event started before serializing
+     * @param sourceValue the value that was cloned
+     * @param targetType  the type the value was deserialized into
+     * @param byteClone   the serialized bytes, or {@code null} if nothing was serialized
+     */
+    private static void commitFallbackEvent(SerializationFallbackEvent event, Object sourceValue,
+                                            Type targetType, byte[] byteClone) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setSourceClass(sourceValue != null ? sourceValue.getClass() : null);
+            event.setDestinationType(targetType.getTypeName());
+            event.setElementCount(switch (sourceValue) {
+                case Collection<?> collection -> collection.size();
+                case Map<?, ?> map -> map.size();
+                case null, default -> -1;
+            });
+            event.setBytesSerialized(byteClone != null ? byteClone.length : 0);
+            event.commit();
+        }
+    }
+
+    /**
+     * Fork/join task running an action for a range of indexes, split in halves down to a leaf size.
+     */
+    private static final class ForkedRange extends RecursiveAction {
+
+        private final transient IntConsumer action;
+        private final transient AtomicReference<RuntimeException> failure;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        private ForkedRange(IntConsumer action, AtomicReference<RuntimeException> failure, int from, int to,
+                            int leafSize) {
+            this.action = action;
+            this.failure = failure;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > leafSize) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ForkedRange(action, failure, from, middle, leafSize),
+                        new ForkedRange(action, failure, middle, to, leafSize));
+                return;
+            }
+            Boolean outer = IN_EXECUTOR_TASK.get();
+            IN_EXECUTOR_TASK.set(Boolean.TRUE);
+            try {
+                for (int index = from; index < to && failure.get() == null; index++) {
+                    action.accept(index);
+                }
+            } catch (RuntimeException ex) {
+                failure.compareAndSet(null, ex);
+            } finally {
+                if (outer == null) {
+                    IN_EXECUTOR_TASK.remove();
+                }
+            }
+        }
+    }
+}
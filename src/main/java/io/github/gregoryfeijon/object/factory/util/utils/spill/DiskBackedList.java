@@ -0,0 +1,415 @@
+package io.github.gregoryfeijon.object.factory.util.utils.spill;
+
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Read-only list whose elements are stored in memory-mapped temporary files instead of the heap.
+ * <p>
+ * Elements are written once, through a {@link Writer}, as length-prefixed records encoded by a
+ * caller-supplied function. The records are split into memory-mapped segments of at most
+ * {@link #DEFAULT_SEGMENT_SIZE} bytes, a record never spanning two segments, and their offsets
+ * are kept in a second mapped file, so neither the records nor their index occupy the heap.
+ * </p>
+ * <p>
+ * Elements are decoded on access. Decoded elements are kept in a least recently used cache
+ * whose weight, estimated from the encoded size of its elements, never exceeds the heap budget
+ * given to the writer; a budget of {@code 0} disables the cache. Changes made to a returned
+ * element are not written back and are lost once the element leaves the cache.
+ * </p>
+ * <p>
+ * The list is thread-safe for reading. {@link #close()} releases the cache and deletes the
+ * files; they are also deleted once the list becomes unreachable. Accessing the elements of a
+ * closed list throws an {@link ApiException}.
+ * </p>
+ *
+ * @param <T> the element type
+ * @author gregory.feijon
+ */
+public final class DiskBackedList<T> extends AbstractList<T> implements RandomAccess, AutoCloseable {
+
+    /**
+     * Default maximum size, in bytes, of each memory-mapped segment of records.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /**
+     * Number of offsets per mapped segment of the index file, {@code 2^27} offsets of 8 bytes.
+     */
+    private static final int INDEX_SEGMENT_SHIFT = 27;
+
+    private static final int INDEX_SEGMENT_MASK = (1 << INDEX_SEGMENT_SHIFT) - 1;
+
+    /**
+     * Length written in place of the record of a null element.
+     */
+    private static final int NULL_LENGTH = -1;
+
+    private final int size;
+    private final long[] segmentStarts;
+    private final Function<byte[], ? extends T> decoder;
+    private final long heapBudget;
+    private final Cleaner.Cleanable cleanable;
+
+    /**
+     * Recently decoded elements by index, in access order, guarded by {@code this}.
+     */
+    private final LinkedHashMap<Integer, CachedElement<T>> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long cachedBytes;
+    private volatile MappedByteBuffer[] segments;
+    private volatile MappedByteBuffer[] indexSegments;
+
+    private DiskBackedList(int size, long[] segmentStarts, MappedByteBuffer[] segments,
+                           MappedByteBuffer[] indexSegments, Function<byte[], ? extends T> decoder,
+                           long heapBudget, SpillFiles files) {
+        this.size = size;
+        this.segmentStarts = segmentStarts;
+        this.segments = segments;
+        this.indexSegments = indexSegments;
+        this.decoder = decoder;
+        this.heapBudget = heapBudget;
+        this.cleanable = CLEANER.register(this, files);
+    }
+
+    /**
+     * Creates a writer spilling elements into new temporary files.
+     *
+     * @param <T>        the element type
+     * @param directory  the directory of the temporary files, or {@code null} for the default
+     *                   temporary-file directory
+     * @param encoder    encodes a non-null element into its record
+     * @param decoder    decodes a record back into an element
+     * @param heapBudget the maximum estimated weight, in bytes, of the decoded elements cached by
+     *                   the list; {@code 0} disables the cache
+     * @return a new writer
+     * @throws ApiException if a function is null, the budget is negative or the files cannot be created
+     */
+    public static <T> Writer<T> writer(Path directory, Function<? super T, byte[]> encoder,
+                                       Function<byte[], ? extends T> decoder, long heapBudget) {
+        return writer(directory, encoder, decoder, heapBudget, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a writer spilling elements into new temporary files mapped in segments of the
+     * given size.
+     *
+     * @param <T>         the element type
+     * @param directory   the directory of the temporary files, or {@code null} for the default
+     *                    temporary-file directory
+     * @param encoder     encodes a non-null element into its record
+     * @param decoder     decodes a record back into an element
+     * @param heapBudget  the maximum estimated weight, in bytes, of the decoded elements cached by
+     *                    the list; {@code 0} disables the cache
+     * @param segmentSize the maximum size, in bytes, of each mapped segment; records larger than
+     *                    it get a segment of their own
+     * @return a new writer
+     * @throws ApiException if a function is null, the budget is negative, the segment size is not
+     *                      positive or the files cannot be created
+     */
+    public static <T> Writer<T> writer(Path directory, Function<? super T, byte[]> encoder,
+                                       Function<byte[], ? extends T> decoder, long heapBudget, int segmentSize) {
+        if (encoder == null || decoder == null) {
+            throw new ApiException("The element encoder and decoder must not be null.");
+        }
+        if (heapBudget < 0 || segmentSize <= 0) {
+            throw new ApiException("The heap budget must not be negative and the segment size must be positive.");
+        }
+        return new Writer<>(directory, encoder, decoder, heapBudget, segmentSize);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an element, decoding it from its record unless it is cached.
+     *
+     * @param index the element index
+     * @return the element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws ApiException              if the list is closed
+     */
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        synchronized (this) {
+            CachedElement<T> cached = cache.get(index);
+            if (cached != null) {
+                return cached.value();
+            }
+        }
+        MappedByteBuffer[] data = segments;
+        MappedByteBuffer[] offsets = indexSegments;
+        if (data == null || offsets == null) {
+            throw new ApiException("The disk-backed list is closed.");
+        }
+        long position = offsets[index >>> INDEX_SEGMENT_SHIFT].getLong((index & INDEX_SEGMENT_MASK) << 3);
+        int segment = segmentOf(position);
+        MappedByteBuffer buffer = data[segment];
+        int offset = (int) (position - segmentStarts[segment]);
+        int length = buffer.getInt(offset);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] record = new byte[length];
+        buffer.get(offset + Integer.BYTES, record);
+        T value = decoder.apply(record);
+        cache(index, value, length);
+        return value;
+    }
+
+    /**
+     * Releases the cached elements and the mappings, and deletes the temporary files.
+     * <p>
+     * Closing an already closed list has no effect.
+     * </p>
+     */
+    @Override
+    public void close() {
+        segments = null;
+        indexSegments = null;
+        synchronized (this) {
+            cache.clear();
+            cachedBytes = 0;
+        }
+        cleanable.clean();
+    }
+
+    /**
+     * Finds the segment holding the record at an absolute position.
+     *
+     * @param position the absolute position of the record in the data file
+     * @return the index of the segment
+     */
+    private int segmentOf(long position) {
+        int found = Arrays.binarySearch(segmentStarts, position);
+        return found >= 0 ? found : -found - 2;
+    }
+
+    /**
+     * Caches a decoded element, evicting the least recently used ones beyond the heap budget.
+     *
+     * @param index  the element index
+     * @param value  the decoded element
+     * @param weight the estimated weight of the element
+     */
+    private synchronized void cache(int index, T value, int weight) {
+        if (weight > heapBudget || segments == null) {
+            return;
+        }
+        CachedElement<T> previous = cache.put(index, new CachedElement<>(value, weight));
+        cachedBytes += weight - (previous != null ? previous.weight() : 0);
+        Iterator<CachedElement<T>> iterator = cache.values().iterator();
+        while (cachedBytes > heapBudget && iterator.hasNext()) {
+            cachedBytes -= iterator.next().weight();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * A decoded element and its estimated weight.
+     *
+     * @param value  the decoded element
+     * @param weight the encoded size of the element, in bytes
+     * @param <T>    the element type
+     */
+    private record CachedElement<T>(T value, int weight) {
+    }
+
+    /**
+     * Temporary files of a list, deleted by {@link #close()} or once the list is unreachable.
+     *
+     * @param dataFile  the file holding the records
+     * @param indexFile the file holding the offsets of the records
+     */
+    private record SpillFiles(Path dataFile, Path indexFile) implements Runnable {
+
+        @Override
+        public void run() {
+            delete(dataFile);
+            delete(indexFile);
+        }
+
+        private static void delete(Path file) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ex) {
+                // still mapped on platforms that lock mapped files; removed when the JVM exits
+                file.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Appends elements to the temporary files of a new {@link DiskBackedList}.
+     * <p>
+     * Only the element being written and the write buffers are held in heap. Closing a writer
+     * before {@link #finish()} deletes the files. Writers are not thread-safe.
+     * </p>
+     *
+     * @param <T> the element type
+     */
+    public static final class Writer<T> implements AutoCloseable {
+
+        private static final int BUFFER_SIZE = 64 * 1024;
+
+        private final Function<? super T, byte[]> encoder;
+        private final Function<byte[], ? extends T> decoder;
+        private final long heapBudget;
+        private final int segmentSize;
+        private final SpillFiles files;
+        private final DataOutputStream data;
+        private final DataOutputStream index;
+
+        private long[] segmentStarts = new long[8];
+        private int segmentCount = 1;
+        private long position;
+        private int size;
+        private boolean done;
+
+        private Writer(Path directory, Function<? super T, byte[]> encoder, Function<byte[], ? extends T> decoder,
+                       long heapBudget, int segmentSize) {
+            this.encoder = encoder;
+            this.decoder = decoder;
+            this.heapBudget = heapBudget;
+            this.segmentSize = segmentSize;
+            Path dataFile = null;
+            try {
+                Path parent = directory != null ? directory : Path.of(System.getProperty("java.io.tmpdir"));
+                dataFile = Files.createTempFile(parent, "object-factory-", ".spill");
+                Path indexFile = Files.createTempFile(parent, "object-factory-", ".index");
+                this.files = new SpillFiles(dataFile, indexFile);
+                this.data = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(dataFile), BUFFER_SIZE));
+                this.index = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexFile), BUFFER_SIZE));
+            } catch (IOException ex) {
+                if (dataFile != null) {
+                    SpillFiles.delete(dataFile);
+                }
+                throw new ApiException("Error creating the temporary files of a disk-backed list.", ex);
+            }
+        }
+
+        /**
+         * Encodes an element and appends its record.
+         *
+         * @param element the element to append, possibly {@code null}
+         * @throws ApiException if the writer is finished or closed, the list is full or the
+         *                      record cannot be written
+         */
+        public void add(T element) {
+            if (done) {
+                throw new ApiException("The disk-backed list writer is already finished or closed.");
+            }
+            if (size == Integer.MAX_VALUE) {
+                throw new ApiException("A disk-backed list cannot hold more than " + Integer.MAX_VALUE + " elements.");
+            }
+            byte[] record = element != null ? encoder.apply(element) : null;
+            int recordSize = Integer.BYTES + (record != null ? record.length : 0);
+            long segmentStart = segmentStarts[segmentCount - 1];
+            if (position > segmentStart && position - segmentStart + recordSize > segmentSize) {
+                if (segmentCount == segmentStarts.length) {
+                    segmentStarts = Arrays.copyOf(segmentStarts, segmentCount * 2);
+                }
+                segmentStarts[segmentCount++] = position;
+            }
+            try {
+                index.writeLong(position);
+                data.writeInt(record != null ? record.length : NULL_LENGTH);
+                if (record != null) {
+                    data.write(record);
+                }
+            } catch (IOException ex) {
+                throw new ApiException("Error writing to the temporary file of a disk-backed list.", ex);
+            }
+            position += recordSize;
+            size++;
+        }
+
+        /**
+         * Returns the number of elements appended so far.
+         *
+         * @return the number of elements
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Completes the files and maps them into a new list, which takes over their deletion.
+         *
+         * @return the list of the appended elements
+         * @throws ApiException if the writer is finished or closed, or the files cannot be mapped
+         */
+        public DiskBackedList<T> finish() {
+            if (done) {
+                throw new ApiException("The disk-backed list writer is already finished or closed.");
+            }
+            done = true;
+            try {
+                data.close();
+                index.close();
+                long[] starts = Arrays.copyOf(segmentStarts, segmentCount);
+                MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+                try (FileChannel channel = FileChannel.open(files.dataFile(), StandardOpenOption.READ)) {
+                    for (int segment = 0; segment < segmentCount; segment++) {
+                        long end = segment + 1 < segmentCount ? starts[segment + 1] : position;
+                        segments[segment] = channel.map(FileChannel.MapMode.READ_ONLY, starts[segment], end - starts[segment]);
+                    }
+                }
+                int indexSegmentCount = Math.max(1, (int) (((long) size + INDEX_SEGMENT_MASK) >>> INDEX_SEGMENT_SHIFT));
+                MappedByteBuffer[] indexSegments = new MappedByteBuffer[indexSegmentCount];
+                try (FileChannel channel = FileChannel.open(files.indexFile(), StandardOpenOption.READ)) {
+                    for (int segment = 0; segment < indexSegmentCount; segment++) {
+                        long first = (long) segment << INDEX_SEGMENT_SHIFT;
+                        long count = Math.min(size - first, 1L << INDEX_SEGMENT_SHIFT);
+                        indexSegments[segment] = channel.map(FileChannel.MapMode.READ_ONLY, first << 3, count << 3);
+                    }
+                }
+                return new DiskBackedList<>(size, starts, segments, indexSegments, decoder, heapBudget, files);
+            } catch (IOException | UncheckedIOException ex) {
+                files.run();
+                throw new ApiException("Error mapping the temporary files of a disk-backed list.", ex);
+            }
+        }
+
+        /**
+         * Discards the appended elements and deletes the files, unless the writer is finished.
+         */
+        @Override
+        public void close() {
+            if (done) {
+                return;
+            }
+            done = true;
+            try {
+                data.close();
+                index.close();
+            } catch (IOException ex) {
+                // the files are deleted anyway
+            } finally {
+                files.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.commons.utils.factory.FactoryUtil;
+import io.github.gregoryfeijon.object.factory.util.config.TestSerializerConfiguration;
+import io.github.gregoryfeijon.object.factory.util.domain.BarWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.VerifyValueDest;
+import io.github.gregoryfeijon.object.factory.util.domain.VerifyValueSource;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyOptions;
+import io.github.gregoryfeijon.object.factory.util.util.TestObjectsFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.Copier;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation-budget regression tests for representative class pairs.
+ * <p>
+ * Each test warms the copy path up, then measures the bytes allocated per copy through
+ * {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}. Only the calling
+ * thread is accounted for, so the bulk copy runs with sequential options, keeping every element
+ * copy off the pool threads and the allocations of unrelated threads out of the figures. A test fails
+ * when the average exceeds the budget declared next to it; lower a budget when a change makes
+ * the path leaner, never raise it to hide a regression.
+ * </p>
+ */
+@SpringBootTest(classes = {
+        FactoryUtil.class,
+        TestSerializerConfiguration.class
+})
+class AllocationBudgetTest {
+
+    private static final int WARMUP_ITERATIONS = 5_000;
+    private static final int MEASURED_ITERATIONS = 1_000;
+
+    private static final long PRIMITIVE_PAIR_BUDGET = 4 * 1024L;
+    private static final long WRAPPER_PAIR_BUDGET = 8 * 1024L;
+    private static final long NESTED_WRAPPER_BUDGET = 32 * 1024L;
+    private static final long TYPE_CONVERSION_BUDGET = 8 * 1024L;
+    private static final long BULK_PER_ELEMENT_BUDGET = 4 * 1024L;
+    private static final int BULK_SIZE = 100;
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+
+    @BeforeAll
+    static void setUpThreadMXBean() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Thread allocation accounting requires the HotSpot ThreadMXBean");
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(),
+                "Thread allocation accounting is not supported by this JVM");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void primitiveFooToPrimitiveBarShouldStayWithinBudget() {
+        PrimitiveFoo source = TestObjectsFactory.createPrimitiveFoo();
+
+        assertThat(bytesPerOperation(() -> ObjectFactoryUtil.createFromObject(source, PrimitiveBar.class)))
+                .isLessThanOrEqualTo(PRIMITIVE_PAIR_BUDGET);
+    }
+
+    @Test
+    void objectFooToObjectBarShouldStayWithinBudget() {
+        ObjectFoo source = TestObjectsFactory.createObjectFoo();
+
+        assertThat(bytesPerOperation(() -> ObjectFactoryUtil.createFromObject(source, ObjectBar.class)))
+                .isLessThanOrEqualTo(WRAPPER_PAIR_BUDGET);
+    }
+
+    @Test
+    void fooWrapperToBarWrapperShouldStayWithinBudget() {
+        FooWrapper source = TestObjectsFactory.createFooWrapper();
+
+        assertThat(bytesPerOperation(() -> ObjectFactoryUtil.createFromObject(source, BarWrapper.class)))
+                .isLessThanOrEqualTo(NESTED_WRAPPER_BUDGET);
+    }
+
+    @Test
+    void typeConversionsShouldStayWithinBudget() {
+        VerifyValueSource source = TestObjectsFactory.createVerifyValueSource();
+
+        assertThat(bytesPerOperation(() -> ObjectFactoryUtil.createFromObject(source, VerifyValueDest.class)))
+                .isLessThanOrEqualTo(TYPE_CONVERSION_BUDGET);
+    }
+
+    @Test
+    void bulkCopyShouldStayWithinBudgetPerElement() {
+        List<PrimitiveFoo> sources = new ArrayList<>(BULK_SIZE);
+        for (int i = 0; i < BULK_SIZE; i++) {
+            sources.add(TestObjectsFactory.createPrimitiveFoo());
+        }
+
+        Copier<PrimitiveFoo, PrimitiveBar> copier = ObjectFactoryUtil.copier(PrimitiveFoo.class, PrimitiveBar.class,
+                CopyOptions.builder().sequential(true).build());
+
+        long bytesPerBulkCopy = bytesPerOperation(() -> copier.copyAll(sources));
+
+        assertThat(bytesPerBulkCopy / BULK_SIZE).isLessThanOrEqualTo(BULK_PER_ELEMENT_BUDGET);
+    }
+
+    /**
+     * Runs the operation until it is warm, then returns the average number of bytes it allocates.
+     *
+     * @param operation the copy operation to measure
+     * @return the average bytes allocated per invocation by the calling thread
+     */
+    private static long bytesPerOperation(Runnable operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            operation.run();
+        }
+        long after = threadMXBean.getCurrentThreadAllocatedBytes();
+        return (after - before) / MEASURED_ITERATIONS;
+    }
+}
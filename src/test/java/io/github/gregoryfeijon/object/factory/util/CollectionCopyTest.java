@@ -0,0 +1,89 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.domain.Customer;
+import io.github.gregoryfeijon.object.factory.util.domain.CustomerOrder;
+import io.github.gregoryfeijon.object.factory.util.domain.UninitializedCustomerProxy;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the single-pass copy of collection and map fields.
+ */
+class CollectionCopyTest {
+
+    @Test
+    void shouldTraverseSourceCollectionOnce() {
+        CountingList<Customer> contacts = new CountingList<>();
+        contacts.add(new Customer(1L, "first"));
+        contacts.add(new UninitializedCustomerProxy(2L));
+        contacts.add(new Customer(3L, "third"));
+
+        CustomerOrder copy = ObjectFactoryUtil.createFromObject(CustomerOrder.builder().contacts(contacts).build(),
+                CustomerOrder.class);
+
+        assertThat(contacts.iterations).isEqualTo(1);
+        assertThat(copy.getContacts())
+                .hasSize(3)
+                .isNotSameAs(contacts)
+                .doesNotHaveAnyElementsOfTypes(UninitializedCustomerProxy.class);
+        assertThat(copy.getContacts().getFirst()).isNotSameAs(contacts.getFirst());
+        assertThat(copy.getContacts()).extracting(Customer::getName).containsExactly("first", null, "third");
+    }
+
+    @Test
+    void shouldPreserveSourceCollectionType() {
+        LinkedList<String> notes = new LinkedList<>(List.of("a", "b"));
+
+        CustomerOrder copy = ObjectFactoryUtil.createFromObject(CustomerOrder.builder().notes(notes).build(),
+                CustomerOrder.class);
+
+        assertThat(copy.getNotes())
+                .isInstanceOf(LinkedList.class)
+                .isNotSameAs(notes)
+                .containsExactly("a", "b");
+    }
+
+    @Test
+    void shouldShareImmutableCollectionsOfImmutableElements() {
+        List<String> notes = List.of("a", "b");
+        List<Customer> contacts = List.of(new Customer(1L, "first"));
+
+        CustomerOrder copy = ObjectFactoryUtil.createFromObject(CustomerOrder.builder().notes(notes)
+                .contacts(contacts).build(), CustomerOrder.class);
+
+        assertThat(copy.getNotes()).isSameAs(notes);
+        assertThat(copy.getContacts()).isNotSameAs(contacts);
+        assertThat(copy.getContacts().getFirst()).isNotSameAs(contacts.getFirst());
+    }
+
+    @Test
+    void shouldCopyUnmodifiableViews() {
+        List<String> backing = new ArrayList<>(List.of("a"));
+        List<String> notes = Collections.unmodifiableList(backing);
+
+        CustomerOrder copy = ObjectFactoryUtil.createFromObject(CustomerOrder.builder().notes(notes).build(),
+                CustomerOrder.class);
+        backing.add("b");
+
+        assertThat(copy.getNotes()).isNotSameAs(notes).containsExactly("a");
+    }
+
+    static class CountingList<E> extends ArrayList<E> {
+
+        private int iterations;
+
+        @Override
+        public Iterator<E> iterator() {
+            iterations++;
+            return super.iterator();
+        }
+    }
+}
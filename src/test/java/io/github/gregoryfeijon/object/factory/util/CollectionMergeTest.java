@@ -0,0 +1,112 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.domain.ConversionDest;
+import io.github.gregoryfeijon.object.factory.util.domain.ConversionSource;
+import io.github.gregoryfeijon.object.factory.util.domain.Money;
+import io.github.gregoryfeijon.object.factory.util.domain.OrderLine;
+import io.github.gregoryfeijon.object.factory.util.domain.OrderLineDto;
+import io.github.gregoryfeijon.object.factory.util.domain.PurchaseOrder;
+import io.github.gregoryfeijon.object.factory.util.domain.PurchaseOrderDto;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.hibernate.collection.spi.PersistentBag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for merging collections into existing destination collections.
+ */
+class CollectionMergeTest {
+
+    @Test
+    void shouldMergeByIdentifierRemovingOrphans() {
+        OrderLine first = new OrderLine(1L, "apple", 1);
+        OrderLine second = new OrderLine(2L, "pear", 2);
+        OrderLine third = new OrderLine(3L, "plum", 3);
+        List<OrderLine> lines = new ArrayList<>(List.of(first, second, third));
+        List<OrderLineDto> dtos = List.of(new OrderLineDto(1, "apple", 10), new OrderLineDto(3, "plum", 30),
+                new OrderLineDto(null, "grape", 5));
+
+        ObjectFactoryUtil.mergeCollection(dtos, lines, OrderLine.class, true);
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isSameAs(first);
+        assertThat(lines.get(1)).isSameAs(third);
+        assertThat(first.getQuantity()).isEqualTo(10);
+        assertThat(third.getQuantity()).isEqualTo(30);
+        assertThat(lines.get(2).getProduct()).isEqualTo("grape");
+        assertThat(lines.get(2).getId()).isNull();
+    }
+
+    @Test
+    void shouldKeepOrphansByCustomKey() {
+        OrderLine apple = new OrderLine(1L, "apple", 1);
+        OrderLine pear = new OrderLine(2L, "pear", 2);
+        List<OrderLine> lines = new ArrayList<>(List.of(apple, pear));
+
+        ObjectFactoryUtil.mergeCollection(List.of(new OrderLineDto(null, "pear", 20)), lines, OrderLine.class,
+                "product", false);
+
+        assertThat(lines).containsExactly(apple, pear);
+        assertThat(pear.getQuantity()).isEqualTo(20);
+        assertThat(pear.getId()).isNull();
+        assertThat(apple.getQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectElementTypeWithoutKey() {
+        List<Money> destination = new ArrayList<>();
+        List<Money> sources = List.of();
+
+        assertThatThrownBy(() -> ObjectFactoryUtil.mergeCollection(sources, destination, Money.class, false))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("No @Id or @EmbeddedId field");
+        assertThatThrownBy(() -> ObjectFactoryUtil.mergeCollection(sources, destination, Money.class, "code", false))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("Key field 'code' not found");
+    }
+
+    @Test
+    void shouldKeepPersistentCollectionsOfMergedElements() {
+        OrderLine apple = new OrderLine(1L, "apple", 1);
+        OrderLine pear = new OrderLine(2L, "pear", 2);
+        PersistentBag<OrderLine> lines = new PersistentBag<>(null, new ArrayList<>(List.of(apple, pear)));
+        PersistentBag<String> tags = new PersistentBag<>(null, new ArrayList<>(List.of("new")));
+        PurchaseOrder order = new PurchaseOrder(7L, "open", lines, tags);
+        List<PurchaseOrder> orders = new ArrayList<>(List.of(order));
+        PurchaseOrderDto dto = new PurchaseOrderDto(7, "paid",
+                List.of(new OrderLineDto(1, "apple", 10), new OrderLineDto(null, "fig", 3)), List.of("paid", "gift"));
+
+        ObjectFactoryUtil.mergeCollection(List.of(dto), orders, PurchaseOrder.class, false);
+
+        assertThat(orders).containsExactly(order);
+        assertThat(order.getStatus()).isEqualTo("paid");
+        assertThat(order.getLines()).isSameAs(lines);
+        assertThat(order.getTags()).isSameAs(tags).containsExactly("paid", "gift");
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).isSameAs(apple);
+        assertThat(apple.getQuantity()).isEqualTo(10);
+        assertThat(lines.get(1).getProduct()).isEqualTo("fig");
+    }
+
+    @Test
+    void shouldRejectSourcesWithoutConvertibleKey() {
+        List<OrderLine> lines = new ArrayList<>(List.of(new OrderLine(1L, "apple", 1)));
+        List<Money> sources = List.of(new Money());
+        List<ConversionDest> destination = new ArrayList<>();
+        List<ConversionSource> conversionSources = List.of(new ConversionSource());
+
+        assertThatThrownBy(() -> ObjectFactoryUtil.mergeCollection(sources, lines, OrderLine.class, false))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("No key field matching 'id'");
+        assertThatThrownBy(() -> ObjectFactoryUtil.mergeCollection(conversionSources, destination,
+                ConversionDest.class, "locale", false))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("No converter found");
+    }
+}
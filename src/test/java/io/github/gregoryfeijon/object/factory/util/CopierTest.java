@@ -0,0 +1,116 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.domain.BarWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.ConversionDest;
+import io.github.gregoryfeijon.object.factory.util.domain.ConversionSource;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.Money;
+import io.github.gregoryfeijon.object.factory.util.domain.MoneyRecord;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyOptions;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.util.TestObjectsFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.Copier;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the reusable {@link Copier} handles.
+ */
+class CopierTest {
+
+    @Test
+    void shouldCopyLikeTheEngine() {
+        Copier<FooWrapper, BarWrapper> copier = ObjectFactoryUtil.copier(FooWrapper.class, BarWrapper.class);
+        FooWrapper source = TestObjectsFactory.createFooWrapper();
+
+        BarWrapper copy = copier.copy(source);
+
+        assertThat(copy.getPrimitiveBar().getLongValue()).isEqualTo(source.getPrimitiveFoo().getLongValue());
+        assertThat(copy.getPrimitiveBarList()).hasSize(1);
+        assertThat(copy.getObjectBarMap()).containsOnlyKeys("key");
+    }
+
+    @Test
+    void shouldCreateImmutableDestinations() {
+        Copier<Money, MoneyRecord> copier = ObjectFactoryUtil.copier(Money.class, MoneyRecord.class);
+
+        MoneyRecord copy = copier.copy(new Money(new BigDecimal("10.50"), "BRL"));
+
+        assertThat(copy).isEqualTo(new MoneyRecord(new BigDecimal("10.50"), "BRL"));
+    }
+
+    @Test
+    void shouldCopyIntoExistingObjectsWithOptions() {
+        Copier<ObjectFoo, ObjectBar> copier = ObjectFactoryUtil.copier(ObjectFoo.class, ObjectBar.class,
+                CopyOptions.builder().ignoreNulls(true).build());
+        ObjectBar dest = TestObjectsFactory.createObjectBar();
+
+        copier.copyInto(ObjectFoo.builder().integerValue(5).build(), dest);
+
+        assertThat(dest.getIntegerValue()).isEqualTo(5);
+        assertThat(dest.getStringValue()).isEqualTo("foo");
+    }
+
+    @Test
+    void shouldCopyCollectionsAndStreams() {
+        Copier<Money, MoneyRecord> copier = ObjectFactoryUtil.copier(Money.class, MoneyRecord.class);
+        List<Money> sources = List.of(new Money(BigDecimal.ONE, "USD"), new Money(BigDecimal.TEN, "EUR"));
+
+        assertThat(copier.copyAll(sources))
+                .extracting(MoneyRecord::currencyCode)
+                .containsExactly("USD", "EUR");
+        assertThat(copier.copyAll(sources.stream()))
+                .extracting(MoneyRecord::currencyCode)
+                .containsExactly("USD", "EUR");
+        assertThat(copier.copyAll(List.of())).isEmpty();
+        assertThat(copier.copyAll(Stream.empty())).isEmpty();
+    }
+
+    @Test
+    void shouldCompileTheSamePlanAsInstanceCopies() {
+        ObjectFactory copierFirst = ObjectFactory.builder().build();
+        ObjectFactory instanceFirst = ObjectFactory.builder().build();
+
+        copierFirst.copier(Money.class, MoneyRecord.class);
+        instanceFirst.createFromObject(new Money(BigDecimal.ONE, "USD"), MoneyRecord.class);
+
+        assertThat(copierFirst.snapshot().copyPlans())
+                .hasSize(1)
+                .isEqualTo(instanceFirst.snapshot().copyPlans());
+    }
+
+    @Test
+    void shouldResolvePlanAgainAfterRegisteringConverter() {
+        ObjectFactory objectFactory = ObjectFactory.builder().build();
+        Copier<ConversionSource, ConversionDest> copier = objectFactory.copier(ConversionSource.class,
+                ConversionDest.class);
+        ConversionSource source = ConversionSource.builder().locale("pt_BR").build();
+
+        assertThat(copier.copy(source).getLocale()).isNotEqualTo(Locale.CANADA);
+
+        objectFactory.registerConverter(String.class, Locale.class, text -> Locale.CANADA);
+
+        assertThat(copier.copy(source).getLocale()).isEqualTo(Locale.CANADA);
+    }
+
+    @Test
+    void shouldRejectNullSourcesAndClasses() {
+        Copier<Money, MoneyRecord> copier = ObjectFactoryUtil.copier(Money.class, MoneyRecord.class);
+
+        assertThatThrownBy(() -> copier.copy(null)).isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> copier.copyAll((List<Money>) null)).isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> ObjectFactoryUtil.copier(null, MoneyRecord.class))
+                .isInstanceOf(ApiException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.domain.MismatchSource;
+import io.github.gregoryfeijon.object.factory.util.domain.MismatchTarget;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.jfr.BulkCopyEvent;
+import io.github.gregoryfeijon.object.factory.util.jfr.ObjectCopyEvent;
+import io.github.gregoryfeijon.object.factory.util.jfr.PlanCompilationEvent;
+import io.github.gregoryfeijon.object.factory.util.jfr.SerializationFallbackEvent;
+import io.github.gregoryfeijon.object.factory.util.util.TestObjectsFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the Java Flight Recorder events emitted by {@link ObjectFactoryUtil}.
+ */
+class CopyEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldEmitPlanCompilationAndObjectCopyEvents() throws IOException {
+        List<RecordedEvent> events = record(() ->
+                ObjectFactoryUtil.createFromObject(new MismatchTarget(), MismatchSource.class));
+
+        assertThat(eventsNamed(events, PlanCompilationEvent.NAME))
+                .anySatisfy(event -> {
+                    assertThat(event.getClass("sourceClass").getName()).isEqualTo(MismatchTarget.class.getName());
+                    assertThat(event.getClass("destinationClass").getName()).isEqualTo(MismatchSource.class.getName());
+                    assertThat(event.getInt("sourceFieldCount")).isEqualTo(1);
+                });
+        assertThat(eventsNamed(events, ObjectCopyEvent.NAME)).hasSize(1);
+    }
+
+    @Test
+    void shouldEmitBulkCopyEvent() throws IOException {
+        List<PrimitiveFoo> fooList = List.of(new PrimitiveFoo(), new PrimitiveFoo());
+        List<RecordedEvent> events = record(() ->
+                ObjectFactoryUtil.copyAllObjectsFromCollection(fooList, PrimitiveBar.class));
+
+        assertThat(eventsNamed(events, BulkCopyEvent.NAME))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getInt("elementCount")).isEqualTo(2);
+                    assertThat(event.getClass("destinationClass").getName()).isEqualTo(PrimitiveBar.class.getName());
+                });
+        assertThat(eventsNamed(events, ObjectCopyEvent.NAME)).hasSize(2);
+    }
+
+    @Test
+    void shouldEmitSerializationFallbackEventWithSerializedBytes() throws IOException {
+        ObjectFoo foo = TestObjectsFactory.createObjectFoo();
+        List<RecordedEvent> events = record(() -> ObjectFactoryUtil.createFromObject(foo, ObjectBar.class));
+
+        assertThat(eventsNamed(events, SerializationFallbackEvent.NAME))
+                .isNotEmpty()
+                .allSatisfy(event -> assertThat(event.getLong("bytesSerialized")).isPositive());
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws IOException {
+        try (Recording recording = new Recording()) {
+            List.of(PlanCompilationEvent.NAME, ObjectCopyEvent.NAME, BulkCopyEvent.NAME, SerializationFallbackEvent.NAME)
+                    .forEach(name -> recording.enable(name).withThreshold(Duration.ZERO));
+            recording.start();
+            action.run();
+            recording.stop();
+
+            Path file = tempDir.resolve("copy-events.jfr");
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        }
+    }
+
+    private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+    }
+}
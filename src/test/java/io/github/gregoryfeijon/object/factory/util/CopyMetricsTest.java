@@ -0,0 +1,162 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.config.ObjectFactoryAutoConfiguration;
+import io.github.gregoryfeijon.object.factory.util.config.ObjectFactoryMetricsAutoConfiguration;
+import io.github.gregoryfeijon.object.factory.util.domain.BarWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.metrics.CopyMetrics;
+import io.github.gregoryfeijon.object.factory.util.metrics.MicrometerCopyMetrics;
+import io.github.gregoryfeijon.object.factory.util.util.TestObjectsFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MicrometerCopyMetrics} and {@link ObjectFactoryMetricsAutoConfiguration}.
+ */
+class CopyMetricsTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ObjectFactoryMetricsAutoConfiguration.class));
+
+    @AfterEach
+    void resetMetrics() {
+        ObjectFactoryUtil.setMetrics(CopyMetrics.NOOP);
+    }
+
+    @Test
+    void shouldRecordCopyTimerTaggedByClassPair() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ObjectFactoryUtil.setMetrics(new MicrometerCopyMetrics(registry, 10));
+
+        ObjectFactoryUtil.createFromObject(TestObjectsFactory.createPrimitiveFoo(), PrimitiveBar.class);
+        ObjectFactoryUtil.createFromObject(TestObjectsFactory.createPrimitiveFoo(), PrimitiveBar.class);
+
+        assertThat(registry.get("objectfactory.copy")
+                .tag("source", PrimitiveFoo.class.getName())
+                .tag("destination", PrimitiveBar.class.getName())
+                .timer()
+                .count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRecordOnlyTopLevelCopies() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ObjectFactoryUtil.setMetrics(new MicrometerCopyMetrics(registry, 10));
+
+        ObjectFactoryUtil.createFromObject(TestObjectsFactory.createFooWrapper(), BarWrapper.class);
+
+        assertThat(registry.get("objectfactory.copy").timers()).singleElement()
+                .satisfies(timer -> {
+                    assertThat(timer.getId().getTag("source")).isEqualTo(FooWrapper.class.getName());
+                    assertThat(timer.count()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void shouldCollapseClassPairsBeyondTagLimit() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ObjectFactoryUtil.setMetrics(new MicrometerCopyMetrics(registry, 1));
+
+        ObjectFactoryUtil.createFromObject(TestObjectsFactory.createPrimitiveFoo(), PrimitiveBar.class);
+        ObjectFactoryUtil.createFromObject(TestObjectsFactory.createObjectFoo(), ObjectBar.class);
+
+        assertThat(registry.get("objectfactory.copy").timers()).hasSize(2);
+        assertThat(registry.get("objectfactory.copy")
+                .tag("source", "other")
+                .tag("destination", "other")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordPlanCacheLookupsAndStrategies() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ObjectFactoryUtil.setMetrics(new MicrometerCopyMetrics(registry, 10));
+
+        ObjectFactoryUtil.createFromObject(TestObjectsFactory.createObjectFoo(), ObjectBar.class);
+        ObjectFactoryUtil.createFromObject(TestObjectsFactory.createObjectFoo(), ObjectBar.class);
+
+        double hits = registry.get("objectfactory.plan.cache").tag("result", "hit").counter().count();
+        double misses = registry.get("objectfactory.plan.cache").tag("result", "miss").counter().count();
+        assertThat(hits).isGreaterThanOrEqualTo(1);
+        assertThat(hits + misses).isEqualTo(2);
+        assertThat(registry.get("objectfactory.copy.strategy").tag("strategy", "wrapper").counter().count())
+                .isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void shouldRecordBulkCopySize() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ObjectFactoryUtil.setMetrics(new MicrometerCopyMetrics(registry, 10));
+
+        List<PrimitiveFoo> fooList = List.of(new PrimitiveFoo(), new PrimitiveFoo(), new PrimitiveFoo());
+        ObjectFactoryUtil.copyAllObjectsFromCollection(fooList, PrimitiveBar.class);
+
+        assertThat(registry.get("objectfactory.copy.bulk.size").summary().totalAmount()).isEqualTo(3);
+        assertThat(registry.get("objectfactory.copy.bulk").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRegisterMetricsWhenMeterRegistryIsPresent() {
+        contextRunner
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .run(context -> assertThat(context).hasSingleBean(MicrometerCopyMetrics.class));
+    }
+
+    @Test
+    void shouldInstrumentOnlyTheInstalledEngineWhileTheContextIsOpen() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(ObjectFactoryAutoConfiguration.class))
+                .withBean(MeterRegistry.class, () -> registry)
+                .withBean(ObjectFactory.class, () -> ObjectFactory.builder().build())
+                .run(context -> {
+                    ObjectFactoryUtil.createFromObject(TestObjectsFactory.createPrimitiveFoo(), PrimitiveBar.class);
+
+                    assertThat(registry.get("objectfactory.copy").timer().count()).isEqualTo(1);
+                });
+
+        ObjectFactoryUtil.createFromObject(TestObjectsFactory.createPrimitiveFoo(), PrimitiveBar.class);
+
+        assertThat(registry.get("objectfactory.copy").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBackOffWhenApplicationDefinesCopyMetrics() {
+        CopyMetrics applicationMetrics = new CopyMetrics() {
+        };
+        contextRunner
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withBean(CopyMetrics.class, () -> applicationMetrics)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(MicrometerCopyMetrics.class);
+                    assertThat(context.getBean(CopyMetrics.class)).isSameAs(applicationMetrics);
+                });
+    }
+
+    @Test
+    void shouldNotRegisterMetricsWithoutMeterRegistry() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(MicrometerCopyMetrics.class));
+    }
+
+    @Test
+    void shouldNotRegisterMetricsWhenDisabled() {
+        contextRunner
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withPropertyValues("object-factory.metrics.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(MicrometerCopyMetrics.class));
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.domain.BarWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.ExclusionReason;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyOptions;
+import io.github.gregoryfeijon.object.factory.util.domain.model.FieldExplanation;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.util.TestObjectsFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the per-copy {@link CopyOptions} and the fluent copy API.
+ */
+class CopyOptionsTest {
+
+    @Test
+    void shouldCopyOnlyProjectedRootFields() {
+        ObjectFactory objectFactory = ObjectFactory.builder().build();
+        FooWrapper source = TestObjectsFactory.createFooWrapper();
+        CopyOptions options = CopyOptions.builder().include("primitiveBar").include("objectBarMap").build();
+
+        BarWrapper projected = objectFactory.copy(source).to(BarWrapper.class).with(options).create();
+        BarWrapper full = objectFactory.copy(source).to(BarWrapper.class).create();
+
+        assertThat(projected.getPrimitiveBar().getLongValue()).isEqualTo(source.getPrimitiveFoo().getLongValue());
+        assertThat(projected.getObjectBarMap()).containsOnlyKeys("key");
+        assertThat(projected.getObjectBarMap().get("key").getBdValue()).isNotNull();
+        assertThat(projected.getObjectBar()).isNull();
+        assertThat(projected.getPrimitiveBarList()).isNull();
+        assertThat(full.getObjectBar()).isNotNull();
+        assertThat(full.getPrimitiveBarList()).hasSize(1);
+    }
+
+    @Test
+    void shouldKeepDestinationValuesWhenIgnoringNulls() {
+        ObjectFoo source = ObjectFoo.builder().integerValue(5).build();
+        ObjectBar dest = TestObjectsFactory.createObjectBar();
+
+        ObjectFactoryUtil.copy(source).with(CopyOptions.builder().ignoreNulls(true).build()).into(dest);
+
+        assertThat(dest.getIntegerValue()).isEqualTo(5);
+        assertThat(dest.getStringValue()).isEqualTo("foo");
+    }
+
+    @Test
+    void shouldLimitDepthPerCopy() {
+        FooWrapper source = TestObjectsFactory.createFooWrapper();
+
+        BarWrapper copy = ObjectFactoryUtil.copy(source)
+                .to(BarWrapper.class)
+                .with(CopyOptions.builder().maxDepth(0).sequential(true).build())
+                .create();
+
+        assertThat(copy.getPrimitiveBar()).isNull();
+        assertThat(copy.getPrimitiveBarList()).isNull();
+        assertThat(copy.getObjectBarMap()).isNull();
+    }
+
+    @Test
+    void shouldFailInsteadOfFallingBackToJson() {
+        FooWrapper source = TestObjectsFactory.createFooWrapper();
+        CopyOptions options = CopyOptions.builder().failOnJsonFallback(true).build();
+
+        assertThatThrownBy(() -> ObjectFactoryUtil.copy(source).to(BarWrapper.class).with(options).create())
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("JSON fallback");
+    }
+
+    @Test
+    void shouldTreatEqualOptionsAsTheSameKey() {
+        CopyOptions first = CopyOptions.builder().exclude("objectBar").sequential(true).build();
+        CopyOptions second = CopyOptions.builder().sequential(true).exclude("objectBar").build();
+
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+        assertThat(first.nested()).isEqualTo(CopyOptions.builder().sequential(true).build());
+        assertThat(CopyOptions.builder().build()).isEqualTo(CopyOptions.DEFAULT);
+    }
+
+    @Test
+    void shouldExplainProjectedFields() {
+        CopyOptions options = CopyOptions.builder().exclude("objectBar").build();
+
+        assertThat(ObjectFactoryUtil.getDefault().explain(FooWrapper.class, BarWrapper.class, options).fields())
+                .filteredOn(field -> "objectbar".equals(field.key()))
+                .extracting(FieldExplanation::exclusion)
+                .containsExactly(ExclusionReason.PROJECTION);
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.config.ObjectFactoryAutoConfiguration;
+import io.github.gregoryfeijon.object.factory.util.domain.Money;
+import io.github.gregoryfeijon.object.factory.util.domain.PriceHolder;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.strategy.CopyStrategy;
+import io.github.gregoryfeijon.object.factory.util.strategy.CopyStrategyRegistry;
+import io.github.gregoryfeijon.object.factory.util.strategy.MoneyCopyStrategy;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link CopyStrategy} discovery, precedence and dispatch.
+ */
+class CopyStrategyTest {
+
+    @Test
+    void shouldCopyWithStrategyDiscoveredThroughServiceLoader() {
+        PriceHolder source = PriceHolder.builder()
+                .label("book")
+                .price(new Money(new BigDecimal("10.50"), "EUR"))
+                .build();
+        int copiesBefore = MoneyCopyStrategy.COPIES.get();
+
+        PriceHolder copy = ObjectFactoryUtil.createFromObject(source, PriceHolder.class);
+
+        assertThat(MoneyCopyStrategy.COPIES.get()).isEqualTo(copiesBefore + 1);
+        assertThat(copy.getLabel()).isEqualTo("book");
+        assertThat(copy.getPrice()).isNotSameAs(source.getPrice());
+        assertThat(copy.getPrice().getAmount()).isEqualByComparingTo("10.50");
+        assertThat(copy.getPrice().getCurrencyCode()).isEqualTo("EUR");
+    }
+
+    @Test
+    void shouldSkipStrategyForNullValues() {
+        int copiesBefore = MoneyCopyStrategy.COPIES.get();
+
+        PriceHolder copy = ObjectFactoryUtil.createFromObject(PriceHolder.builder().label("free").build(), PriceHolder.class);
+
+        assertThat(copy.getPrice()).isNull();
+        assertThat(MoneyCopyStrategy.COPIES.get()).isEqualTo(copiesBefore);
+    }
+
+    @Test
+    void shouldRegisterStrategyBeansThroughAutoConfiguration() {
+        CurrencyCopyStrategy currencyStrategy = new CurrencyCopyStrategy();
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ObjectFactoryAutoConfiguration.class))
+                .withBean(CurrencyCopyStrategy.class, () -> currencyStrategy)
+                .run(context -> {
+                    PriceHolder source = PriceHolder.builder().currency(Currency.getInstance("BRL")).build();
+
+                    PriceHolder copy = ObjectFactoryUtil.createFromObject(source, PriceHolder.class);
+
+                    assertThat(copy.getCurrency()).isSameAs(source.getCurrency());
+                    assertThat(currencyStrategy.copies.get()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void shouldResolveStrategyWithHighestPrecedence() {
+        CopyStrategyRegistry registry = new CopyStrategyRegistry();
+        CopyStrategy fallback = new LowPrecedenceStrategy();
+        CopyStrategy preferred = new HighPrecedenceStrategy();
+
+        registry.register(fallback);
+        assertThat(registry.resolve(String.class)).isSameAs(fallback);
+
+        registry.register(preferred);
+        assertThat(registry.resolve(String.class)).isSameAs(preferred);
+        assertThat(registry.resolve(Integer.class)).isNull();
+        assertThat(registry.register(new HighPrecedenceStrategy())).isFalse();
+    }
+
+    @Test
+    void shouldReplaceServiceLoadedStrategyWithRegisteredInstance() {
+        CopyStrategyRegistry registry = CopyStrategyRegistry.fromServiceLoader(getClass().getClassLoader());
+        CopyStrategy serviceLoaded = registry.resolve(Money.class);
+        MoneyCopyStrategy registered = new MoneyCopyStrategy();
+
+        assertThat(serviceLoaded).isInstanceOf(MoneyCopyStrategy.class);
+        assertThat(registry.register(registered)).isTrue();
+        assertThat(registry.resolve(Money.class)).isSameAs(registered);
+        assertThat(registry.getStrategies()).filteredOn(MoneyCopyStrategy.class::isInstance).containsExactly(registered);
+        assertThat(registry.register(new MoneyCopyStrategy())).isFalse();
+    }
+
+    @Test
+    void shouldRejectNullStrategy() {
+        assertThatThrownBy(() -> ObjectFactoryUtil.registerCopyStrategy(null))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("copy strategy is null");
+    }
+
+    static class CurrencyCopyStrategy implements CopyStrategy {
+
+        private final AtomicInteger copies = new AtomicInteger();
+
+        @Override
+        public boolean supports(Class<?> type) {
+            return Currency.class.equals(type);
+        }
+
+        @Override
+        public Object copy(Object sourceValue, Class<?> targetType) {
+            copies.incrementAndGet();
+            return sourceValue;
+        }
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    static class LowPrecedenceStrategy implements CopyStrategy {
+
+        @Override
+        public boolean supports(Class<?> type) {
+            return CharSequence.class.isAssignableFrom(type);
+        }
+
+        @Override
+        public Object copy(Object sourceValue, Class<?> targetType) {
+            return sourceValue;
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    static class HighPrecedenceStrategy implements CopyStrategy {
+
+        @Override
+        public boolean supports(Class<?> type) {
+            return String.class.equals(type);
+        }
+
+        @Override
+        public Object copy(Object sourceValue, Class<?> targetType) {
+            return sourceValue;
+        }
+    }
+}
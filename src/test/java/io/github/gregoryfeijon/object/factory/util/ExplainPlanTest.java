@@ -0,0 +1,84 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.domain.BarWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.ExclusionReason;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.TransferStrategy;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyPlanExplanation;
+import io.github.gregoryfeijon.object.factory.util.domain.model.FieldExplanation;
+import io.github.gregoryfeijon.object.factory.util.util.TestObjectsFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the explanation of copy plans.
+ */
+class ExplainPlanTest {
+
+    @Test
+    void shouldExplainPrimitiveFields() {
+        CopyPlanExplanation explanation = ObjectFactoryUtil.explain(PrimitiveFoo.class, PrimitiveBar.class);
+
+        assertThat(explanation.fields())
+                .extracting(FieldExplanation::strategy)
+                .containsOnly(TransferStrategy.PRIMITIVE);
+        assertThat(explanation.estimatedCost()).isEqualTo(3);
+        assertThat(byKey(explanation).get("intvalue").destField().getName()).isEqualTo("iVal");
+    }
+
+    @Test
+    void shouldResolveFieldCopyNameKeys() {
+        CopyPlanExplanation explanation = ObjectFactoryUtil.explain(ObjectFoo.class, ObjectBar.class);
+
+        FieldExplanation bigDecimal = byKey(explanation).get("bigdecimalvalue");
+        assertThat(bigDecimal.sourceField().getName()).isEqualTo("bigDecimalValue");
+        assertThat(bigDecimal.destField().getName()).isEqualTo("bdValue");
+        assertThat(bigDecimal.strategy()).isEqualTo(TransferStrategy.WRAPPER);
+    }
+
+    @Test
+    void shouldReportExclusionReasonsAndJsonFallbacks() {
+        CopyPlanExplanation explanation = ObjectFactoryUtil.explain(FooWrapper.class, BarWrapper.class);
+        Map<String, FieldExplanation> fields = byKey(explanation);
+
+        assertThat(fields.get("fieldexcluded").exclusion()).isEqualTo(ExclusionReason.OBJECT_CONSTRUCTOR);
+        assertThat(fields.get("fieldexcludedwithannotation").exclusion()).isEqualTo(ExclusionReason.OBJECT_COPY_EXCLUDE);
+        assertThat(fields.get("fieldexcludedwithannotationindest").exclusion())
+                .isEqualTo(ExclusionReason.OBJECT_COPY_EXCLUDE);
+        assertThat(fields.get("alternativename").exclusion()).isEqualTo(ExclusionReason.OBJECT_COPY_EXCLUSIONS);
+        assertThat(fields.get("primitivebarlist").strategy()).isEqualTo(TransferStrategy.COLLECTION_MAP);
+        assertThat(explanation.fieldsUsing(TransferStrategy.JSON_FALLBACK))
+                .extracting(FieldExplanation::key)
+                .containsExactlyInAnyOrder("primitivebar", "objectbar");
+        assertThat(explanation.toString()).contains("json_fallback", "excluded: object_constructor");
+    }
+
+    @Test
+    void shouldExplainClassPairsAlreadyCopied() {
+        ObjectFactory objectFactory = ObjectFactory.builder().build();
+        objectFactory.createFromObject(TestObjectsFactory.createFooWrapper(), BarWrapper.class);
+
+        CopyPlanExplanation explanation = objectFactory.explain(FooWrapper.class, BarWrapper.class);
+
+        assertThat(explanation.fields())
+                .filteredOn(FieldExplanation::isCopied)
+                .extracting(FieldExplanation::key)
+                .containsExactlyInAnyOrder("primitivebar", "objectbar", "primitivebarlist", "objectbarmap");
+    }
+
+    private static Map<String, FieldExplanation> byKey(CopyPlanExplanation explanation) {
+        return explanation.fields().stream()
+                .collect(Collectors.toMap(FieldExplanation::key, Function.identity()));
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.domain.BarWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.strategy.CopyStrategy;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the fork/join copy of large object graphs.
+ */
+class ForkJoinCopyTest {
+
+    private static final int SIZE = 2_000;
+
+    @Test
+    void shouldCopyLargeAggregateKeepingOrder() {
+        ObjectFactory objectFactory = ObjectFactory.builder().forkThreshold(64).build();
+        FooWrapper source = createLargeFooWrapper();
+
+        BarWrapper copy = objectFactory.createFromObject(source, BarWrapper.class);
+
+        assertThat(copy.getPrimitiveBarList())
+                .extracting(PrimitiveBar::getIVal)
+                .containsExactlyElementsOf(IntStream.range(0, SIZE).boxed().toList());
+        assertThat(copy.getObjectBarMap().keySet())
+                .containsExactlyElementsOf(source.getObjectFooMap().keySet());
+        assertThat(copy.getObjectBarMap().get("key-42"))
+                .extracting(ObjectBar::getIntegerValue, ObjectBar::getStringValue)
+                .containsExactly(42, "value-42");
+    }
+
+    @Test
+    void shouldProduceSameCopyAsSequentialEngine() {
+        ObjectFactory forking = ObjectFactory.builder().forkThreshold(16).build();
+        ObjectFactory sequential = ObjectFactory.builder().build();
+        FooWrapper source = createLargeFooWrapper();
+
+        FooWrapper forked = forking.createFromObject(source);
+        FooWrapper expected = sequential.createFromObject(source);
+
+        assertThat(forked.getPrimitiveFooList()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(expected.getPrimitiveFooList());
+        assertThat(forked.getObjectFooMap()).usingRecursiveComparison().isEqualTo(expected.getObjectFooMap());
+        assertThat(forked.getPrimitiveFooList().getFirst()).isNotSameAs(source.getPrimitiveFooList().getFirst());
+        assertThat(forked.getObjectFooMap().get("key-0")).isNotSameAs(source.getObjectFooMap().get("key-0"));
+    }
+
+    @Test
+    void shouldSplitCopyAcrossForkJoinWorkers() {
+        FooWrapper source = createLargeFooWrapper();
+        FooWrapper copy;
+        WorkerRecordingStrategy strategy;
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            ObjectFactory objectFactory = ObjectFactory.builder().forkThreshold(64).executor(pool).build();
+            strategy = new WorkerRecordingStrategy(pool);
+            objectFactory.registerCopyStrategy(strategy);
+
+            copy = objectFactory.createFromObject(source);
+        }
+
+        assertThat(strategy.workers).hasSizeGreaterThan(1);
+        assertThat(copy.getObjectFooMap().get("key-42").getBigDecimalValue()).isEqualByComparingTo("42");
+    }
+
+    private static FooWrapper createLargeFooWrapper() {
+        List<PrimitiveFoo> list = new ArrayList<>();
+        Map<String, ObjectFoo> map = new LinkedHashMap<>();
+        for (int i = 0; i < SIZE; i++) {
+            list.add(PrimitiveFoo.builder().intValue(i).longValue(i * 10L).boolValue(i % 2 == 0).build());
+            map.put("key-" + i, ObjectFoo.builder()
+                    .integerValue(i)
+                    .stringValue("value-" + i)
+                    .bigDecimalValue(BigDecimal.valueOf(i))
+                    .build());
+        }
+        return FooWrapper.builder()
+                .primitiveFooList(list)
+                .objectFooMap(map)
+                .build();
+    }
+
+    /**
+     * Strategy sharing {@link BigDecimal} values, recording the names of the workers of a
+     * fork/join pool that copy them.
+     */
+    private static final class WorkerRecordingStrategy implements CopyStrategy {
+
+        private final ForkJoinPool pool;
+        private final Set<String> workers = ConcurrentHashMap.newKeySet();
+
+        private WorkerRecordingStrategy(ForkJoinPool pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public boolean supports(Class<?> type) {
+            return type == BigDecimal.class;
+        }
+
+        @Override
+        public Object copy(Object sourceValue, Class<?> targetType) {
+            if (Thread.currentThread() instanceof ForkJoinWorkerThread worker && worker.getPool() == pool) {
+                workers.add(worker.getName());
+            }
+            // long enough for idle workers to steal the pending ranges
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            return sourceValue;
+        }
+    }
+}
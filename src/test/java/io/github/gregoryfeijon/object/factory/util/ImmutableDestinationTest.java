@@ -0,0 +1,73 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.domain.Money;
+import io.github.gregoryfeijon.object.factory.util.domain.MoneyLabel;
+import io.github.gregoryfeijon.object.factory.util.domain.MoneyRecord;
+import io.github.gregoryfeijon.object.factory.util.domain.MoneyValue;
+import io.github.gregoryfeijon.object.factory.util.domain.MoneyView;
+import io.github.gregoryfeijon.object.factory.util.domain.Portfolio;
+import io.github.gregoryfeijon.object.factory.util.domain.Position;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectCreator;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for destinations created through records, all-args constructors and {@link ObjectCreator}.
+ */
+class ImmutableDestinationTest {
+
+    private static final Money MONEY = new Money(new BigDecimal("10.50"), "BRL");
+
+    @Test
+    void shouldCreateRecordThroughCanonicalConstructor() {
+        MoneyRecord copy = ObjectFactoryUtil.createFromObject(MONEY, MoneyRecord.class);
+
+        assertThat(copy).isEqualTo(new MoneyRecord(new BigDecimal("10.50"), "BRL"));
+        assertThat(ObjectFactoryUtil.createFromObject(copy)).isEqualTo(copy).isNotSameAs(copy);
+    }
+
+    @Test
+    void shouldCreateValueClassThroughAllArgsConstructor() {
+        MoneyValue copy = ObjectFactoryUtil.createFromObject(MONEY, MoneyValue.class);
+
+        assertThat(copy).isEqualTo(new MoneyValue(new BigDecimal("10.50"), "BRL"));
+    }
+
+    @Test
+    void shouldMatchAnnotatedConstructorParametersByName() {
+        MoneyView copy = ObjectFactoryUtil.createFromObject(MONEY, MoneyView.class);
+
+        assertThat(copy.isCreated()).isTrue();
+        assertThat(copy.getAmount()).isEqualByComparingTo("10.50");
+        assertThat(copy.getCurrencyCode()).isEqualTo("BRL");
+    }
+
+    @Test
+    void shouldCreateThroughAnnotatedBuilderKeepingDefaults() {
+        MoneyLabel copy = ObjectFactoryUtil.createFromObject(MONEY, MoneyLabel.class);
+
+        assertThat(copy.getAmount()).isEqualByComparingTo("10.50");
+        assertThat(copy.getCurrencyCode()).isEqualTo("BRL");
+        assertThat(copy.getLabel()).isEqualTo("price");
+    }
+
+    @Test
+    void shouldCopyRecordElementsNatively() {
+        Portfolio source = new Portfolio("owner", List.of(
+                new Position(new MoneyRecord(BigDecimal.ONE, "USD"), new ArrayList<>(List.of("cash"))),
+                new Position(new MoneyRecord(BigDecimal.TEN, "EUR"), new ArrayList<>())));
+
+        Portfolio copy = ObjectFactoryUtil.createFromObject(source);
+
+        assertThat(copy).isEqualTo(source);
+        assertThat(copy.positions()).isNotSameAs(source.positions());
+        assertThat(copy.positions().getFirst()).isNotSameAs(source.positions().getFirst());
+        assertThat(copy.positions().getFirst().tags()).isNotSameAs(source.positions().getFirst().tags());
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.domain.Address;
+import io.github.gregoryfeijon.object.factory.util.domain.AuditStamp;
+import io.github.gregoryfeijon.object.factory.util.domain.CountryCode;
+import io.github.gregoryfeijon.object.factory.util.domain.DeliveryWindow;
+import io.github.gregoryfeijon.object.factory.util.domain.Money;
+import io.github.gregoryfeijon.object.factory.util.domain.MoneyRecord;
+import io.github.gregoryfeijon.object.factory.util.domain.Shipment;
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectImmutable;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for sharing deeply immutable objects by reference, see {@link ObjectImmutable}.
+ */
+class ImmutableSharingTest {
+
+    @Test
+    void shouldShareDeeplyImmutableObjects() {
+        Shipment source = createShipment();
+
+        Shipment copy = ObjectFactoryUtil.createFromObject(source);
+
+        assertThat(copy.getAddress()).isSameAs(source.getAddress());
+        assertThat(copy.getFreight()).isSameAs(source.getFreight());
+    }
+
+    @Test
+    void shouldShareObjectsWithZoneIdFields() {
+        Shipment source = createShipment();
+
+        Shipment copy = ObjectFactoryUtil.createFromObject(source);
+
+        assertThat(copy.getWindow()).isSameAs(source.getWindow());
+    }
+
+    @Test
+    void shouldCopyMutableAndExplicitlyMutableObjects() {
+        Shipment source = createShipment();
+
+        Shipment copy = ObjectFactoryUtil.createFromObject(source);
+
+        assertThat(copy.getInsurance()).isNotSameAs(source.getInsurance());
+        assertThat(copy.getInsurance().getAmount()).isEqualByComparingTo("5");
+        assertThat(copy.getStamp()).isNotSameAs(source.getStamp()).isEqualTo(source.getStamp());
+    }
+
+    private static Shipment createShipment() {
+        return new Shipment(new Address("Main St", "Lisbon", new CountryCode("PT")),
+                new MoneyRecord(BigDecimal.TEN, "EUR"),
+                new AuditStamp("admin", 1_709_288_130_000L),
+                new Money(new BigDecimal("5"), "EUR"),
+                new DeliveryWindow(LocalTime.of(9, 0), LocalTime.of(18, 0), ZoneId.of("Europe/Lisbon")));
+    }
+}
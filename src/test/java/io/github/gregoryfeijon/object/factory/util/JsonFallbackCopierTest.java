@@ -0,0 +1,64 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.config.ObjectFactoryAutoConfiguration;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.util.TestObjectsFactory;
+import io.github.gregoryfeijon.object.factory.util.util.TestSerializerUtil;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.GsonTreeCopier;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.JacksonTokenBufferCopier;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.JsonFallbackCopier;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the streaming {@link JsonFallbackCopier} implementations.
+ */
+class JsonFallbackCopierTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ObjectFactoryAutoConfiguration.class));
+
+    @Test
+    void shouldCopyThroughJacksonTokenBuffer() {
+        assertStreamedCopy(new JacksonTokenBufferCopier(TestSerializerUtil.getObjectMapper()));
+    }
+
+    @Test
+    void shouldCopyThroughGsonTree() {
+        assertStreamedCopy(new GsonTreeCopier(TestSerializerUtil.getGson()));
+    }
+
+    @Test
+    void shouldSelectCopierFromProperty() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(JsonFallbackCopier.class));
+        contextRunner.withPropertyValues("object-factory.json-fallback=jackson")
+                .run(context -> assertThat(context).hasSingleBean(JacksonTokenBufferCopier.class));
+        contextRunner.withPropertyValues("object-factory.json-fallback=gson")
+                .run(context -> assertThat(context).hasSingleBean(GsonTreeCopier.class));
+    }
+
+    private static void assertStreamedCopy(JsonFallbackCopier copier) {
+        AtomicInteger copies = new AtomicInteger();
+        ObjectFactory objectFactory = ObjectFactory.builder()
+                .jsonFallbackCopier((value, targetType) -> {
+                    copies.incrementAndGet();
+                    return copier.copy(value, targetType);
+                })
+                .build();
+        FooWrapper source = TestObjectsFactory.createFooWrapper();
+
+        FooWrapper copy = objectFactory.createFromObject(source);
+
+        assertThat(copies.get()).isPositive();
+        assertThat(copy.getPrimitiveFoo()).isNotSameAs(source.getPrimitiveFoo());
+        assertThat(copy.getPrimitiveFoo().getIntValue()).isEqualTo(source.getPrimitiveFoo().getIntValue());
+        assertThat(copy.getObjectFoo()).isNotSameAs(source.getObjectFoo());
+        assertThat(copy.getObjectFoo().getBigDecimalValue()).isEqualTo(source.getObjectFoo().getBigDecimalValue());
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.domain.AuditEntry;
+import io.github.gregoryfeijon.object.factory.util.domain.Customer;
+import io.github.gregoryfeijon.object.factory.util.domain.CustomerOrder;
+import io.github.gregoryfeijon.object.factory.util.domain.Invoice;
+import io.github.gregoryfeijon.object.factory.util.domain.Subscription;
+import io.github.gregoryfeijon.object.factory.util.domain.UninitializedCustomerProxy;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.LazyLoadPolicy;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.hibernate.collection.spi.PersistentBag;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@link LazyLoadPolicy} applied to uninitialized Hibernate associations.
+ * <p>
+ * The proxies and persistent collections used here are detached, so any attempt to
+ * initialize them fails with a {@code LazyInitializationException}.
+ * </p>
+ */
+class LazyLoadPolicyTest {
+
+    @AfterEach
+    void resetPolicy() {
+        ObjectFactoryUtil.setLazyLoadPolicy(null);
+    }
+
+    @Test
+    void shouldCopyUninitializedAssociationsAsEmptyByDefault() {
+        CustomerOrder copy = ObjectFactoryUtil.createFromObject(createDetachedOrder(), CustomerOrder.class);
+
+        assertThat(copy.getId()).isEqualTo(1L);
+        assertThat(copy.getCustomer()).isNotNull().isNotInstanceOf(UninitializedCustomerProxy.class);
+        assertThat(copy.getCustomer().getId()).isNull();
+        assertThat(copy.getNotes()).isEmpty();
+        assertThat(copy.getContacts()).isEmpty();
+    }
+
+    @Test
+    void shouldKeepProxyIdentifierWithIdOnlyPolicy() {
+        ObjectFactoryUtil.setLazyLoadPolicy(LazyLoadPolicy.ID_ONLY);
+
+        CustomerOrder copy = ObjectFactoryUtil.createFromObject(createDetachedOrder(), CustomerOrder.class);
+
+        assertThat(copy.getCustomer().getId()).isEqualTo(42L);
+        assertThat(copy.getCustomer().getName()).isNull();
+        assertThat(copy.getNotes()).isEmpty();
+    }
+
+    @Test
+    void shouldCopyUninitializedAssociationsAsNullWithNullPolicy() {
+        ObjectFactoryUtil.setLazyLoadPolicy(LazyLoadPolicy.NULL);
+
+        CustomerOrder copy = ObjectFactoryUtil.createFromObject(createDetachedOrder(), CustomerOrder.class);
+
+        assertThat(copy.getId()).isEqualTo(1L);
+        assertThat(copy.getCustomer()).isNull();
+        assertThat(copy.getNotes()).isNull();
+        assertThat(copy.getContacts()).isNull();
+    }
+
+    @Test
+    void shouldLeaveDestinationUntouchedWithSkipPolicy() {
+        ObjectFactoryUtil.setLazyLoadPolicy(LazyLoadPolicy.SKIP);
+        Customer existingCustomer = new Customer(7L, "existing");
+        CustomerOrder dest = CustomerOrder.builder()
+                .customer(existingCustomer)
+                .notes(new ArrayList<>(List.of("kept")))
+                .build();
+
+        ObjectFactoryUtil.createFromObject(createDetachedOrder(), dest);
+
+        assertThat(dest.getId()).isEqualTo(1L);
+        assertThat(dest.getCustomer()).isSameAs(existingCustomer);
+        assertThat(dest.getNotes()).containsExactly("kept");
+    }
+
+    @Test
+    void shouldResolveUninitializedProxiesInsideLoadedCollections() {
+        ObjectFactoryUtil.setLazyLoadPolicy(LazyLoadPolicy.ID_ONLY);
+        CustomerOrder source = CustomerOrder.builder()
+                .id(2L)
+                .contacts(new ArrayList<>(List.of(new Customer(1L, "loaded"), new UninitializedCustomerProxy(3L))))
+                .build();
+
+        CustomerOrder copy = ObjectFactoryUtil.createFromObject(source, CustomerOrder.class);
+
+        assertThat(copy.getContacts()).extracting(Customer::getId).containsExactly(1L, 3L);
+        assertThat(copy.getContacts()).extracting(Customer::getName).containsExactly("loaded", null);
+    }
+
+    @Test
+    void shouldResolveProxiesInsideCollectionsHeldByObjectFields() {
+        ObjectFactoryUtil.setLazyLoadPolicy(LazyLoadPolicy.ID_ONLY);
+        List<Customer> contacts = new ArrayList<>(List.of(new Customer(1L, "loaded"), new UninitializedCustomerProxy(3L)));
+
+        AuditEntry copy = ObjectFactoryUtil.createFromObject(new AuditEntry(4L, contacts), AuditEntry.class);
+
+        assertThat(copy.getPayload()).isInstanceOf(List.class).isNotSameAs(contacts);
+        assertThat((List<?>) copy.getPayload())
+                .hasSize(2)
+                .allSatisfy(contact -> assertThat(contact).isExactlyInstanceOf(Customer.class))
+                .extracting(contact -> ((Customer) contact).getId())
+                .containsExactly(1L, 3L);
+    }
+
+    @Test
+    void shouldResolveUninitializedAssociationsOfInitializedNestedEntities() {
+        ObjectFactoryUtil.setLazyLoadPolicy(LazyLoadPolicy.ID_ONLY);
+        Subscription subscription = new Subscription(5L, new UninitializedCustomerProxy(42L), new PersistentBag<>());
+        Invoice source = new Invoice(3L, subscription);
+
+        Invoice copy = ObjectFactoryUtil.createFromObject(source, Invoice.class);
+
+        assertThat(copy.getSubscription()).isNotSameAs(subscription);
+        assertThat(copy.getSubscription().getId()).isEqualTo(5L);
+        assertThat(copy.getSubscription().getOwner()).isNotInstanceOf(UninitializedCustomerProxy.class);
+        assertThat(copy.getSubscription().getOwner().getId()).isEqualTo(42L);
+        assertThat(copy.getSubscription().getTags()).isEmpty();
+    }
+
+    private static CustomerOrder createDetachedOrder() {
+        return CustomerOrder.builder()
+                .id(1L)
+                .customer(new UninitializedCustomerProxy(42L))
+                .notes(new PersistentBag<>())
+                .contacts(new PersistentBag<>())
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.domain.OrderLine;
+import io.github.gregoryfeijon.object.factory.util.domain.OrderLineDto;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the bulk copy of map values and entries.
+ */
+class MapCopyTest {
+
+    @Test
+    void shouldCopyValuesKeepingKeysAndOrder() {
+        Map<String, OrderLine> lines = new LinkedHashMap<>();
+        lines.put("c", new OrderLine(3L, "pen", 1));
+        lines.put("a", new OrderLine(1L, "book", 2));
+        lines.put("b", null);
+
+        Map<String, OrderLineDto> copies = ObjectFactoryUtil.copyAllValuesFromMap(lines, OrderLineDto.class);
+
+        assertThat(copies).isInstanceOf(LinkedHashMap.class).containsOnlyKeys("c", "a", "b");
+        assertThat(copies.keySet()).containsExactly("c", "a", "b");
+        assertThat(copies.get("c").getId()).isEqualTo(3);
+        assertThat(copies.get("a").getProduct()).isEqualTo("book");
+        assertThat(copies.get("b")).isNull();
+    }
+
+    @Test
+    void shouldKeepComparatorOfSortedMaps() {
+        Map<Long, OrderLine> lines = new TreeMap<>(Comparator.reverseOrder());
+        lines.put(1L, new OrderLine(1L, "book", 2));
+        lines.put(2L, new OrderLine(2L, "pen", 1));
+
+        Map<Long, OrderLineDto> copies = ObjectFactoryUtil.copyAllValuesFromMap(lines, OrderLineDto.class);
+
+        assertThat(copies).isInstanceOf(TreeMap.class);
+        assertThat(copies.keySet()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void shouldCopyValuesIntoSuppliedMap() {
+        Map<Long, OrderLine> lines = new HashMap<>(Map.of(1L, new OrderLine(1L, "book", 2)));
+
+        ConcurrentHashMap<Long, OrderLineDto> copies = ObjectFactoryUtil.copyAllValuesFromMap(lines,
+                ConcurrentHashMap::new, OrderLineDto.class);
+
+        assertThat(copies.get(1L).getQuantity()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCopyKeysAndValues() {
+        OrderLine key = new OrderLine(1L, "book", 2);
+        Map<OrderLine, OrderLine> lines = Map.of(key, new OrderLine(2L, "pen", 1));
+
+        Map<OrderLineDto, OrderLine> copies = ObjectFactoryUtil.copyAllEntriesFromMap(lines, OrderLineDto.class,
+                OrderLine.class);
+
+        OrderLineDto copiedKey = copies.keySet().iterator().next();
+        assertThat(copiedKey.getProduct()).isEqualTo("book");
+        assertThat(copies.get(copiedKey)).isNotSameAs(lines.get(key));
+        assertThat(copies.get(copiedKey).getProduct()).isEqualTo("pen");
+    }
+
+    @Test
+    void shouldCopyLargeMapsInParallelKeepingOrder() {
+        ObjectFactory objectFactory = ObjectFactory.builder()
+                .bulkParallelThreshold(2)
+                .parallelism(2)
+                .executor(Runnable::run)
+                .build();
+        Map<Integer, OrderLine> lines = new LinkedHashMap<>();
+        for (int index = 100; index > 0; index--) {
+            lines.put(index, new OrderLine((long) index, "item" + index, index));
+        }
+
+        Map<Integer, OrderLineDto> copies = objectFactory.copyAllValuesFromMap(lines, OrderLineDto.class);
+
+        assertThat(copies.keySet()).containsExactlyElementsOf(lines.keySet());
+        assertThat(copies.get(42).getProduct()).isEqualTo("item42");
+    }
+
+    @Test
+    void shouldRejectEmptyMaps() {
+        Map<String, OrderLine> empty = Map.of();
+
+        assertThatThrownBy(() -> ObjectFactoryUtil.copyAllValuesFromMap(empty, OrderLineDto.class))
+                .isInstanceOf(ApiException.class);
+    }
+}
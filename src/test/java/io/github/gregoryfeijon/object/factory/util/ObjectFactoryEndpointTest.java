@@ -0,0 +1,70 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.domain.BarWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectFoo;
+import io.github.gregoryfeijon.object.factory.util.metrics.ObjectFactoryEndpoint;
+import io.github.gregoryfeijon.object.factory.util.metrics.ObjectFactoryEndpoint.CopyPlanDescriptor;
+import io.github.gregoryfeijon.object.factory.util.metrics.ObjectFactoryEndpoint.ObjectFactoryDescriptor;
+import io.github.gregoryfeijon.object.factory.util.metrics.SlowPathDetector;
+import io.github.gregoryfeijon.object.factory.util.util.TestObjectsFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the Actuator endpoint of the copy engine.
+ */
+class ObjectFactoryEndpointTest {
+
+    @Test
+    void shouldDescribeCachedPlansAndFallbacks() {
+        SlowPathDetector detector = SlowPathDetector.builder().sampleRate(1.0).logInterval(Duration.ZERO).build();
+        ObjectFactory objectFactory = ObjectFactory.builder().slowPathDetector(detector).build();
+        ObjectFactoryEndpoint endpoint = new ObjectFactoryEndpoint(objectFactory);
+        FooWrapper source = TestObjectsFactory.createFooWrapper();
+
+        objectFactory.createFromObject(source, BarWrapper.class);
+        objectFactory.createFromObject(source, BarWrapper.class);
+        ObjectFactoryDescriptor descriptor = endpoint.objectFactory();
+
+        assertThat(descriptor.copyPlans())
+                .filteredOn(plan -> plan.source().equals(FooWrapper.class.getName()))
+                .singleElement()
+                .satisfies(plan -> {
+                    assertThat(plan.destination()).isEqualTo(BarWrapper.class.getName());
+                    assertThat(plan.options()).isNull();
+                    assertThat(plan.fallbackFields()).contains("primitiveFoo", "objectFoo");
+                });
+        assertThat(descriptor.fallbackPairs())
+                .contains(FooWrapper.class.getName() + " -> " + BarWrapper.class.getName());
+        assertThat(descriptor.copyPlanCache().hits()).isPositive();
+        assertThat(descriptor.copyPlanCache().misses()).isPositive();
+        assertThat(descriptor.planCompilations()).isEqualTo(descriptor.copyPlanCache().size());
+        assertThat(descriptor.fieldKeyCache().size()).isPositive();
+        assertThat(descriptor.estimatedBytes()).isPositive();
+        assertThat(descriptor.slowestPaths()).isNotEmpty();
+    }
+
+    @Test
+    void shouldEvictSinglePairOrClearCaches() {
+        ObjectFactory objectFactory = ObjectFactory.builder().build();
+        ObjectFactoryEndpoint endpoint = new ObjectFactoryEndpoint(objectFactory);
+        objectFactory.createFromObject(TestObjectsFactory.createFooWrapper(), BarWrapper.class);
+        objectFactory.createFromObject(TestObjectsFactory.createObjectFoo(), ObjectBar.class);
+
+        assertThat(endpoint.evict(ObjectFoo.class.getName(), ObjectBar.class.getName()).evictedPlans()).isEqualTo(1);
+        assertThat(endpoint.objectFactory().copyPlans())
+                .extracting(CopyPlanDescriptor::source)
+                .doesNotContain(ObjectFoo.class.getName())
+                .contains(FooWrapper.class.getName());
+
+        assertThat(endpoint.evict(null, null).evictedPlans()).isPositive();
+        assertThat(endpoint.objectFactory().copyPlans()).isEmpty();
+        assertThat(endpoint.objectFactory().fieldKeyCache().size()).isZero();
+    }
+}
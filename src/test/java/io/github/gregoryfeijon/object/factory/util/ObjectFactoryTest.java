@@ -0,0 +1,159 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.config.ObjectFactoryAutoConfiguration;
+import io.github.gregoryfeijon.object.factory.util.domain.ConversionDest;
+import io.github.gregoryfeijon.object.factory.util.domain.ConversionSource;
+import io.github.gregoryfeijon.object.factory.util.domain.NonSerializableObject;
+import io.github.gregoryfeijon.object.factory.util.domain.ObjectBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.domain.TreeNode;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.metrics.MicrometerCopyMetrics;
+import io.github.gregoryfeijon.object.factory.util.util.TestObjectsFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for independently configured {@link ObjectFactory} instances and their auto-configuration.
+ */
+class ObjectFactoryTest {
+
+    private final AtomicInteger submittedTasks = new AtomicInteger();
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void createExecutor() {
+        executorService = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void shouldLimitNestedCopiesToMaxDepth() {
+        TreeNode root = createTree();
+
+        TreeNode shallow = ObjectFactory.builder().maxDepth(0).build().createFromObject(root);
+        TreeNode oneLevel = ObjectFactory.builder().maxDepth(1).build().createFromObject(root);
+        TreeNode full = ObjectFactory.builder().build().createFromObject(root);
+
+        assertThat(shallow.getName()).isEqualTo("root");
+        assertThat(shallow.getChildren()).isNull();
+        assertThat(oneLevel.getChildren()).extracting(TreeNode::getName).containsExactly("child");
+        assertThat(oneLevel.getChildren().getFirst().getChildren()).isNull();
+        assertThat(full.getChildren().getFirst().getChildren()).extracting(TreeNode::getName)
+                .containsExactly("grandchild");
+        assertThat(full.getChildren().getFirst()).isNotSameAs(root.getChildren().getFirst());
+    }
+
+    @Test
+    void shouldKeepSettingsIndependentBetweenInstances() {
+        ObjectFactory withConverter = ObjectFactory.builder().build();
+        ObjectFactory withoutConverter = ObjectFactory.builder().build();
+        withConverter.registerConverter(String.class, Locale.class, text -> Locale.CANADA);
+        ConversionSource source = ConversionSource.builder().locale("pt_BR").build();
+
+        assertThat(withConverter.createFromObject(source, ConversionDest.class).getLocale()).isEqualTo(Locale.CANADA);
+        assertThat(withoutConverter.createFromObject(source, ConversionDest.class).getLocale()).isNotEqualTo(Locale.CANADA);
+        assertThat(ObjectFactoryUtil.createFromObject(source, ConversionDest.class).getLocale()).isNotEqualTo(Locale.CANADA);
+    }
+
+    @Test
+    void shouldCopyFieldsAndCollectionsThroughExecutor() {
+        ObjectFactory objectFactory = ObjectFactory.builder()
+                .executor(this::countingExecute)
+                .fieldParallelThreshold(1)
+                .bulkParallelThreshold(2)
+                .parallelism(2)
+                .build();
+        List<PrimitiveFoo> foos = List.of(new PrimitiveFoo(1, 10L, true), new PrimitiveFoo(2, 20L, false),
+                new PrimitiveFoo(3, 30L, true));
+
+        List<PrimitiveBar> bars = objectFactory.copyAllObjectsFromCollection(foos, PrimitiveBar.class);
+
+        assertThat(bars).extracting(PrimitiveBar::getIVal).containsExactly(1, 2, 3);
+        assertThat(bars).extracting(PrimitiveBar::getLongValue).containsExactly(10L, 20L, 30L);
+        // one task per chunk; the fields of each element are copied inline by the chunk's thread
+        assertThat(submittedTasks.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRethrowCopyFailuresFromExecutorUnwrapped() {
+        ObjectFactory objectFactory = ObjectFactory.builder()
+                .executor(this::countingExecute)
+                .fieldParallelThreshold(1)
+                .build();
+        NonSerializableObject source = TestObjectsFactory.createNonSerializableObject();
+
+        assertThatThrownBy(() -> objectFactory.createFromObject(source, NonSerializableObject.class))
+                .isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void shouldRecompilePlansEvictedFromBoundedCache() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ObjectFactory objectFactory = ObjectFactory.builder()
+                .metrics(new MicrometerCopyMetrics(registry, 10))
+                .maxCopyPlans(1)
+                .build();
+
+        objectFactory.createFromObject(TestObjectsFactory.createPrimitiveFoo(), PrimitiveBar.class);
+        objectFactory.createFromObject(TestObjectsFactory.createObjectFoo(), ObjectBar.class);
+        objectFactory.createFromObject(TestObjectsFactory.createPrimitiveFoo(), PrimitiveBar.class);
+
+        assertThat(registry.get("objectfactory.plan.cache").tag("result", "miss").counter().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void shouldInstallAutoConfiguredInstanceAsDefault() {
+        ObjectFactory previous = ObjectFactoryUtil.getDefault();
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ObjectFactoryAutoConfiguration.class))
+                .withPropertyValues("object-factory.max-depth=0")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ObjectFactory.class);
+                    assertThat(ObjectFactoryUtil.getDefault()).isSameAs(context.getBean(ObjectFactory.class));
+                    assertThat(ObjectFactoryUtil.createFromObject(createTree()).getChildren()).isNull();
+                });
+        assertThat(ObjectFactoryUtil.getDefault()).isSameAs(previous);
+    }
+
+    @Test
+    void shouldRejectNullDefault() {
+        assertThatThrownBy(() -> ObjectFactoryUtil.setDefault(null))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("default object factory is null");
+    }
+
+    private void countingExecute(Runnable task) {
+        submittedTasks.incrementAndGet();
+        executorService.execute(task);
+    }
+
+    private static TreeNode createTree() {
+        TreeNode child = new TreeNode("child");
+        child.getChildren().add(new TreeNode("grandchild"));
+        TreeNode root = new TreeNode("root");
+        root.getChildren().add(child);
+        return root;
+    }
+}
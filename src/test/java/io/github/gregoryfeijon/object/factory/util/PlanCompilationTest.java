@@ -0,0 +1,154 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.domain.Money;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveBar;
+import io.github.gregoryfeijon.object.factory.util.domain.PrimitiveFoo;
+import io.github.gregoryfeijon.object.factory.util.strategy.CopyStrategy;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the compilation of copy plans under concurrent copies.
+ */
+class PlanCompilationTest {
+
+    private static final Money MONEY = new Money(new BigDecimal("10.50"), "BRL");
+
+    @Test
+    void shouldNotBlockOtherClassPairsWhileCompiling() throws Exception {
+        BlockingStrategy strategy = new BlockingStrategy();
+        ObjectFactory objectFactory = ObjectFactory.builder().awaitPendingPlans(false).build();
+        objectFactory.registerCopyStrategy(strategy);
+
+        CompletableFuture<Money> blocked = CompletableFuture.supplyAsync(() -> strategy.blocking(
+                () -> objectFactory.createFromObject(MONEY)));
+        assertThat(strategy.compiling.await(10, TimeUnit.SECONDS)).isTrue();
+
+        PrimitiveBar other = objectFactory.createFromObject(PrimitiveFoo.builder().longValue(7L).build(),
+                PrimitiveBar.class);
+        Money samePair = objectFactory.createFromObject(MONEY);
+
+        assertThat(other.getLongValue()).isEqualTo(7L);
+        assertThat(samePair.getAmount()).isEqualTo(MONEY.getAmount());
+        assertThat(blocked).isNotDone();
+
+        strategy.release.countDown();
+        assertThat(blocked.get(10, TimeUnit.SECONDS).getCurrencyCode()).isEqualTo("BRL");
+    }
+
+    @Test
+    void shouldShareUncachedPlanWithLaterCallersByDefault() throws Exception {
+        BlockingStrategy strategy = new BlockingStrategy();
+        ObjectFactory objectFactory = ObjectFactory.builder().build();
+        objectFactory.registerCopyStrategy(strategy);
+
+        CompletableFuture<Money> blocked = CompletableFuture.supplyAsync(() -> strategy.blocking(
+                () -> objectFactory.createFromObject(MONEY)));
+        assertThat(strategy.compiling.await(10, TimeUnit.SECONDS)).isTrue();
+
+        Money first = objectFactory.createFromObject(MONEY);
+        Money second = objectFactory.createFromObject(MONEY);
+
+        assertThat(first.getAmount()).isEqualTo(MONEY.getAmount());
+        assertThat(second.getCurrencyCode()).isEqualTo("BRL");
+        assertThat(objectFactory.snapshot().planCompilations()).isEqualTo(1);
+        assertThat(blocked).isNotDone();
+
+        strategy.release.countDown();
+        assertThat(blocked.get(10, TimeUnit.SECONDS).getCurrencyCode()).isEqualTo("BRL");
+    }
+
+    @Test
+    void shouldCompileEachPlanOnceForConcurrentCallers() throws Exception {
+        BlockingStrategy strategy = new BlockingStrategy();
+        ObjectFactory objectFactory = ObjectFactory.builder().awaitPendingPlans(true).build();
+        objectFactory.registerCopyStrategy(strategy);
+
+        CompletableFuture<Money> compiling = CompletableFuture.supplyAsync(() -> strategy.blocking(
+                () -> objectFactory.createFromObject(MONEY)));
+        assertThat(strategy.compiling.await(10, TimeUnit.SECONDS)).isTrue();
+        AtomicReference<Money> waited = new AtomicReference<>();
+        Thread waiting = new Thread(() -> waited.set(objectFactory.createFromObject(MONEY)));
+        waiting.start();
+        awaitParkedOnPendingPlan(waiting);
+
+        strategy.release.countDown();
+
+        assertThat(compiling.get(10, TimeUnit.SECONDS).getCurrencyCode()).isEqualTo("BRL");
+        waiting.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(waited.get().getCurrencyCode()).isEqualTo("BRL");
+        assertThat(strategy.lookups).hasValue(1);
+    }
+
+    /**
+     * Waits until a thread is parked waiting for a plan compiled by another thread, so it is known
+     * to have missed the cache before the compilation completes.
+     *
+     * @param thread the thread copying the class pair being compiled
+     */
+    private static void awaitParkedOnPendingPlan(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (thread.getState() != Thread.State.WAITING || Arrays.stream(thread.getStackTrace())
+                .noneMatch(frame -> frame.getMethodName().equals("awaitPendingPlan"))) {
+            assertThat(System.nanoTime()).as("thread parked on the pending plan").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * Strategy copying nothing, whose lookups of {@link BigDecimal} fields block the threads
+     * running {@link #blocking(Supplier)} until released.
+     */
+    private static final class BlockingStrategy implements CopyStrategy {
+
+        private final ThreadLocal<Boolean> blockingThread = new ThreadLocal<>();
+        private final CountDownLatch compiling = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        private <T> T blocking(Supplier<T> copy) {
+            blockingThread.set(Boolean.TRUE);
+            try {
+                return copy.get();
+            } finally {
+                blockingThread.remove();
+            }
+        }
+
+        @Override
+        public boolean supports(Class<?> type) {
+            if (type == BigDecimal.class) {
+                lookups.incrementAndGet();
+                if (blockingThread.get() != null) {
+                    compiling.countDown();
+                    awaitRelease();
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Object copy(Object sourceValue, Class<?> targetType) {
+            return sourceValue;
+        }
+
+        private void awaitRelease() {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
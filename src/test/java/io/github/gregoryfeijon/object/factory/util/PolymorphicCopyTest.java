@@ -0,0 +1,77 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.domain.Animal;
+import io.github.gregoryfeijon.object.factory.util.domain.Cat;
+import io.github.gregoryfeijon.object.factory.util.domain.Dog;
+import io.github.gregoryfeijon.object.factory.util.domain.Pet;
+import io.github.gregoryfeijon.object.factory.util.domain.model.InlineTypeCache;
+import io.github.gregoryfeijon.object.factory.util.strategy.CopyStrategy;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for nested objects dispatched on their runtime class.
+ */
+class PolymorphicCopyTest {
+
+    @Test
+    void shouldPreserveRuntimeSubtypeOfAbstractField() {
+        Pet dog = new Pet(new Dog("Rex", true));
+        Pet cat = new Pet(new Cat("Tom", 7));
+
+        Pet dogCopy = ObjectFactoryUtil.createFromObject(dog);
+        Pet catCopy = ObjectFactoryUtil.createFromObject(cat);
+
+        assertThat(dogCopy.getAnimal()).isInstanceOf(Dog.class).isNotSameAs(dog.getAnimal());
+        assertThat(((Dog) dogCopy.getAnimal()).isTrained()).isTrue();
+        assertThat(dogCopy.getAnimal().getName()).isEqualTo("Rex");
+        assertThat(catCopy.getAnimal()).isInstanceOf(Cat.class);
+        assertThat(((Cat) catCopy.getAnimal()).getLives()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldApplyStrategyOfRuntimeClass() {
+        ObjectFactory objectFactory = ObjectFactory.builder().build();
+        objectFactory.registerCopyStrategy(new CopyStrategy() {
+            @Override
+            public boolean supports(Class<?> type) {
+                return Dog.class.equals(type);
+            }
+
+            @Override
+            public Object copy(Object sourceValue, Class<?> targetType) {
+                return new Dog("copied", false);
+            }
+        });
+
+        Pet copy = objectFactory.createFromObject(new Pet(new Dog("Rex", true)));
+
+        assertThat(copy.getAnimal().getName()).isEqualTo("copied");
+    }
+
+    @Test
+    void shouldTurnMegamorphicAfterPolymorphicLimit() {
+        InlineTypeCache<String> cache = new InlineTypeCache<>();
+        AtomicInteger lookups = new AtomicInteger();
+        List<Class<?>> types = List.of(String.class, Integer.class, Long.class, Double.class, Animal.class);
+
+        for (int i = 0; i < 3; i++) {
+            types.subList(0, InlineTypeCache.POLYMORPHIC_LIMIT).forEach(type -> cache.get(type, t -> {
+                lookups.incrementAndGet();
+                return t.getSimpleName();
+            }));
+        }
+        assertThat(lookups.get()).isEqualTo(InlineTypeCache.POLYMORPHIC_LIMIT);
+        assertThat(cache.isMegamorphic()).isFalse();
+
+        assertThat(cache.get(Animal.class, Class::getSimpleName)).isEqualTo("Animal");
+        assertThat(cache.isMegamorphic()).isTrue();
+        assertThat(cache.get(String.class, t -> "lookup")).isEqualTo("lookup");
+    }
+}
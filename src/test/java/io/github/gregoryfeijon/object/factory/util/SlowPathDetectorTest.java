@@ -0,0 +1,72 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.domain.BarWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.FooWrapper;
+import io.github.gregoryfeijon.object.factory.util.domain.enums.SlowPathKind;
+import io.github.gregoryfeijon.object.factory.util.domain.model.SlowPathStats;
+import io.github.gregoryfeijon.object.factory.util.metrics.SlowPathDetector;
+import io.github.gregoryfeijon.object.factory.util.util.TestObjectsFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the detection of copies going through serialization.
+ */
+class SlowPathDetectorTest {
+
+    @Test
+    void shouldTrackJsonFallbackFields() {
+        SlowPathDetector detector = SlowPathDetector.builder().sampleRate(1.0).logInterval(Duration.ZERO).build();
+        ObjectFactory objectFactory = ObjectFactory.builder().slowPathDetector(detector).build();
+        FooWrapper source = TestObjectsFactory.createFooWrapper();
+
+        objectFactory.createFromObject(source, BarWrapper.class);
+        objectFactory.createFromObject(source, BarWrapper.class);
+
+        assertThat(detector.snapshot())
+                .filteredOn(stats -> stats.kind() == SlowPathKind.JSON_FALLBACK)
+                .extracting(SlowPathStats::field)
+                .containsExactlyInAnyOrder("primitiveFoo", "objectFoo");
+        assertThat(detector.snapshot())
+                .filteredOn(stats -> "objectFoo".equals(stats.field()))
+                .singleElement()
+                .satisfies(stats -> {
+                    assertThat(stats.sourceClass()).isEqualTo(FooWrapper.class);
+                    assertThat(stats.destinationClass()).isEqualTo(BarWrapper.class);
+                    assertThat(stats.hits()).isEqualTo(2);
+                    assertThat(stats.estimatedNanos()).isPositive();
+                });
+    }
+
+    @Test
+    void shouldExtrapolateTimeFromSampledHits() {
+        SlowPathDetector detector = SlowPathDetector.builder().logInterval(Duration.ZERO).build();
+
+        detector.record(SlowPathKind.VALUE_CLONE, FooWrapper.class, BarWrapper.class, "field", Long.MIN_VALUE);
+        detector.record(SlowPathKind.VALUE_CLONE, FooWrapper.class, BarWrapper.class, "field", System.nanoTime() - 1_000);
+
+        SlowPathStats stats = detector.snapshot().getFirst();
+        assertThat(stats.hits()).isEqualTo(2);
+        assertThat(stats.estimatedNanos()).isGreaterThanOrEqualTo(2_000);
+    }
+
+    @Test
+    void shouldBoundTrackedSlowPaths() {
+        SlowPathDetector detector = SlowPathDetector.builder().maxEntries(1).logInterval(Duration.ZERO).build();
+
+        detector.record(SlowPathKind.JSON_FALLBACK, FooWrapper.class, BarWrapper.class, "first", detector.start());
+        detector.record(SlowPathKind.JSON_FALLBACK, FooWrapper.class, BarWrapper.class, "second", detector.start());
+
+        assertThat(detector.snapshot()).extracting(SlowPathStats::field).containsExactly("first");
+        assertThat(detector.getDroppedHits()).isEqualTo(1);
+
+        detector.reset();
+
+        assertThat(detector.snapshot()).isEmpty();
+        assertThat(detector.getDroppedHits()).isZero();
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.domain.OrderLine;
+import io.github.gregoryfeijon.object.factory.util.domain.OrderLineDto;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.util.TestSerializerUtil;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.JacksonTokenBufferCopier;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactory;
+import io.github.gregoryfeijon.object.factory.util.utils.spill.DiskBackedList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for bulk copies spilled to disk-backed lists.
+ */
+class SpillCopyTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    void shouldCopyObjectsToDisk() {
+        ObjectFactory objectFactory = ObjectFactory.builder().spillDirectory(spillDirectory).build();
+        List<OrderLine> lines = IntStream.rangeClosed(1, 50)
+                .mapToObj(index -> new OrderLine((long) index, "item" + index, index))
+                .toList();
+
+        try (DiskBackedList<OrderLineDto> copies = objectFactory.copyAllObjectsToDisk(lines, OrderLineDto.class)) {
+            assertThat(copies).hasSize(50);
+            assertThat(copies.get(41).getId()).isEqualTo(42);
+            assertThat(copies).extracting(OrderLineDto::getProduct).last().isEqualTo("item50");
+        }
+    }
+
+    @Test
+    void shouldKeepDecodedCopiesWithinHeapBudget() {
+        ObjectFactory objectFactory = ObjectFactory.builder().spillDirectory(spillDirectory).build();
+        List<OrderLine> lines = List.of(new OrderLine(1L, "book", 2), new OrderLine(2L, "pen", 1));
+
+        try (DiskBackedList<OrderLineDto> cached = objectFactory.copyAllObjectsToDisk(lines, OrderLineDto.class);
+             DiskBackedList<OrderLineDto> uncached = objectFactory.copyAllObjectsToDisk(lines, OrderLineDto.class, 0)) {
+            assertThat(cached.get(0)).isSameAs(cached.get(0));
+            assertThat(uncached.get(0)).isNotSameAs(uncached.get(0));
+            assertThat(uncached.get(1).getProduct()).isEqualTo("pen");
+        }
+    }
+
+    @Test
+    void shouldSpillThroughJsonFallbackCopier() {
+        ObjectFactory objectFactory = ObjectFactory.builder()
+                .jsonFallbackCopier(new JacksonTokenBufferCopier(TestSerializerUtil.getObjectMapper()))
+                .spillDirectory(spillDirectory)
+                .build();
+        List<OrderLine> lines = List.of(new OrderLine(1L, "book", 2), new OrderLine(2L, "pen", 1));
+
+        try (DiskBackedList<OrderLineDto> copies = objectFactory.copyAllObjectsToDisk(lines, OrderLineDto.class, 0)) {
+            assertThat(copies).extracting(OrderLineDto::getProduct).containsExactly("book", "pen");
+            assertThat(copies.get(1).getId()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldSplitRecordsIntoSegments() {
+        DiskBackedList.Writer<String> writer = DiskBackedList.writer(spillDirectory,
+                text -> text.getBytes(StandardCharsets.UTF_8), bytes -> new String(bytes, StandardCharsets.UTF_8),
+                0, 16);
+        writer.add("first");
+        writer.add(null);
+        writer.add("a record longer than a segment");
+        writer.add("last");
+
+        try (DiskBackedList<String> list = writer.finish()) {
+            assertThat(list).containsExactly("first", null, "a record longer than a segment", "last");
+        }
+    }
+
+    @Test
+    void shouldDeleteFilesOnClose() throws IOException {
+        ObjectFactory objectFactory = ObjectFactory.builder().spillDirectory(spillDirectory).build();
+        DiskBackedList<OrderLineDto> copies = objectFactory.copyAllObjectsToDisk(
+                List.of(new OrderLine(1L, "book", 2)), OrderLineDto.class);
+
+        copies.close();
+
+        try (var files = Files.list(spillDirectory)) {
+            assertThat(files).isEmpty();
+        }
+        assertThatThrownBy(() -> copies.get(0)).isInstanceOf(ApiException.class);
+    }
+}
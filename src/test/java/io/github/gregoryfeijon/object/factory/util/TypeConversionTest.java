@@ -0,0 +1,153 @@
+package io.github.gregoryfeijon.object.factory.util;
+
+import io.github.gregoryfeijon.object.factory.util.converter.ConverterRegistry;
+import io.github.gregoryfeijon.object.factory.util.domain.ConversionDest;
+import io.github.gregoryfeijon.object.factory.util.domain.ConversionSource;
+import io.github.gregoryfeijon.object.factory.util.domain.TreeNode;
+import io.github.gregoryfeijon.object.factory.util.domain.model.CopyOptions;
+import io.github.gregoryfeijon.object.factory.util.exception.ApiException;
+import io.github.gregoryfeijon.object.factory.util.utils.serialization.ObjectFactoryUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for cross-type field copies resolved through the {@link ConverterRegistry}.
+ */
+class TypeConversionTest {
+
+    @AfterEach
+    void resetConversionService() {
+        ObjectFactoryUtil.setConversionService(null);
+    }
+
+    @Test
+    void shouldWidenAndNarrowNumbers() {
+        ConversionSource source = ConversionSource.builder().count(7).total(42L).ratio(0.25).build();
+
+        ConversionDest dest = ObjectFactoryUtil.createFromObject(source, ConversionDest.class);
+
+        assertThat(dest.getCount()).isEqualTo(7L);
+        assertThat(dest.getTotal()).isEqualTo(42);
+        assertThat(dest.getMissing()).isZero();
+        assertThat(dest.getRatio()).isEqualByComparingTo("0.25");
+    }
+
+    @Test
+    void shouldConvertPrimitiveDefaultsIntoOtherWrapperTypes() {
+        ConversionSource source = ConversionSource.builder().stock(0).build();
+
+        ConversionDest dest = ObjectFactoryUtil.createFromObject(source, ConversionDest.class);
+
+        assertThat(dest.getStock()).isZero();
+        assertThat(dest.getTotal()).isZero();
+    }
+
+    @Test
+    void shouldParseStringsIntoNumbersAndDates() {
+        ConversionSource source = ConversionSource.builder()
+                .amount(" 19.90 ")
+                .createdAt("2024-03-01T10:15:30")
+                .build();
+
+        ConversionDest dest = ObjectFactoryUtil.createFromObject(source, ConversionDest.class);
+
+        assertThat(dest.getAmount()).isEqualByComparingTo(new BigDecimal("19.90"));
+        assertThat(dest.getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 3, 1, 10, 15, 30));
+    }
+
+    @Test
+    void shouldConvertBetweenTemporalTypes() {
+        Instant instant = Instant.parse("2024-03-01T10:15:30Z");
+        ConversionSource source = ConversionSource.builder()
+                .updatedAt(Date.from(instant))
+                .expiresAt(instant)
+                .build();
+
+        ConversionDest dest = ObjectFactoryUtil.createFromObject(source, ConversionDest.class);
+
+        assertThat(dest.getUpdatedAt()).isEqualTo(instant);
+        assertThat(dest.getExpiresAt()).isEqualTo(Date.from(instant));
+    }
+
+    @Test
+    void shouldUseConfiguredZoneForLocalDateTimes() {
+        ConverterRegistry registry = new ConverterRegistry(UnaryOperator.identity(), ZoneOffset.UTC);
+
+        Object converted = registry.resolve(LocalDateTime.class, Instant.class)
+                .convert(LocalDateTime.of(2024, 3, 1, 10, 15, 30));
+
+        assertThat(converted).isEqualTo(Instant.parse("2024-03-01T10:15:30Z"));
+    }
+
+    @Test
+    void shouldConvertCollectionsIntoArrays() {
+        ConversionSource source = ConversionSource.builder()
+                .tags(List.of("a", "b"))
+                .codes(List.of(1, 2, 3))
+                .build();
+
+        ConversionDest dest = ObjectFactoryUtil.createFromObject(source, ConversionDest.class);
+
+        assertThat(dest.getTags()).containsExactly("a", "b");
+        assertThat(dest.getCodes()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void shouldCopyArrayElementsWithTheOptionsOfTheField() {
+        TreeNode root = new TreeNode("root", new ArrayList<>(List.of(new TreeNode("leaf"))));
+        ConversionSource source = ConversionSource.builder().nodes(List.of(root)).build();
+
+        ConversionDest dest = ObjectFactoryUtil.copy(source)
+                .to(ConversionDest.class)
+                .with(CopyOptions.builder().maxDepth(1).build())
+                .create();
+
+        assertThat(dest.getNodes()).singleElement().satisfies(node -> {
+            assertThat(node).isNotSameAs(root);
+            assertThat(node.getName()).isEqualTo("root");
+            assertThat(node.getChildren()).isNull();
+        });
+    }
+
+    @Test
+    void shouldBridgeConversionServiceForUnsupportedTypes() {
+        AtomicInteger conversions = new AtomicInteger();
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(String.class, Locale.class, text -> {
+            conversions.incrementAndGet();
+            return StringUtils.parseLocale(text);
+        });
+        ObjectFactoryUtil.setConversionService(conversionService);
+
+        ConversionDest dest = ObjectFactoryUtil.createFromObject(ConversionSource.builder().locale("pt_BR").build(),
+                ConversionDest.class);
+
+        assertThat(dest.getLocale()).isEqualTo(Locale.of("pt", "BR"));
+        assertThat(conversions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportFailedConversions() {
+        ConversionSource source = ConversionSource.builder().amount("not a number").build();
+
+        assertThatThrownBy(() -> ObjectFactoryUtil.createFromObject(source, ConversionDest.class))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("Failed converting field 'amount'");
+    }
+}
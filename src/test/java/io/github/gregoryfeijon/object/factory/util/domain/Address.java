@@ -0,0 +1,11 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import lombok.Value;
+
+@Value
+public class Address {
+
+    String street;
+    String city;
+    CountryCode country;
+}
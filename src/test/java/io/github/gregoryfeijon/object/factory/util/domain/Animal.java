@@ -0,0 +1,11 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public abstract class Animal {
+
+    private String name;
+}
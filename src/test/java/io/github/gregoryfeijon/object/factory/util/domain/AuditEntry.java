@@ -0,0 +1,16 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEntry {
+
+    private Long id;
+    private Object payload;
+}
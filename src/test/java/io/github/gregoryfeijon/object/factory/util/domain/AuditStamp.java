@@ -0,0 +1,7 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectImmutable;
+
+@ObjectImmutable(false)
+public record AuditStamp(String user, long timestamp) {
+}
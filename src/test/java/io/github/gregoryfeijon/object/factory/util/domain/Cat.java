@@ -0,0 +1,18 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class Cat extends Animal {
+
+    private int lives;
+
+    public Cat(String name, int lives) {
+        setName(name);
+        this.lives = lives;
+    }
+}
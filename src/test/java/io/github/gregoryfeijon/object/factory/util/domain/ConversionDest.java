@@ -0,0 +1,32 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Locale;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ConversionDest {
+
+    private long count;
+    private Integer total;
+    private int missing;
+    private BigDecimal ratio;
+    private Long stock;
+    private BigDecimal amount;
+    private LocalDateTime createdAt;
+    private Instant updatedAt;
+    private Date expiresAt;
+    private Instant reviewedAt;
+    private String[] tags;
+    private int[] codes;
+    private TreeNode[] nodes;
+    private Locale locale;
+}
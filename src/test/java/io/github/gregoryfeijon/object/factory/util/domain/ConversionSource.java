@@ -0,0 +1,35 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConversionSource {
+
+    private Integer count;
+    private long total;
+    private Long missing;
+    private double ratio;
+    private int stock;
+    private String amount;
+    private String createdAt;
+    private Date updatedAt;
+    private Instant expiresAt;
+    private LocalDateTime reviewedAt;
+    private List<String> tags;
+    private List<Integer> codes;
+    private List<TreeNode> nodes;
+    private String locale;
+}
@@ -0,0 +1,15 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectImmutable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ObjectImmutable
+public final class CountryCode {
+
+    private String code;
+}
@@ -0,0 +1,22 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerOrder {
+
+    private Long id;
+    private Customer customer;
+    private List<String> notes;
+    private List<Customer> contacts;
+}
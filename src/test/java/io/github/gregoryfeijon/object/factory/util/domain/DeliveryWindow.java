@@ -0,0 +1,7 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+public record DeliveryWindow(LocalTime opensAt, LocalTime closesAt, ZoneId zone) {
+}
@@ -0,0 +1,18 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class Dog extends Animal {
+
+    private boolean trained;
+
+    public Dog(String name, boolean trained) {
+        setName(name);
+        this.trained = trained;
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Invoice {
+
+    private Long id;
+    private Subscription subscription;
+}
@@ -0,0 +1,18 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Money {
+
+    private BigDecimal amount;
+    private String currencyCode;
+}
@@ -0,0 +1,22 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectCreator;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+@Value
+@Builder
+public class MoneyLabel {
+
+    BigDecimal amount;
+    String currencyCode;
+    @Builder.Default
+    String label = "price";
+
+    @ObjectCreator
+    public static MoneyLabelBuilder builder() {
+        return new MoneyLabelBuilder();
+    }
+}
@@ -0,0 +1,6 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import java.math.BigDecimal;
+
+public record MoneyRecord(BigDecimal amount, String currencyCode) {
+}
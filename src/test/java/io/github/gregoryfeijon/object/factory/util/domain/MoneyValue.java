@@ -0,0 +1,12 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+@Value
+public class MoneyValue {
+
+    BigDecimal amount;
+    String currencyCode;
+}
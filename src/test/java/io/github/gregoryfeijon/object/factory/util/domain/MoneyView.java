@@ -0,0 +1,27 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import io.github.gregoryfeijon.object.factory.util.domain.annotation.ObjectCreator;
+import lombok.Getter;
+
+import java.beans.ConstructorProperties;
+import java.math.BigDecimal;
+
+@Getter
+public class MoneyView {
+
+    private final BigDecimal amount;
+    private final String currencyCode;
+    private final boolean created;
+
+    MoneyView() {
+        this(null, null);
+    }
+
+    @ObjectCreator
+    @ConstructorProperties({"currencyCode", "amount"})
+    public MoneyView(String currencyCode, BigDecimal amount) {
+        this.amount = amount;
+        this.currencyCode = currencyCode;
+        this.created = true;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLine {
+
+    @Id
+    private Long id;
+    private String product;
+    private int quantity;
+}
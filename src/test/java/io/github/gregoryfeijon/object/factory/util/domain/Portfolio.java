@@ -0,0 +1,6 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import java.util.List;
+
+public record Portfolio(String owner, List<Position> positions) {
+}
@@ -0,0 +1,22 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PurchaseOrder {
+
+    @Id
+    private Long id;
+    private String status;
+    private List<OrderLine> lines;
+    private List<String> tags;
+}
@@ -0,0 +1,20 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PurchaseOrderDto {
+
+    private Integer id;
+    private String status;
+    private List<OrderLineDto> lines;
+    private List<String> tags;
+}
@@ -0,0 +1,19 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Shipment {
+
+    private Address address;
+    private MoneyRecord freight;
+    private AuditStamp stamp;
+    private Money insurance;
+    private DeliveryWindow window;
+}
@@ -0,0 +1,21 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Subscription {
+
+    @Id
+    private Long id;
+    private Customer owner;
+    private List<String> tags;
+}
@@ -0,0 +1,23 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TreeNode {
+
+    private String name;
+    private List<TreeNode> children = new ArrayList<>();
+
+    public TreeNode(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.gregoryfeijon.object.factory.util.domain;
+
+import org.hibernate.proxy.AbstractLazyInitializer;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+
+/**
+ * Detached, uninitialized Hibernate proxy of {@link Customer}; initializing it fails like
+ * a real proxy outside a session.
+ */
+public class UninitializedCustomerProxy extends Customer implements HibernateProxy {
+
+    private final transient LazyInitializer lazyInitializer;
+
+    public UninitializedCustomerProxy(Long id) {
+        this.lazyInitializer = new CustomerLazyInitializer(id);
+    }
+
+    @Override
+    public Object writeReplace() {
+        return this;
+    }
+
+    @Override
+    public LazyInitializer getHibernateLazyInitializer() {
+        return lazyInitializer;
+    }
+
+    private static class CustomerLazyInitializer extends AbstractLazyInitializer {
+
+        CustomerLazyInitializer(Long id) {
+            super(Customer.class.getName(), id, null);
+        }
+
+        @Override
+        public Class<?> getPersistentClass() {
+            return Customer.class;
+        }
+
+        @Override
+        public Class<?> getImplementationClass() {
+            return Customer.class;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.gregoryfeijon.object.factory.util.strategy;
+
+import io.github.gregoryfeijon.object.factory.util.domain.Money;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test strategy declared through {@link java.util.ServiceLoader}.
+ */
+public class MoneyCopyStrategy implements CopyStrategy {
+
+    public static final AtomicInteger COPIES = new AtomicInteger();
+
+    @Override
+    public boolean supports(Class<?> type) {
+        return Money.class.equals(type);
+    }
+
+    @Override
+    public Object copy(Object sourceValue, Class<?> targetType) {
+        COPIES.incrementAndGet();
+        Money money = (Money) sourceValue;
+        return new Money(money.getAmount(), money.getCurrencyCode());
+    }
+}